@@ -0,0 +1,71 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.coworking_benchmarks.support.Fixtures;
+import dev.makeev.coworking_benchmarks.support.StubBookingDAO;
+import dev.makeev.coworking_benchmarks.support.StubSpaceDAO;
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+import dev.makeev.coworking_service_app.mappers.BookingMapper;
+import dev.makeev.coworking_service_app.service.BookingService;
+import dev.makeev.coworking_service_app.service.implementation.BookingServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code BookingServiceImpl.addBooking} with the database stubbed out: mapping the request,
+ * validating the range and checking the availability of every day of the range in the occupancy of the space.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingAvailabilityBenchmark {
+
+    private static final String LOGIN = "BenchmarkUser";
+    private static final String SPACE_NAME = "Benchmark space";
+
+    /**
+     * The number of days the space is available for booking.
+     */
+    @Param({"7", "30", "90"})
+    private int numberOfDays;
+
+    /**
+     * The number of days of the booking, starting tomorrow.
+     */
+    @Param({"1", "5"})
+    private int bookingDays;
+
+    private BookingService bookingService;
+    private BookingAddDTO bookingAddDTO;
+
+    @Setup
+    public void setUp() {
+        StubSpaceDAO spaceDAO = new StubSpaceDAO(List.of(Fixtures.space(SPACE_NAME, numberOfDays, bookingDays + 1)));
+        bookingService = new BookingServiceImpl(new StubBookingDAO(), spaceDAO, Mappers.getMapper(BookingMapper.class));
+        LocalDate beginningBookingDate = LocalDate.now().plusDays(1);
+        bookingAddDTO = new BookingAddDTO(SPACE_NAME,
+                beginningBookingDate.toString(), 15,
+                beginningBookingDate.plusDays(bookingDays - 1L).toString(), 17);
+    }
+
+    @Benchmark
+    public void addBooking() {
+        bookingService.addBooking(LOGIN, bookingAddDTO);
+    }
+}
@@ -0,0 +1,51 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.mappers.BookingMapper;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions of {@link BookingMapper} in both directions, including the formatting and parsing of dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMapperBenchmark {
+
+    private static final String LOGIN = "BenchmarkUser";
+    private static final LocalDate DATE = LocalDate.of(2024, 7, 14);
+
+    private final BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
+    private final Booking booking = new Booking(1L, LOGIN, "Benchmark space",
+            new BookingRange(DATE, 10, DATE.plusDays(1), 12));
+    private final BookingAddDTO bookingAddDTO = new BookingAddDTO("Benchmark space",
+            DATE.toString(), 10, DATE.plusDays(1).toString(), 12);
+
+    @Benchmark
+    public BookingDTO toBookingDTO() {
+        return bookingMapper.toBookingDTO(booking);
+    }
+
+    @Benchmark
+    public Booking toBooking() {
+        return bookingMapper.toBooking(LOGIN, bookingAddDTO);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.coworking_benchmarks.support.Fixtures;
+import dev.makeev.coworking_benchmarks.support.LatentBookingDAO;
+import dev.makeev.coworking_benchmarks.support.StubSpaceDAO;
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+import dev.makeev.coworking_service_app.mappers.BookingMapper;
+import dev.makeev.coworking_service_app.service.BookingService;
+import dev.makeev.coworking_service_app.service.implementation.BookingServiceImpl;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares how many bookings are in flight at once when each request holds a platform thread,
+ * bounded like the Tomcat pool of the app, or a virtual thread, as with {@code spring.threads.virtual.enabled}.
+ * <p>
+ * Every iteration submits a burst of concurrent bookings through {@code BookingServiceImpl.addBooking}, with
+ * the database replaced by a fixed blocking delay. The benchmark reports the time to complete the burst
+ * and, as the {@code peakInFlight} counter, the peak number of bookings in flight during the iteration.
+ * Only {@code PLATFORM} threads run by default; the {@code VIRTUAL} mode needs Java 21 or later and is run
+ * with {@code -p threads=PLATFORM,VIRTUAL}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InFlightBookingBenchmark {
+
+    private static final String LOGIN = "BenchmarkUser";
+    private static final String SPACE_NAME = "Benchmark space";
+    private static final int NUMBER_OF_DAYS = 30;
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    /**
+     * The threads serving the bookings, {@code PLATFORM} or {@code VIRTUAL}.
+     */
+    @Param({"PLATFORM"})
+    private String threads;
+
+    /**
+     * The size of the platform thread pool, {@code server.tomcat.threads.max} of the app.
+     */
+    @Param({"200"})
+    private int platformThreads;
+
+    /**
+     * The number of bookings submitted at once.
+     */
+    @Param({"1000", "5000"})
+    private int concurrentBookings;
+
+    /**
+     * How long the database blocks every booking.
+     */
+    @Param({"10"})
+    private long databaseMillis;
+
+    private LatentBookingDAO bookingDAO;
+    private BookingService bookingService;
+    private BookingAddDTO bookingAddDTO;
+    private Executor executor;
+
+    @Setup
+    public void setUp() {
+        if ("VIRTUAL".equals(threads) && Runtime.version().feature() < VIRTUAL_THREADS_JAVA_VERSION) {
+            throw new IllegalStateException("VIRTUAL threads need Java " + VIRTUAL_THREADS_JAVA_VERSION
+                    + " or later, running on Java " + Runtime.version().feature());
+        }
+        bookingDAO = new LatentBookingDAO(databaseMillis);
+        StubSpaceDAO spaceDAO = new StubSpaceDAO(List.of(Fixtures.space(SPACE_NAME, NUMBER_OF_DAYS, NUMBER_OF_DAYS)));
+        bookingService = new BookingServiceImpl(bookingDAO, spaceDAO, Mappers.getMapper(BookingMapper.class));
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+        bookingAddDTO = new BookingAddDTO(SPACE_NAME, tomorrow, 15, tomorrow, 17);
+        executor = "VIRTUAL".equals(threads)
+                ? new VirtualThreadTaskExecutor("booking-")
+                : Executors.newFixedThreadPool(platformThreads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void addBookings(InFlightCounters counters) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(concurrentBookings);
+        for (int i = 0; i < concurrentBookings; i++) {
+            executor.execute(() -> {
+                try {
+                    bookingService.addBooking(LOGIN, bookingAddDTO);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        counters.peakInFlight = Math.max(counters.peakInFlight, bookingDAO.resetPeakInFlight());
+    }
+
+    /**
+     * The peak number of bookings in flight, reported by JMH next to the time of the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class InFlightCounters {
+
+        public long peakInFlight;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakInFlight = 0L;
+        }
+    }
+}
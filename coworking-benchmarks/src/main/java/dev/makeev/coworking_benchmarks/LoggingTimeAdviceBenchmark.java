@@ -0,0 +1,109 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.logging_time_starter.advice.LoggingTimeAdvice;
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import dev.makeev.logging_time_starter.config.LoggingTimeProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link LoggingTimeAdvice} on a trivial method: without a proxy,
+ * through the proxy untimed, timed on every call, sampled, and switched off at runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingTimeAdviceBenchmark {
+
+    private LoggingTimeAdvice loggingTimeAdvice;
+    private Calculator calculator;
+    private Calculator proxiedCalculator;
+    private int value;
+
+    /**
+     * The timed target of the benchmark.
+     */
+    public static class Calculator {
+
+        public int untimed(int value) {
+            return value + 1;
+        }
+
+        @LoggingTime
+        public int timed(int value) {
+            return value + 1;
+        }
+
+        @LoggingTime(sampleRate = 64)
+        public int sampled(int value) {
+            return value + 1;
+        }
+
+        @LoggingTime
+        public int disabled(int value) {
+            return value + 1;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        LoggingTimeProperties properties = new LoggingTimeProperties(Duration.ZERO,
+                new LoggingTimeProperties.OutputSettings(LoggingTimeProperties.Sink.CONSOLE, true, 1024,
+                        "logs/timing.log", DataSize.ofMegabytes(1), 1),
+                List.of("Calculator.disabled"));
+        loggingTimeAdvice = new LoggingTimeAdvice(properties);
+        calculator = new Calculator();
+        ProxyFactory proxyFactory = new ProxyFactory(calculator);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(loggingTimeAdvice.loggingTimeAdvisor());
+        proxiedCalculator = (Calculator) proxyFactory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        loggingTimeAdvice.destroy();
+    }
+
+    @Benchmark
+    public int direct() {
+        return calculator.timed(value++);
+    }
+
+    @Benchmark
+    public int proxiedUntimed() {
+        return proxiedCalculator.untimed(value++);
+    }
+
+    @Benchmark
+    public int proxiedTimed() {
+        return proxiedCalculator.timed(value++);
+    }
+
+    @Benchmark
+    public int proxiedSampled() {
+        return proxiedCalculator.sampled(value++);
+    }
+
+    @Benchmark
+    public int proxiedDisabled() {
+        return proxiedCalculator.disabled(value++);
+    }
+}
@@ -0,0 +1,68 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.coworking_benchmarks.support.Fixtures;
+import dev.makeev.coworking_benchmarks.support.StubSpaceDAO;
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
+import dev.makeev.coworking_service_app.dto.SpaceDTO;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.service.SpaceService;
+import dev.makeev.coworking_service_app.service.implementation.SpaceServiceImpl;
+import dev.makeev.coworking_service_app.view.implementation.PassThroughSpaceAvailabilityView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the {@link SpaceDTO} listing of {@code SpaceServiceImpl.getSpaces} from loaded spaces,
+ * and the {@link CompactSpaceDTO} listing with merged free intervals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaceListingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int numberOfSpaces;
+
+    /**
+     * The number of days every space is available for booking.
+     */
+    @Param({"7", "30"})
+    private int numberOfDays;
+
+    private SpaceService spaceService;
+
+    @Setup
+    public void setUp() {
+        List<Space> spaces = new ArrayList<>(numberOfSpaces);
+        for (int i = 0; i < numberOfSpaces; i++) {
+            spaces.add(Fixtures.space("Space " + i, numberOfDays, 0));
+        }
+        spaceService = new SpaceServiceImpl(new StubSpaceDAO(spaces), new PassThroughSpaceAvailabilityView());
+    }
+
+    @Benchmark
+    public List<SpaceDTO> getSpaces() {
+        return spaceService.getSpaces();
+    }
+
+    @Benchmark
+    public List<CompactSpaceDTO> getCompactSpaces() {
+        return spaceService.getCompactSpaces();
+    }
+}
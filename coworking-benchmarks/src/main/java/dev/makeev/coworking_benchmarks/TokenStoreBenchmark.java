@@ -0,0 +1,87 @@
+package dev.makeev.coworking_benchmarks;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import dev.makeev.coworking_service_app.token.TokenStore;
+import dev.makeev.coworking_service_app.token.implementation.InMemoryTokenStore;
+import dev.makeev.coworking_service_app.token.implementation.SignedTokenStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures issuing and checking tokens by eight threads at once with both {@link TokenStore} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class TokenStoreBenchmark {
+
+    private static final int NUMBER_OF_TOKENS = 10_000;
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark";
+
+    /**
+     * The token mode, as set by {@code coworking.token.mode}.
+     */
+    @Param({"memory", "signed"})
+    private String mode;
+
+    private TokenStore tokenStore;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        TokenProperties properties = new TokenProperties(Duration.ofMinutes(30), 100_000, Duration.ofMinutes(1), SECRET);
+        tokenStore = "signed".equals(mode) ? new SignedTokenStore(properties) : new InMemoryTokenStore(properties);
+        tokens = new String[NUMBER_OF_TOKENS];
+        for (int i = 0; i < NUMBER_OF_TOKENS; i++) {
+            tokens[i] = tokenStore.generate("User" + i, i % 10 == 0);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        ((AutoCloseable) tokenStore).close();
+    }
+
+    /**
+     * The index of the next token checked by a thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            next = (next + 1) % NUMBER_OF_TOKENS;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Optional<AuthenticatedUser> validate(Cursor cursor) {
+        return tokenStore.validate(tokens[cursor.next()]);
+    }
+
+    @Benchmark
+    public String generate(Cursor cursor) {
+        return tokenStore.generate("User" + cursor.next(), false);
+    }
+}
@@ -0,0 +1,45 @@
+package dev.makeev.coworking_benchmarks.support;
+
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+
+import java.time.LocalDate;
+
+/**
+ * Spaces used as benchmark data.
+ */
+public final class Fixtures {
+
+    public static final WorkingHours WORKING_HOURS = new WorkingHours(8, 20);
+    private static final int BOOKED_HOURS = SlotOccupancy.hourMask(12, 14);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a space available for booking from today, with a booking at midday of every other day
+     * starting from the given day.
+     *
+     * @param name          the name of the space
+     * @param numberOfDays  the number of days available for booking
+     * @param firstBookedDay the first day with bookings, counted from today
+     * @return the space
+     */
+    public static Space space(String name, int numberOfDays, int firstBookedDay) {
+        LocalDate today = LocalDate.now();
+        int workingHours = SlotOccupancy.hourMask(WORKING_HOURS.hourOfBeginningWorkingDay(),
+                WORKING_HOURS.hourOfEndingWorkingDay());
+        SlotOccupancy.Builder bookingSlots = SlotOccupancy.builder();
+        for (int day = 0; day < numberOfDays; day++) {
+            LocalDate date = today.plusDays(day);
+            if (day >= firstBookedDay && day % 2 == 0) {
+                bookingSlots.addHours(date, workingHours & ~BOOKED_HOURS, 0L)
+                        .addHours(date, BOOKED_HOURS, day + 1L);
+            } else {
+                bookingSlots.addHours(date, workingHours, 0L);
+            }
+        }
+        return new Space(name, WORKING_HOURS, bookingSlots.build());
+    }
+}
@@ -0,0 +1,43 @@
+package dev.makeev.coworking_benchmarks.support;
+
+import dev.makeev.coworking_service_app.model.Booking;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link StubBookingDAO} that blocks every added booking for a fixed time, like a round trip to the database,
+ * and tracks how many bookings are in flight at once.
+ */
+public class LatentBookingDAO extends StubBookingDAO {
+
+    private final long latencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public LatentBookingDAO(long latencyMillis) {
+        this.latencyNanos = TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+    }
+
+    @Override
+    public boolean add(Booking booking) {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            TimeUnit.NANOSECONDS.sleep(latencyNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the highest number of bookings in flight at once since the last call.
+     *
+     * @return the peak number of bookings in flight
+     */
+    public int resetPeakInFlight() {
+        return peakInFlight.getAndSet(0);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.makeev.coworking_benchmarks.support;
+
+import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A {@link BookingDAO} accepting every booking without storing it.
+ */
+public class StubBookingDAO implements BookingDAO {
+
+    @Override
+    public boolean add(Booking booking) {
+        return true;
+    }
+
+    @Override
+    public Optional<Booking> getBookingById(long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void forEachForUser(String login, Consumer<Booking> action) {
+    }
+
+    @Override
+    public void forEach(Consumer<Booking> action) {
+    }
+
+    @Override
+    public List<Booking> getPageForUser(String login, long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<Booking> getPage(BookingCursor after, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void delete(long id) {
+    }
+}
@@ -0,0 +1,52 @@
+package dev.makeev.coworking_benchmarks.support;
+
+import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.Space;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link SpaceDAO} returning prepared spaces, so that benchmarks measure the services without the database.
+ */
+public class StubSpaceDAO implements SpaceDAO {
+
+    private final Map<String, Space> spaces = new LinkedHashMap<>();
+
+    public StubSpaceDAO(List<Space> spaces) {
+        spaces.forEach(space -> this.spaces.put(space.name(), space));
+    }
+
+    @Override
+    public void add(Space newSpace) {
+        spaces.put(newSpace.name(), newSpace);
+    }
+
+    @Override
+    public List<String> getNamesOfSpaces() {
+        return List.copyOf(spaces.keySet());
+    }
+
+    @Override
+    public List<Space> getAllSpaces() {
+        return List.copyOf(spaces.values());
+    }
+
+    @Override
+    public Optional<Space> getSpaceByName(String nameOfSpace) {
+        return Optional.ofNullable(spaces.get(nameOfSpace));
+    }
+
+    @Override
+    public Optional<Space> getSpaceByNameForRange(String nameOfSpace, BookingRange bookingRange) {
+        return getSpaceByName(nameOfSpace);
+    }
+
+    @Override
+    public void delete(String nameOfSpace) {
+        spaces.remove(nameOfSpace);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.makeev.coworking_load_test;
+
+import dev.makeev.coworking_load_test.client.CoworkingClient;
+import dev.makeev.coworking_load_test.database.Database;
+import dev.makeev.coworking_load_test.workload.LoadDriver;
+import dev.makeev.coworking_load_test.workload.LoadStatistics;
+import dev.makeev.coworking_load_test.workload.Operation;
+import dev.makeev.coworking_load_test.workload.SeedData;
+import dev.makeev.coworking_load_test.workload.Seeder;
+import dev.makeev.coworking_service_app.App;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Boots the application on a random port against a PostgreSQL database, seeds it and drives
+ * the workload through its REST API, then prints the throughput, the latency percentiles and
+ * the conflicts of every operation.
+ * <p>
+ * Exits with status 1 if any request failed with an unexpected status.
+ */
+public class LoadTest {
+
+    /**
+     * Settings of the application that differ from {@code application.yml} during a load test.
+     * They are set as system properties, so that arguments passed to the application still override them.
+     */
+    private static final Map<String, String> APPLICATION_DEFAULTS = Map.of(
+            "server.port", "0",
+            "spring.docker.compose.enabled", "false",
+            "logging-time.output.sink", "MAPPED_FILE",
+            "logging-time.output.file", "logs/load-test-timing.log");
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        long errors;
+        try (Database database = Database.start(settings);
+             ConfigurableApplicationContext context = startApplication(settings, database)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CoworkingClient client = new CoworkingClient("http://localhost:" + port);
+
+            long seedingStart = System.nanoTime();
+            SeedData seedData = new Seeder(client, settings).seed();
+            System.out.printf(Locale.ROOT, "Seeded %d spaces, %d users and %d bookings in %.1f s%n",
+                    seedData.spaces().size(), seedData.users().size(), seedData.bookings(),
+                    (System.nanoTime() - seedingStart) / 1_000_000_000.0);
+
+            LoadDriver driver = new LoadDriver(client, settings, seedData);
+            if (!settings.warmup().isZero()) {
+                driver.run(settings.warmup(), new LoadStatistics());
+            }
+            LoadStatistics statistics = new LoadStatistics();
+            Duration elapsed = driver.run(settings.duration(), statistics);
+
+            System.out.printf(Locale.ROOT, "%d threads for %.1f s against %s PostgreSQL%n",
+                    settings.threads(), elapsed.toNanos() / 1_000_000_000.0,
+                    settings.database().name().toLowerCase(Locale.ROOT));
+            statistics.report(System.out, elapsed);
+            long bookingAttempts = statistics.requests(Operation.BOOK);
+            if (bookingAttempts > 0) {
+                System.out.printf(Locale.ROOT, "Booking conflicts: %d of %d attempts (%.1f%%)%n",
+                        statistics.conflicts(Operation.BOOK), bookingAttempts,
+                        100.0 * statistics.conflicts(Operation.BOOK) / bookingAttempts);
+            }
+            errors = statistics.errors();
+        }
+        System.exit(errors > 0 ? 1 : 0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, Database database) {
+        APPLICATION_DEFAULTS.forEach((name, value) -> {
+            if (System.getProperty(name) == null) {
+                System.setProperty(name, value);
+            }
+        });
+        System.setProperty("spring.datasource.url", database.jdbcUrl());
+        System.setProperty("spring.datasource.username", database.username());
+        System.setProperty("spring.datasource.password", database.password());
+        return SpringApplication.run(App.class, settings.springArgs());
+    }
+}
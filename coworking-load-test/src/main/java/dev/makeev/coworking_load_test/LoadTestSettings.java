@@ -0,0 +1,130 @@
+package dev.makeev.coworking_load_test;
+
+import dev.makeev.coworking_load_test.database.DatabaseKind;
+import dev.makeev.coworking_load_test.workload.Operation;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, given as {@code --name=value} arguments.
+ *
+ * @param database        where PostgreSQL comes from
+ * @param jdbcUrl         the URL of the database for {@link DatabaseKind#EXTERNAL}
+ * @param username        the user of the external database
+ * @param password        the password of the external database
+ * @param users           the number of users registered before the run
+ * @param spaces          the number of spaces added before the run
+ * @param bookingsPerUser the number of bookings every user tries to add before the run
+ * @param days            the number of days the spaces are available for booking, bookings start tomorrow
+ * @param threads         the number of concurrent clients
+ * @param warmup          how long the workload runs before it is measured
+ * @param duration        how long the workload is measured
+ * @param seed            the seed of the random choices, so that runs are reproducible
+ * @param mix             the relative weight of every operation of the workload
+ * @param springArgs      the remaining arguments, passed to the application
+ */
+public record LoadTestSettings(DatabaseKind database,
+                               String jdbcUrl,
+                               String username,
+                               String password,
+                               int users,
+                               int spaces,
+                               int bookingsPerUser,
+                               int days,
+                               int threads,
+                               Duration warmup,
+                               Duration duration,
+                               long seed,
+                               Map<Operation, Integer> mix,
+                               String[] springArgs) {
+
+    private static final String DEFAULT_MIX = "list-spaces=40,list-bookings=15,book=25,cancel=10,login=7,register=3";
+
+    /**
+     * Parses the settings, using defaults for those not given.
+     *
+     * @param args the command line arguments
+     * @return the settings
+     * @throws IllegalArgumentException if a setting has an invalid value
+     */
+    public static LoadTestSettings parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator > 2 && arg.startsWith("--") ? arg.substring(2, separator) : null;
+            if (name != null && isSetting(name)) {
+                values.put(name, arg.substring(separator + 1));
+            } else {
+                springArgs.add(arg);
+            }
+        }
+
+        LoadTestSettings settings = new LoadTestSettings(
+                DatabaseKind.valueOf(values.getOrDefault("database", "embedded").toUpperCase()),
+                values.get("jdbc-url"),
+                values.getOrDefault("username", "postgres"),
+                values.getOrDefault("password", "postgres"),
+                positive(values, "users", 200),
+                positive(values, "spaces", 20),
+                Integer.parseInt(values.getOrDefault("bookings-per-user", "2")),
+                positive(values, "days", 14),
+                positive(values, "threads", 32),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                springArgs.toArray(String[]::new));
+        if (settings.days() < 2) {
+            throw new IllegalArgumentException("--days must be at least 2");
+        }
+        if (settings.database() == DatabaseKind.EXTERNAL && settings.jdbcUrl() == null) {
+            throw new IllegalArgumentException("--jdbc-url is required for --database=external");
+        }
+        return settings;
+    }
+
+    private static boolean isSetting(String name) {
+        return switch (name) {
+            case "database", "jdbc-url", "username", "password", "users", "spaces", "bookings-per-user",
+                 "days", "threads", "warmup", "duration", "seed", "mix" -> true;
+            default -> false;
+        };
+    }
+
+    private static int positive(Map<String, String> values, String name, int defaultValue) {
+        int value = values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * Parses weights given as {@code operation=weight} pairs separated by commas.
+     */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String pair : mix.split(",")) {
+            String[] parts = pair.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + pair);
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Invalid --mix weight: " + pair);
+            }
+            weights.put(Operation.of(parts[0]), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("--mix must contain a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,144 @@
+package dev.makeev.coworking_load_test.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
+import dev.makeev.coworking_service_app.dto.TokenResponse;
+import dev.makeev.coworking_service_app.dto.UserRequestDTO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Calls the REST API of the application over HTTP, the way a real client does.
+ * The methods return the response as is, so that the caller decides which statuses are expected.
+ */
+public class CoworkingClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final TypeReference<List<BookingDTO>> BOOKINGS = new TypeReference<>() {
+    };
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public CoworkingClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    public Response register(String login, String password) {
+        return send(request("/api/v1/user/registration", null)
+                .POST(body(new UserRequestDTO(login, password))));
+    }
+
+    public Response login(String login, String password) {
+        return send(request("/api/v1/user/login", null)
+                .PUT(body(new UserRequestDTO(login, password))));
+    }
+
+    public Response listSpaces(String token) {
+        return send(request("/api/v1/spaces", token).GET());
+    }
+
+    public Response addSpace(String token, SpaceAddDTO spaceAddDTO) {
+        return send(request("/api/v1/spaces", token).POST(body(spaceAddDTO)));
+    }
+
+    public Response listBookings(String token) {
+        return send(request("/api/v1/bookings", token).GET());
+    }
+
+    public Response addBooking(String token, BookingAddDTO bookingAddDTO) {
+        return send(request("/api/v1/bookings", token).POST(body(bookingAddDTO)));
+    }
+
+    public Response cancelBooking(String token, long id) {
+        return send(request("/api/v1/bookings/" + id, token).DELETE());
+    }
+
+    /**
+     * Extracts the token from the response of a registration or a login.
+     *
+     * @param response the successful response
+     * @return the token
+     */
+    public String tokenOf(Response response) {
+        try {
+            return objectMapper.readValue(response.body(), TokenResponse.class).token();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unexpected response: " + response, e);
+        }
+    }
+
+    /**
+     * Extracts the bookings from the response of listing them.
+     *
+     * @param response the successful response
+     * @return the bookings
+     */
+    public List<BookingDTO> bookingsOf(Response response) {
+        try {
+            return objectMapper.readValue(response.body(), BOOKINGS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unexpected response: " + response, e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + value, e);
+        }
+    }
+
+    private Response send(HttpRequest.Builder builder) {
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a response", e);
+        }
+    }
+
+    /**
+     * The status and the body of a response.
+     *
+     * @param status the HTTP status code
+     * @param body   the body of the response
+     */
+    public record Response(int status, String body) {
+
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.makeev.coworking_load_test.database;
+
+import dev.makeev.coworking_load_test.LoadTestSettings;
+import dev.makeev.coworking_load_test.database.implementation.ContainerDatabase;
+import dev.makeev.coworking_load_test.database.implementation.EmbeddedDatabase;
+import dev.makeev.coworking_load_test.database.implementation.ExternalDatabase;
+
+/**
+ * A PostgreSQL database the application under load is connected to.
+ */
+public interface Database extends AutoCloseable {
+
+    /**
+     * Starts the database chosen by the settings.
+     *
+     * @param settings the settings of the run
+     * @return the running database
+     */
+    static Database start(LoadTestSettings settings) {
+        return switch (settings.database()) {
+            case EMBEDDED -> new EmbeddedDatabase();
+            case CONTAINER -> new ContainerDatabase();
+            case EXTERNAL -> new ExternalDatabase(settings.jdbcUrl(), settings.username(), settings.password());
+        };
+    }
+
+    String jdbcUrl();
+
+    String username();
+
+    String password();
+
+    /**
+     * Stops the database if it was started by the load test.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,19 @@
+package dev.makeev.coworking_load_test.database;
+
+/**
+ * Where the PostgreSQL database of a load test comes from.
+ */
+public enum DatabaseKind {
+    /**
+     * A PostgreSQL process started from binaries resolved by Maven, without Docker or network access.
+     */
+    EMBEDDED,
+    /**
+     * A {@code postgres:16.2} container started with Testcontainers.
+     */
+    CONTAINER,
+    /**
+     * An already running database given by its URL.
+     */
+    EXTERNAL
+}
@@ -0,0 +1,37 @@
+package dev.makeev.coworking_load_test.database.implementation;
+
+import dev.makeev.coworking_load_test.database.Database;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * The {@code ContainerDatabase} class implements the {@link Database} interface with the same
+ * PostgreSQL container image the integration tests of the application use.
+ */
+public class ContainerDatabase implements Database {
+
+    private final PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:16.2");
+
+    public ContainerDatabase() {
+        container.start();
+    }
+
+    @Override
+    public String jdbcUrl() {
+        return container.getJdbcUrl();
+    }
+
+    @Override
+    public String username() {
+        return container.getUsername();
+    }
+
+    @Override
+    public String password() {
+        return container.getPassword();
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+}
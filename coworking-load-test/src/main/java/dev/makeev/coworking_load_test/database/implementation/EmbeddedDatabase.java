@@ -0,0 +1,52 @@
+package dev.makeev.coworking_load_test.database.implementation;
+
+import dev.makeev.coworking_load_test.database.Database;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The {@code EmbeddedDatabase} class implements the {@link Database} interface with a PostgreSQL
+ * process started from the binaries packaged as a Maven dependency, so that no Docker daemon
+ * or network access is needed.
+ */
+public class EmbeddedDatabase implements Database {
+
+    private static final String USER = "postgres";
+    private static final String DATABASE = "postgres";
+
+    private final EmbeddedPostgres postgres;
+
+    public EmbeddedDatabase() {
+        try {
+            this.postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+
+    @Override
+    public String jdbcUrl() {
+        return postgres.getJdbcUrl(USER, DATABASE);
+    }
+
+    @Override
+    public String username() {
+        return USER;
+    }
+
+    @Override
+    public String password() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stop embedded PostgreSQL", e);
+        }
+    }
+}
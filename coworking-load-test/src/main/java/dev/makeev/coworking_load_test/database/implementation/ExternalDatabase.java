@@ -0,0 +1,18 @@
+package dev.makeev.coworking_load_test.database.implementation;
+
+import dev.makeev.coworking_load_test.database.Database;
+
+/**
+ * The {@code ExternalDatabase} class implements the {@link Database} interface with a database
+ * that is already running and is left running after the load test.
+ *
+ * @param jdbcUrl  the URL of the database
+ * @param username the user of the database
+ * @param password the password of the user
+ */
+public record ExternalDatabase(String jdbcUrl, String username, String password) implements Database {
+
+    @Override
+    public void close() {
+    }
+}
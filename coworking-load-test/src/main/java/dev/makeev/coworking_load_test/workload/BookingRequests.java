@@ -0,0 +1,36 @@
+package dev.makeev.coworking_load_test.workload;
+
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random bookings of one or two hours within the working hours of the seeded spaces.
+ */
+final class BookingRequests {
+
+    static final int HOUR_OF_BEGINNING_WORKING_DAY = 8;
+    static final int HOUR_OF_ENDING_WORKING_DAY = 20;
+    private static final int MAX_HOURS = 2;
+
+    private BookingRequests() {
+    }
+
+    /**
+     * Creates a booking of a random space from tomorrow until the last day available for booking.
+     *
+     * @param random the source of the random choices
+     * @param spaces the names of the spaces
+     * @param days   the number of days the spaces are available for booking
+     * @return the booking
+     */
+    static BookingAddDTO random(Random random, List<String> spaces, int days) {
+        String date = LocalDate.now().plusDays(1 + random.nextInt(days - 1)).toString();
+        int beginningHour = HOUR_OF_BEGINNING_WORKING_DAY
+                + random.nextInt(HOUR_OF_ENDING_WORKING_DAY - HOUR_OF_BEGINNING_WORKING_DAY);
+        int endingHour = Math.min(beginningHour + 1 + random.nextInt(MAX_HOURS), HOUR_OF_ENDING_WORKING_DAY);
+        return new BookingAddDTO(spaces.get(random.nextInt(spaces.size())), date, beginningHour, date, endingHour);
+    }
+}
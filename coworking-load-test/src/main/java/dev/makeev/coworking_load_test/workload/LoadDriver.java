@@ -0,0 +1,178 @@
+package dev.makeev.coworking_load_test.workload;
+
+import dev.makeev.coworking_load_test.LoadTestSettings;
+import dev.makeev.coworking_load_test.client.CoworkingClient;
+import dev.makeev.coworking_load_test.client.CoworkingClient.Response;
+import dev.makeev.coworking_service_app.dto.BookingDTO;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs the workload: every thread is a client of one seeded user that sends requests back to back,
+ * choosing the operation of each request by the weights of the mix.
+ * <p>
+ * Client {@code i} acts as user {@code i % users}, so clients share users only when there are fewer
+ * users than threads. Cancelling lists the bookings of the user first and cancels a random one,
+ * or books when the user has none.
+ */
+public class LoadDriver {
+
+    private final CoworkingClient client;
+    private final LoadTestSettings settings;
+    private final SeedData seedData;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final List<VirtualUser> virtualUsers = new ArrayList<>();
+    private final AtomicLong registrations = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    public LoadDriver(CoworkingClient client, LoadTestSettings settings, SeedData seedData) {
+        this.client = client;
+        this.settings = settings;
+        this.seedData = seedData;
+
+        List<Map.Entry<Operation, Integer>> weights = settings.mix().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        this.operations = new Operation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            total += weights.get(i).getValue();
+            operations[i] = weights.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+
+        for (int i = 0; i < settings.threads(); i++) {
+            SeedData.Credentials user = seedData.users().get(i % seedData.users().size());
+            Response response = client.login(user.login(), user.password());
+            if (!response.isSuccessful()) {
+                throw new IllegalStateException("Login of " + user.login() + " failed: " + response);
+            }
+            virtualUsers.add(new VirtualUser(user, client.tokenOf(response), new Random(settings.seed() + i)));
+        }
+    }
+
+    /**
+     * Sends requests from all clients for the given time.
+     *
+     * @param duration   how long to send requests
+     * @param statistics where to record the requests
+     * @return the time from the start of the first client to the end of the last one
+     */
+    public Duration run(Duration duration, LoadStatistics statistics) {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try {
+            List<Future<?>> clients = new ArrayList<>();
+            for (VirtualUser virtualUser : virtualUsers) {
+                clients.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        virtualUser.next(statistics);
+                    }
+                }));
+            }
+            for (Future<?> future : clients) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the workload", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A client of the workload failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private Operation choose(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= value) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    /**
+     * A client sending the requests of one user.
+     */
+    private final class VirtualUser {
+
+        private final SeedData.Credentials credentials;
+        private final Random random;
+        private String token;
+
+        private VirtualUser(SeedData.Credentials credentials, String token, Random random) {
+            this.credentials = credentials;
+            this.token = token;
+            this.random = random;
+        }
+
+        private void next(LoadStatistics statistics) {
+            switch (choose(random)) {
+                case REGISTER -> send(statistics, Operation.REGISTER, () -> client.register(
+                        "load-" + runId + "-" + registrations.incrementAndGet(), credentials.password()));
+                case LOGIN -> {
+                    Response response = send(statistics, Operation.LOGIN,
+                            () -> client.login(credentials.login(), credentials.password()));
+                    if (response != null && response.isSuccessful()) {
+                        token = client.tokenOf(response);
+                    }
+                }
+                case LIST_SPACES -> send(statistics, Operation.LIST_SPACES, () -> client.listSpaces(token));
+                case LIST_BOOKINGS -> send(statistics, Operation.LIST_BOOKINGS, () -> client.listBookings(token));
+                case BOOK -> book(statistics);
+                case CANCEL -> cancel(statistics);
+            }
+        }
+
+        private void book(LoadStatistics statistics) {
+            send(statistics, Operation.BOOK, () -> client.addBooking(token,
+                    BookingRequests.random(random, seedData.spaces(), settings.days())));
+        }
+
+        private void cancel(LoadStatistics statistics) {
+            Response response = send(statistics, Operation.LIST_BOOKINGS, () -> client.listBookings(token));
+            if (response == null || !response.isSuccessful()) {
+                return;
+            }
+            List<BookingDTO> bookings = client.bookingsOf(response);
+            if (bookings.isEmpty()) {
+                book(statistics);
+            } else {
+                long id = bookings.get(random.nextInt(bookings.size())).id();
+                send(statistics, Operation.CANCEL, () -> client.cancelBooking(token, id));
+            }
+        }
+
+        /**
+         * Sends a request and records its latency and outcome.
+         *
+         * @return the response, or {@code null} if none was received
+         */
+        private Response send(LoadStatistics statistics, Operation operation, Supplier<Response> request) {
+            long start = System.nanoTime();
+            try {
+                Response response = request.get();
+                statistics.record(operation, response.status(), System.nanoTime() - start);
+                return response;
+            } catch (RuntimeException e) {
+                statistics.recordFailure(operation, System.nanoTime() - start);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package dev.makeev.coworking_load_test.workload;
+
+import dev.makeev.logging_time_starter.metrics.LatencyHistogram;
+import dev.makeev.logging_time_starter.metrics.LatencySnapshot;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of the requests of a load test, per {@link Operation}.
+ * <p>
+ * A request is successful on a 2xx status and a conflict on 409, when the slot is already booked or the login
+ * is taken, or on 404 when cancelling a booking another client of the same user cancelled first.
+ * Any other status, or no response at all, is an error.
+ */
+public class LoadStatistics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int CONFLICT = 409;
+    private static final int NOT_FOUND = 404;
+
+    private final Map<Operation, Counters> counters = new EnumMap<>(Operation.class);
+
+    public LoadStatistics() {
+        for (Operation operation : Operation.values()) {
+            counters.put(operation, new Counters());
+        }
+    }
+
+    /**
+     * Records a request that received a response.
+     *
+     * @param operation the operation of the request
+     * @param status    the HTTP status of the response
+     * @param nanos     the latency of the request
+     */
+    public void record(Operation operation, int status, long nanos) {
+        Counters operationCounters = counters.get(operation);
+        operationCounters.latencies.record(nanos);
+        if (status >= 200 && status < 300) {
+            operationCounters.successful.increment();
+        } else if (status == CONFLICT || (operation == Operation.CANCEL && status == NOT_FOUND)) {
+            operationCounters.conflicts.increment();
+        } else {
+            operationCounters.errors.increment();
+        }
+    }
+
+    /**
+     * Records a request that failed without a response.
+     *
+     * @param operation the operation of the request
+     * @param nanos     the time until the request failed
+     */
+    public void recordFailure(Operation operation, long nanos) {
+        Counters operationCounters = counters.get(operation);
+        operationCounters.latencies.record(nanos);
+        operationCounters.errors.increment();
+    }
+
+    public long requests(Operation operation) {
+        return counters.get(operation).latencies.snapshot().count();
+    }
+
+    public long conflicts(Operation operation) {
+        return counters.get(operation).conflicts.sum();
+    }
+
+    public long errors() {
+        return counters.values().stream().mapToLong(operationCounters -> operationCounters.errors.sum()).sum();
+    }
+
+    /**
+     * Prints the throughput, the latency percentiles and the outcomes of every operation and of all of them.
+     *
+     * @param out     where to print
+     * @param elapsed how long the requests were measured
+     */
+    public void report(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        out.printf(Locale.ROOT, "%-14s %9s %9s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "ok", "conflicts", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        long total = 0L;
+        for (Map.Entry<Operation, Counters> entry : counters.entrySet()) {
+            Counters operationCounters = entry.getValue();
+            LatencySnapshot snapshot = operationCounters.latencies.snapshot();
+            if (snapshot.count() == 0) {
+                continue;
+            }
+            total += snapshot.count();
+            out.printf(Locale.ROOT, "%-14s %9d %9d %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().settingName(), snapshot.count(), operationCounters.successful.sum(),
+                    operationCounters.conflicts.sum(), operationCounters.errors.sum(), snapshot.count() / seconds,
+                    snapshot.p50() / NANOS_PER_MILLI, snapshot.p90() / NANOS_PER_MILLI,
+                    snapshot.p99() / NANOS_PER_MILLI, snapshot.p999() / NANOS_PER_MILLI,
+                    snapshot.max() / NANOS_PER_MILLI);
+        }
+        out.printf(Locale.ROOT, "%-14s %9d %9s %9s %7d %10.1f%n", "total", total, "", "", errors(), total / seconds);
+    }
+
+    private static final class Counters {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder successful = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.makeev.coworking_load_test.workload;
+
+import java.util.Arrays;
+
+/**
+ * A request of the workload, named as in the {@code --mix} setting.
+ */
+public enum Operation {
+    REGISTER("register"),
+    LOGIN("login"),
+    LIST_SPACES("list-spaces"),
+    LIST_BOOKINGS("list-bookings"),
+    BOOK("book"),
+    CANCEL("cancel");
+
+    private final String settingName;
+
+    Operation(String settingName) {
+        this.settingName = settingName;
+    }
+
+    public String settingName() {
+        return settingName;
+    }
+
+    /**
+     * Finds an operation by its name in the settings.
+     *
+     * @param settingName the name of the operation
+     * @return the operation
+     * @throws IllegalArgumentException if there is no operation with this name
+     */
+    public static Operation of(String settingName) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.settingName.equals(settingName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + settingName));
+    }
+}
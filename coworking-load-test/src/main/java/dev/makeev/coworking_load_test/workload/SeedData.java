@@ -0,0 +1,22 @@
+package dev.makeev.coworking_load_test.workload;
+
+import java.util.List;
+
+/**
+ * What was stored before the workload starts.
+ *
+ * @param spaces   the names of the spaces
+ * @param users    the registered users
+ * @param bookings the number of bookings added
+ */
+public record SeedData(List<String> spaces, List<Credentials> users, int bookings) {
+
+    /**
+     * The login and the password of a user.
+     *
+     * @param login    the login of the user
+     * @param password the password of the user
+     */
+    public record Credentials(String login, String password) {
+    }
+}
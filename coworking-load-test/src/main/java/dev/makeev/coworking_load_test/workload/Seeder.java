@@ -0,0 +1,82 @@
+package dev.makeev.coworking_load_test.workload;
+
+import dev.makeev.coworking_load_test.LoadTestSettings;
+import dev.makeev.coworking_load_test.client.CoworkingClient;
+import dev.makeev.coworking_load_test.client.CoworkingClient.Response;
+import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Stores the spaces, users and bookings the workload starts from, through the same API the workload uses.
+ * <p>
+ * Seeding runs on one thread with the seed of the settings, so that the same settings produce the same data.
+ * Spaces and users that already exist, for example in an external database seeded before, are reused.
+ */
+public class Seeder {
+
+    private static final String ADMIN_LOGIN = "admin";
+    private static final String ADMIN_PASSWORD = "1234";
+    private static final int CONFLICT = 409;
+
+    private final CoworkingClient client;
+    private final LoadTestSettings settings;
+
+    public Seeder(CoworkingClient client, LoadTestSettings settings) {
+        this.client = client;
+        this.settings = settings;
+    }
+
+    /**
+     * Adds the spaces as the administrator, then registers the users and adds their bookings.
+     *
+     * @return what was stored
+     * @throws IllegalStateException if the application rejects a request
+     */
+    public SeedData seed() {
+        String adminToken = client.tokenOf(expectSuccess(client.login(ADMIN_LOGIN, ADMIN_PASSWORD), "admin login"));
+
+        List<String> spaces = new ArrayList<>(settings.spaces());
+        for (int i = 1; i <= settings.spaces(); i++) {
+            String name = "Load space " + i;
+            Response response = client.addSpace(adminToken, new SpaceAddDTO(name,
+                    BookingRequests.HOUR_OF_BEGINNING_WORKING_DAY, BookingRequests.HOUR_OF_ENDING_WORKING_DAY,
+                    settings.days()));
+            if (response.status() != CONFLICT) {
+                expectSuccess(response, "adding " + name);
+            }
+            spaces.add(name);
+        }
+
+        Random random = new Random(settings.seed());
+        List<SeedData.Credentials> users = new ArrayList<>(settings.users());
+        int bookings = 0;
+        for (int i = 1; i <= settings.users(); i++) {
+            SeedData.Credentials user = new SeedData.Credentials("load-user-" + i, "password-" + i);
+            Response response = client.register(user.login(), user.password());
+            if (response.status() == CONFLICT) {
+                response = client.login(user.login(), user.password());
+            }
+            String token = client.tokenOf(expectSuccess(response, "registering " + user.login()));
+            users.add(user);
+
+            for (int j = 0; j < settings.bookingsPerUser(); j++) {
+                Response booking = client.addBooking(token, BookingRequests.random(random, spaces, settings.days()));
+                if (booking.status() != CONFLICT) {
+                    expectSuccess(booking, "booking for " + user.login());
+                    bookings++;
+                }
+            }
+        }
+        return new SeedData(List.copyOf(spaces), List.copyOf(users), bookings);
+    }
+
+    private static Response expectSuccess(Response response, String action) {
+        if (!response.isSuccessful()) {
+            throw new IllegalStateException("Seeding failed on " + action + ": " + response);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.makeev.coworking_service_app.cache;
+
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * SpaceCache interface for keeping the metadata of spaces, such as their working hours, in memory.
+ * The DAOs write through it when a space is added or deleted.
+ */
+public interface SpaceCache {
+
+    /**
+     * Returns the metadata of a space, loading and caching it if it is not cached yet.
+     *
+     * @param nameOfSpace the name of the space
+     * @param loader      reads the metadata of the space from the database
+     * @return the metadata, or an empty optional if the space does not exist
+     */
+    Optional<SpaceMetadata> get(String nameOfSpace, Function<String, Optional<SpaceMetadata>> loader);
+
+    /**
+     * Caches the metadata of a space that has been added.
+     *
+     * @param nameOfSpace the name of the space
+     * @param metadata    the metadata of the space
+     */
+    void put(String nameOfSpace, SpaceMetadata metadata);
+
+    /**
+     * Removes a space that has been deleted.
+     *
+     * @param nameOfSpace the name of the space
+     */
+    void invalidate(String nameOfSpace);
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the number of hits
+     */
+    long hits();
+
+    /**
+     * Returns the number of lookups that had to read the database.
+     *
+     * @return the number of misses
+     */
+    long misses();
+}
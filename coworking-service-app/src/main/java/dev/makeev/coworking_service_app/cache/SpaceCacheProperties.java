@@ -0,0 +1,15 @@
+package dev.makeev.coworking_service_app.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the cache of space metadata, bound from {@code coworking.space-cache.*}.
+ *
+ * @param enabled whether the metadata of spaces is cached, otherwise it is read on every lookup
+ * @param maxSize the maximum number of spaces kept at once
+ */
+@ConfigurationProperties(prefix = "coworking.space-cache")
+public record SpaceCacheProperties(@DefaultValue("true") boolean enabled,
+                                   @DefaultValue("10000") int maxSize) {
+}
@@ -0,0 +1,172 @@
+package dev.makeev.coworking_service_app.cache.implementation;
+
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.cache.SpaceCacheProperties;
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
+import dev.makeev.coworking_service_app.util.SampledKeys;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code InMemorySpaceCache} class implements the {@link SpaceCache} interface.
+ * The metadata is kept in a {@link ConcurrentHashMap}, so lookups from every request thread
+ * do not lock.
+ * <p>
+ * When the cache is full, the space used least recently among a small sample of spaces picked
+ * at random is evicted.
+ * A space loaded while it is being invalidated is not kept, so a lookup racing with the
+ * deletion of a space cannot bring it back.
+ */
+public class InMemorySpaceCache implements SpaceCache {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SampledKeys<String> namesOfSpaces = new SampledKeys<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+
+    public InMemorySpaceCache(SpaceCacheProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Creates the cache with the given source of time.
+     *
+     * @param properties the settings of the cache
+     * @param nanoClock  the source of time in nanoseconds, {@code System::nanoTime} outside of tests
+     */
+    InMemorySpaceCache(SpaceCacheProperties properties, LongSupplier nanoClock) {
+        this.maxSize = properties.maxSize();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<SpaceMetadata> get(String nameOfSpace, Function<String, Optional<SpaceMetadata>> loader) {
+        Entry entry = entries.get(nameOfSpace);
+        if (entry != null) {
+            hits.increment();
+            entry.lastUsedAt = nanoClock.getAsLong();
+            return Optional.of(entry.metadata);
+        }
+
+        misses.increment();
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<SpaceMetadata> metadata = loader.apply(nameOfSpace);
+        if (metadata.isPresent() && invalidations.get() == invalidationsBeforeLoad) {
+            Entry loaded = store(nameOfSpace, metadata.get());
+            if (invalidations.get() != invalidationsBeforeLoad && entries.remove(nameOfSpace, loaded)) {
+                namesOfSpaces.removeIfAbsent(nameOfSpace, entries);
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void put(String nameOfSpace, SpaceMetadata metadata) {
+        store(nameOfSpace, metadata);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void invalidate(String nameOfSpace) {
+        invalidations.incrementAndGet();
+        if (entries.remove(nameOfSpace) != null) {
+            namesOfSpaces.removeIfAbsent(nameOfSpace, entries);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of spaces currently cached.
+     *
+     * @return the number of spaces
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private Entry store(String nameOfSpace, SpaceMetadata metadata) {
+        if (entries.size() >= maxSize && !entries.containsKey(nameOfSpace)) {
+            makeRoom();
+        }
+        Entry entry = new Entry(metadata, nanoClock.getAsLong());
+        entries.put(nameOfSpace, entry);
+        namesOfSpaces.add(nameOfSpace);
+        return entry;
+    }
+
+    /**
+     * Evicts the spaces used least recently among small samples until there is room for another one.
+     * A cache no larger than a sample evicts exactly the space used least recently.
+     * The bound is approximate when spaces are stored concurrently.
+     */
+    private void makeRoom() {
+        while (entries.size() >= maxSize) {
+            String candidate = null;
+            Entry candidateEntry = null;
+            for (String nameOfSpace : namesOfSpaces.sample(EVICTION_SAMPLE_SIZE)) {
+                Entry entry = entries.get(nameOfSpace);
+                if (entry == null) {
+                    namesOfSpaces.removeIfAbsent(nameOfSpace, entries);
+                } else if (candidateEntry == null || entry.lastUsedAt - candidateEntry.lastUsedAt < 0) {
+                    candidate = nameOfSpace;
+                    candidateEntry = entry;
+                }
+            }
+            if (candidate == null) {
+                if (namesOfSpaces.size() == 0) {
+                    return;
+                }
+            } else if (entries.remove(candidate, candidateEntry)) {
+                namesOfSpaces.removeIfAbsent(candidate, entries);
+            }
+        }
+    }
+
+    /**
+     * The metadata of a space and the moment it was last used.
+     */
+    private static final class Entry {
+
+        private final SpaceMetadata metadata;
+        private volatile long lastUsedAt;
+
+        private Entry(SpaceMetadata metadata, long lastUsedAt) {
+            this.metadata = metadata;
+            this.lastUsedAt = lastUsedAt;
+        }
+    }
+}
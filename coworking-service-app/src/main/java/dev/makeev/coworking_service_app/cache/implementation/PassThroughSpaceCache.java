@@ -0,0 +1,56 @@
+package dev.makeev.coworking_service_app.cache.implementation;
+
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The {@code PassThroughSpaceCache} class implements the {@link SpaceCache} interface without
+ * keeping anything: every lookup reads the database and counts as a miss.
+ */
+public class PassThroughSpaceCache implements SpaceCache {
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<SpaceMetadata> get(String nameOfSpace, Function<String, Optional<SpaceMetadata>> loader) {
+        misses.increment();
+        return loader.apply(nameOfSpace);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void put(String nameOfSpace, SpaceMetadata metadata) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void invalidate(String nameOfSpace) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public long hits() {
+        return 0;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+}
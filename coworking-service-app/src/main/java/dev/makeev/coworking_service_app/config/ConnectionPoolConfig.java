@@ -0,0 +1,48 @@
+package dev.makeev.coworking_service_app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.makeev.coworking_service_app.pool.ConnectionPoolMetrics;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Attaches {@link ConnectionPoolMetrics} to the HikariCP pool configured by {@code spring.datasource.hikari}.
+ * The metrics are attached as soon as the data source is created, before the pool starts,
+ * whether or not the pool has already been wrapped by {@link TransactionConfig}.
+ */
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolMetrics connectionPoolMetrics(LatencyRegistry latencyRegistry) {
+        return new ConnectionPoolMetrics(latencyRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionPoolMetricsPostProcessor(
+            ObjectProvider<ConnectionPoolMetrics> connectionPoolMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    try {
+                        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                            dataSource.unwrap(HikariDataSource.class)
+                                    .setMetricsTrackerFactory(connectionPoolMetrics.getObject());
+                        }
+                    } catch (SQLException e) {
+                        throw new BeanInitializationException("Failed to unwrap the pool of " + beanName, e);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
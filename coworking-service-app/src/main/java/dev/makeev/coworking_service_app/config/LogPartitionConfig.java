@@ -0,0 +1,26 @@
+package dev.makeev.coworking_service_app.config;
+
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
+import dev.makeev.coworking_service_app.partition.LogPartitionMaintainer;
+import dev.makeev.coworking_service_app.partition.LogPartitionProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts the maintenance of the partitions of the activity log once Liquibase has created the partitioned log.
+ */
+@Configuration
+@EnableConfigurationProperties(LogPartitionProperties.class)
+public class LogPartitionConfig {
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    @ConditionalOnProperty(name = "coworking.log-partitions.enabled", havingValue = "true", matchIfMissing = true)
+    public LogPartitionMaintainer logPartitionMaintainer(LogPartitionDAO logPartitionDAO,
+                                                         LogPartitionProperties logPartitionProperties) {
+        return new LogPartitionMaintainer(logPartitionDAO, logPartitionProperties);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.makeev.coworking_service_app.config;
+
+import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.coworking_service_app.view.implementation.InMemorySpaceAvailabilityView;
+import dev.makeev.coworking_service_app.view.implementation.PassThroughSpaceAvailabilityView;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps the booking slots of all spaces in memory when {@code coworking.availability-view.enabled} is set
+ * to {@code true}. The view is loaded once all beans are created, which is before the web server accepts requests.
+ */
+@Configuration
+public class SpaceAvailabilityViewConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.availability-view.enabled", havingValue = "true")
+    public SpaceAvailabilityView inMemorySpaceAvailabilityView() {
+        return new InMemorySpaceAvailabilityView();
+    }
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    @ConditionalOnProperty(name = "coworking.availability-view.enabled", havingValue = "true")
+    public SmartInitializingSingleton spaceAvailabilityViewLoader(SpaceAvailabilityView spaceAvailabilityView,
+                                                                  SpaceDAO spaceDAO) {
+        return () -> spaceAvailabilityView.load(spaceDAO.getAllSpaces());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.availability-view.enabled", havingValue = "false", matchIfMissing = true)
+    public SpaceAvailabilityView passThroughSpaceAvailabilityView() {
+        return new PassThroughSpaceAvailabilityView();
+    }
+}
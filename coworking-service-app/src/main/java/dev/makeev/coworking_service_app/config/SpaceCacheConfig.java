@@ -0,0 +1,27 @@
+package dev.makeev.coworking_service_app.config;
+
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.cache.SpaceCacheProperties;
+import dev.makeev.coworking_service_app.cache.implementation.InMemorySpaceCache;
+import dev.makeev.coworking_service_app.cache.implementation.PassThroughSpaceCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SpaceCacheProperties.class)
+public class SpaceCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.space-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public SpaceCache inMemorySpaceCache(SpaceCacheProperties spaceCacheProperties) {
+        return new InMemorySpaceCache(spaceCacheProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.space-cache.enabled", havingValue = "false")
+    public SpaceCache passThroughSpaceCache() {
+        return new PassThroughSpaceCache();
+    }
+}
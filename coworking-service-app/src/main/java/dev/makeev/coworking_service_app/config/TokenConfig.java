@@ -0,0 +1,27 @@
+package dev.makeev.coworking_service_app.config;
+
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import dev.makeev.coworking_service_app.token.TokenStore;
+import dev.makeev.coworking_service_app.token.implementation.InMemoryTokenStore;
+import dev.makeev.coworking_service_app.token.implementation.SignedTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TokenProperties.class)
+public class TokenConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.token.mode", havingValue = "memory", matchIfMissing = true)
+    public TokenStore inMemoryTokenStore(TokenProperties tokenProperties) {
+        return new InMemoryTokenStore(tokenProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "coworking.token.mode", havingValue = "signed")
+    public TokenStore signedTokenStore(TokenProperties tokenProperties) {
+        return new SignedTokenStore(tokenProperties);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.makeev.coworking_service_app.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Lets the DAOs take part in the transactions of {@code @Transactional} service methods.
+ * The data source is wrapped in a {@link TransactionAwareDataSourceProxy}, so within a transaction
+ * every {@code getConnection()} of a DAO returns the connection of the transaction instead of
+ * checking out another one from the pool, and closing it leaves it to the transaction.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public static BeanPostProcessor transactionAwareDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TransactionAwareDataSourceProxy)) {
+                    return new TransactionAwareDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
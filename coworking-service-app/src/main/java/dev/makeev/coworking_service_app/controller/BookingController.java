@@ -3,13 +3,16 @@ package dev.makeev.coworking_service_app.controller;
 import dev.makeev.coworking_service_app.dto.ApiResponse;
 import dev.makeev.coworking_service_app.dto.BookingAddDTO;
 import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
 import dev.makeev.coworking_service_app.exceptions.BadRequestException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.BookingService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
+import dev.makeev.coworking_service_app.util.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -18,11 +21,14 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @SecurityRequirement(name = "apiKeyScheme")
@@ -32,27 +38,55 @@ import java.util.List;
 @RequestMapping(value = "/api/v1/bookings", produces = MediaType.APPLICATION_JSON_VALUE)
 public class BookingController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String DEFAULT_PAGE_SIZE = "100";
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final BookingService bookingService;
-    private final UserService userService;
+    private final NdjsonWriter ndjsonWriter;
 
-    @Operation(summary = "Get all bookings")
+    @Operation(summary = "Get all bookings",
+            description = "Returns one page of bookings. The token of the next page, if any, is sent in the "
+                    + NEXT_CURSOR_HEADER + " header and is passed back as the cursor parameter.")
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
-    List<BookingDTO> getBookings(HttpServletRequest request) {
-        String login = (String) request.getAttribute("login");
-        return userService.isAdmin(login)
-                ? bookingService.getAllBookingsSortedByUser()
-                : bookingService.getAllBookingsForUser(login);
+    List<BookingDTO> getBookings(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+                                 HttpServletResponse response) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException();
+        }
+        BookingPage page = principal.admin()
+                ? bookingService.getAllBookingsSortedByUser(cursor, limit)
+                : bookingService.getAllBookingsForUser(principal.login(), cursor, limit);
+        if (page.nextCursor() != null) {
+            response.setHeader(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return page.bookings();
+    }
+
+    @Operation(summary = "Stream all bookings",
+            description = "Returns every booking as newline-delimited JSON, written while the bookings are read.")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "stream=true", produces = NdjsonWriter.MEDIA_TYPE)
+    void streamBookings(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
+                        HttpServletResponse response) throws IOException {
+        if (principal.admin()) {
+            ndjsonWriter.write(response, bookingService::forEachBookingSortedByUser);
+        } else {
+            ndjsonWriter.<BookingDTO>write(response,
+                    action -> bookingService.forEachBookingForUser(principal.login(), action));
+        }
     }
 
     @Operation(summary = "Add new bookings")
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
-    ApiResponse addBooking(HttpServletRequest request,
+    ApiResponse addBooking(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
                            @Validated @RequestBody BookingAddDTO bookingAddDTO) {
-        String login = (String) request.getAttribute("login");
         if (isValidTime(bookingAddDTO)) {
-            bookingService.addBooking(login, bookingAddDTO);
+            bookingService.addBooking(principal.login(), bookingAddDTO);
             return new ApiResponse("Booking added successfully");
         } else {
             throw new BadRequestException();
@@ -77,13 +111,12 @@ public class BookingController {
     @Operation(summary = "Delete bookings by ID")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/{id}")
-    ApiResponse deleteBookings(HttpServletRequest request,
+    ApiResponse deleteBookings(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
                                                       @PathVariable long id) {
-        String login = (String) request.getAttribute("login");
-        if (userService.isAdmin(login)) {
-            bookingService.deleteBookingByIdByAdmin(login, id);
+        if (principal.admin()) {
+            bookingService.deleteBookingByIdByAdmin(principal.login(), id);
         } else {
-            bookingService.deleteBookingById(login, id);
+            bookingService.deleteBookingById(principal.login(), id);
         }
         return new ApiResponse("Booking with ID:" + id + " deleted successfully");
     }
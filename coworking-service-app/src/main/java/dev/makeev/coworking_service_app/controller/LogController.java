@@ -1,21 +1,29 @@
 package dev.makeev.coworking_service_app.controller;
 
 import dev.makeev.coworking_service_app.dto.LogOfUserActionDTO;
+import dev.makeev.coworking_service_app.exceptions.BadRequestException;
 import dev.makeev.coworking_service_app.exceptions.NoAdminException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.LogGetService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
+import dev.makeev.coworking_service_app.util.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,22 +37,58 @@ import java.util.List;
 public class LogController {
 
     private final LogGetService logService;
-    private final UserService userService;
+    private final NdjsonWriter ndjsonWriter;
 
     /**
-     * Retrieves logs of user actions.
+     * Retrieves logs of user actions of a period. A period only reads the monthly partitions of the log it covers.
      *
+     * @param principal the authenticated user
+     * @param from      the start of the period inclusive, the beginning of the log if not set
+     * @param to        the end of the period exclusive, the end of the log if not set
      * @return a list of LogOfUserActionDTO
      */
-    @Operation(summary = "Get all Logs", description = "Available only for Admin")
+    @Operation(summary = "Get all Logs",
+            description = "Available only for Admin. The optional from and to parameters (ISO date-time) limit the period.")
     @ResponseStatus(HttpStatus.OK)
     @GetMapping
-    List<LogOfUserActionDTO> getLog(HttpServletRequest request) {
-        String login = (String) request.getAttribute("login");
-        if (userService.isAdmin(login)) {
-            return logService.getLogs();
-        } else {
+    List<LogOfUserActionDTO> getLog(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
+                                    @RequestParam(required = false)
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                    @RequestParam(required = false)
+                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        checkAccess(principal, from, to);
+        return logService.getLogs(from, to);
+    }
+
+    /**
+     * Streams the logs of user actions of a period as newline-delimited JSON while they are read.
+     *
+     * @param principal the authenticated user
+     * @param from      the start of the period inclusive, the beginning of the log if not set
+     * @param to        the end of the period exclusive, the end of the log if not set
+     * @param response  the response to write the logs to
+     * @throws IOException if the response cannot be written
+     */
+    @Operation(summary = "Stream all Logs",
+            description = "Available only for Admin. The optional from and to parameters (ISO date-time) limit the period.")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "stream=true", produces = NdjsonWriter.MEDIA_TYPE)
+    void streamLog(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
+                   @RequestParam(required = false)
+                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                   @RequestParam(required = false)
+                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                   HttpServletResponse response) throws IOException {
+        checkAccess(principal, from, to);
+        ndjsonWriter.<LogOfUserActionDTO>write(response, action -> logService.forEachLog(from, to, action));
+    }
+
+    private static void checkAccess(AuthenticatedUser principal, LocalDateTime from, LocalDateTime to) {
+        if (!principal.admin()) {
             throw new NoAdminException();
         }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException();
+        }
     }
 }
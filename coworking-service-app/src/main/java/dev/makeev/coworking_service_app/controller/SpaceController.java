@@ -1,17 +1,18 @@
 package dev.makeev.coworking_service_app.controller;
 
 import dev.makeev.coworking_service_app.dto.ApiResponse;
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDeleteDTO;
 import dev.makeev.coworking_service_app.exceptions.BadRequestException;
 import dev.makeev.coworking_service_app.exceptions.NoAdminException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.SpaceService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,6 +20,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -37,7 +39,6 @@ import java.util.List;
 public class SpaceController {
 
     private final SpaceService spaceService;
-    private final UserService userService;
 
     /**
      * Retrieves all spaces.
@@ -51,6 +52,19 @@ public class SpaceController {
         return spaceService.getSpaces();
     }
 
+    /**
+     * Retrieves all spaces with the free slots of every day merged into intervals,
+     * e.g. {@code "09:00-17:00"} instead of eight hourly slots.
+     *
+     * @return a list of CompactSpaceDTO
+     */
+    @Operation(summary = "Get all Spaces with free intervals", description = "Spaces with free slots merged into intervals")
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "slots=intervals")
+    List<CompactSpaceDTO> getCompactSpaces() {
+        return spaceService.getCompactSpaces();
+    }
+
     /**
      * Adds a new space.
      *
@@ -60,10 +74,9 @@ public class SpaceController {
     @Operation(summary = "Add new Space", description = "Available only for Admin")
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
-    ApiResponse addSpace(HttpServletRequest request,
+    ApiResponse addSpace(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
                                 @Validated @RequestBody SpaceAddDTO spaceAddDTO) {
-        String login = (String) request.getAttribute("login");
-        if (isValid(login, spaceAddDTO)) {
+        if (isValid(principal, spaceAddDTO)) {
             spaceService.addSpace(spaceAddDTO);
             return new ApiResponse("Space " + spaceAddDTO.name() + " added successfully");
         } else {
@@ -74,11 +87,12 @@ public class SpaceController {
     /**
      * Validates the space data.
      *
+     * @param principal   the user of the request
      * @param spaceAddDTO the space data
      * @return true if valid, false otherwise
      */
-    private boolean isValid(String login, SpaceAddDTO spaceAddDTO) {
-        if (userService.isAdmin(login)) {
+    private boolean isValid(AuthenticatedUser principal, SpaceAddDTO spaceAddDTO) {
+        if (principal.admin()) {
             int minHourOfBeginning = 0;
             int maxHourOfEnding = 24;
 
@@ -99,10 +113,9 @@ public class SpaceController {
     @Operation(summary = "Space bookings by Name", description = "Available only for Admin")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping
-    ApiResponse deleteSpace(HttpServletRequest request,
+    ApiResponse deleteSpace(@RequestAttribute(AuthFilter.PRINCIPAL) AuthenticatedUser principal,
                                    @Validated @RequestBody SpaceDeleteDTO spaceDeleteDTO) {
-        String login = (String) request.getAttribute("login");
-        if (userService.isAdmin(login)) {
+        if (principal.admin()) {
             spaceService.deleteSpace(spaceDeleteDTO.name());
         } else {
             throw new NoAdminException();
@@ -1,20 +1,24 @@
 package dev.makeev.coworking_service_app.dao;
 
 import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * DAO interface for managing bookings.
  */
 public interface BookingDAO {
     /**
-     * Adds a booking for a user.
+     * Adds a booking for a user and reserves all slots of its range.
+     * The booking is stored only if every slot of the range exists and is free.
      *
      * @param booking the booking to be added
+     * @return {@code true} if the booking was stored, {@code false} if any slot of the range is not available
      */
-    void add(Booking booking);
+    boolean add(Booking booking);
 
     /**
      * Retrieves all bookings for a user.
@@ -25,19 +29,40 @@ public interface BookingDAO {
     Optional<Booking> getBookingById(long id);
 
     /**
-     * Retrieves all bookings for a user.
+     * Passes every booking of a user to an action, ordered by ID. The bookings are read in batches,
+     * so they are not all held in memory at once.
+     *
+     * @param login  the login of the user
+     * @param action the action to run for each booking
+     */
+    void forEachForUser(String login, Consumer<Booking> action);
+
+    /**
+     * Passes every booking to an action, ordered by login and ID. The bookings are read in batches,
+     * so they are not all held in memory at once.
+     *
+     * @param action the action to run for each booking
+     */
+    void forEach(Consumer<Booking> action);
+
+    /**
+     * Retrieves a page of the bookings of a user ordered by ID.
      *
-     * @param login the login of the user
-     * @return a list of bookings for the user
+     * @param login   the login of the user
+     * @param afterId the ID of the last booking of the previous page, or 0 for the first page
+     * @param limit   the maximum number of bookings
+     * @return the bookings with IDs greater than {@code afterId}
      */
-    List<Booking> getAllForUser(String login);
+    List<Booking> getPageForUser(String login, long afterId, int limit);
 
     /**
-     * Retrieves all bookings.
+     * Retrieves a page of all bookings ordered by login and ID.
      *
-     * @return a list of bookings
+     * @param after the position after the last booking of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of bookings
+     * @return the bookings following the position
      */
-    List<Booking> getAll();
+    List<Booking> getPage(BookingCursor after, int limit);
 
     /**
      * Deletes a booking by user login and booking ID.
@@ -0,0 +1,49 @@
+package dev.makeev.coworking_service_app.dao;
+
+import dev.makeev.coworking_service_app.model.LogOfUserAction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code LogDAO} interface provides methods for managing the persistence
+ * of the activity log of users.
+ */
+public interface LogDAO {
+
+    void add(LogOfUserAction logOfUserAction);
+
+    /**
+     * Adds several actions to the log in one batch.
+     *
+     * @param logsOfUserActions The actions to add.
+     */
+    void addAll(List<LogOfUserAction> logsOfUserActions);
+
+    /**
+     * Retrieves all actions of the log.
+     *
+     * @return A list of all actions.
+     */
+    List<LogOfUserAction> getAll();
+
+    /**
+     * Retrieves the actions of a period. Only the partitions of the months of the period are read.
+     *
+     * @param from The start of the period inclusive, or {@code null} for the beginning of the log.
+     * @param to   The end of the period exclusive, or {@code null} for the end of the log.
+     * @return A list of the actions of the period.
+     */
+    List<LogOfUserAction> getBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Passes every action of a period to another action. The log is read in batches,
+     * so it is not held in memory all at once.
+     *
+     * @param from   The start of the period inclusive, or {@code null} for the beginning of the log.
+     * @param to     The end of the period exclusive, or {@code null} for the end of the log.
+     * @param action The action to run for each action of the log.
+     */
+    void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<LogOfUserAction> action);
+}
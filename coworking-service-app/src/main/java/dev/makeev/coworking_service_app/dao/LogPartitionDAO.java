@@ -0,0 +1,40 @@
+package dev.makeev.coworking_service_app.dao;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * The {@code LogPartitionDAO} interface provides methods for managing the monthly partitions
+ * of the activity log of users.
+ */
+public interface LogPartitionDAO {
+
+    /**
+     * Creates the partition holding the actions of a month, unless it exists.
+     *
+     * @param month The month of the partition.
+     */
+    void createPartition(YearMonth month);
+
+    /**
+     * Retrieves the months having a partition attached to the log.
+     *
+     * @return The months of the partitions, in no particular order.
+     */
+    List<YearMonth> getPartitions();
+
+    /**
+     * Drops the partition of a month together with its actions.
+     *
+     * @param month The month of the partition.
+     */
+    void dropPartition(YearMonth month);
+
+    /**
+     * Detaches the partition of a month from the log. Its actions are no longer read through the log
+     * and are kept in a table of their own, to be archived and dropped outside of the application.
+     *
+     * @param month The month of the partition.
+     */
+    void detachPartition(YearMonth month);
+}
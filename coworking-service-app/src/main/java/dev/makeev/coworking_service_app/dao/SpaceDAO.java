@@ -1,5 +1,6 @@
 package dev.makeev.coworking_service_app.dao;
 
+import dev.makeev.coworking_service_app.model.BookingRange;
 import dev.makeev.coworking_service_app.model.Space;
 
 import java.util.List;
@@ -25,6 +26,13 @@ public interface SpaceDAO {
      */
     List<String> getNamesOfSpaces();
 
+    /**
+     * Retrieves all spaces with their booking slots using a single query.
+     *
+     * @return a list of all spaces ordered by name
+     */
+    List<Space> getAllSpaces();
+
     /**
      * Retrieves a space by its name.
      *
@@ -33,6 +41,17 @@ public interface SpaceDAO {
      */
     Optional<Space> getSpaceByName(String nameOfSpace);
 
+    /**
+     * Retrieves a space by its name with only the booking slots of the days of the booking range.
+     * Whole days are returned, so that a day of the range covering no hours, e.g. the last day of a booking
+     * ending at the opening hour, can still be told apart from a day that is not available for booking.
+     *
+     * @param nameOfSpace  the name of the space
+     * @param bookingRange the range of the booking
+     * @return the space with the specified name and the slots of the days of the range
+     */
+    Optional<Space> getSpaceByNameForRange(String nameOfSpace, BookingRange bookingRange);
+
     /**
      * Deletes a space by its name.
      *
@@ -1,12 +1,17 @@
 package dev.makeev.coworking_service_app.dao.implementation;
 
+import dev.makeev.coworking_service_app.cache.SpaceCache;
 import dev.makeev.coworking_service_app.dao.BookingDAO;
 import dev.makeev.coworking_service_app.enums.SQLRequest;
 import dev.makeev.coworking_service_app.exceptions.DaoException;
 import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
 import dev.makeev.coworking_service_app.model.BookingRange;
 import dev.makeev.coworking_service_app.model.WorkingHours;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -16,70 +21,62 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The {@code BookingDAOInBd} class implements the {@link BookingDAO} interface.
  * It provides methods to interact with the database to manage Booking entities.
+ * A booking reserves the rows of booking slots covered by its range.
+ * Committed bookings are passed on to the {@link SpaceAvailabilityView}.
  */
 @Component
+@ConditionalOnProperty(name = "coworking.booking.storage", havingValue = "slots", matchIfMissing = true)
 @RequiredArgsConstructor
 public class BookingDAOInBd implements BookingDAO {
 
-    private final DataSource dataSource;
-
     /**
-     * {@inheritdoc}
+     * SQL state of PostgreSQL reported when a booking overlaps another booking of the same space.
      */
-    @Override
-    public void add(Booking newBooking) {
-        try (Connection connection = dataSource.getConnection()) {
-            setAutoCommit(connection, false);
-            try {
-                long bookingId = addBooking(connection, newBooking);
-                reserveSlots(connection, newBooking, bookingId);
-                connection.commit();
-            } catch (SQLException e) {
-                rollback(connection);
-                throw new DaoException("SQL error occurred", e);
-            } finally {
-                setAutoCommit(connection, true);
-            }
-        } catch (SQLException e) {
-            throw new DaoException("Failed to open connection", e);
-        }
-    }
+    static final String EXCLUSION_VIOLATION = "23P01";
 
-    /**
-     * Rolls back the given SQL connection.
-     *
-     * @param connection The SQL connection to be rolled back.
-     * @throws DaoException If the rollback operation fails.
-     */
-    private void rollback(Connection connection) {
-        try {
-            connection.rollback();
-        } catch (SQLException rollbackException) {
-            throw new DaoException("Rollback failed", rollbackException);
-        }
-    }
+    protected final DataSource dataSource;
+    protected final SpaceCache spaceCache;
+    protected final SpaceAvailabilityView spaceAvailabilityView;
 
     /**
-     * Sets the auto-commit mode of the given SQL connection.
-     *
-     * @param connection The SQL connection for which to set the auto-commit mode.
-     * @param autoCommit The desired auto-commit mode (true or false).
-     * @throws DaoException If setting the auto-commit mode fails.
+     * {@inheritdoc}
+     * <p>
+     * Uses one connection and a constant number of statements regardless of the length of the range:
+     * the slots are reserved by a single conditional {@code UPDATE} that only touches free slots,
+     * and the unit of work is rolled back if it did not reserve every slot of the range.
      */
-    private void setAutoCommit(Connection connection, boolean autoCommit) {
+    @LoggingTime
+    @Override
+    public boolean add(Booking newBooking) {
+        long bookingId;
         try {
-            connection.setAutoCommit(autoCommit);
+            bookingId = UnitOfWork.execute(dataSource, connection -> {
+                WorkingHours workingHours = getWorkingHoursOfSpaceByName(connection, newBooking.nameOfBookingSpace());
+                long newBookingId = addBooking(connection, newBooking);
+                boolean reserved = reserveSlots(connection, newBooking, newBookingId)
+                        == numberOfSlots(newBooking.bookingRange(), workingHours);
+                return reserved ? newBookingId : 0L;
+            }, newBookingId -> newBookingId != 0L);
         } catch (SQLException e) {
-            throw new DaoException("Failed to set autoCommit to " + autoCommit, e);
+            if (EXCLUSION_VIOLATION.equals(e.getSQLState())) {
+                return false;
+            }
+            throw new DaoException("SQL error occurred", e);
         }
+        if (bookingId == 0L) {
+            return false;
+        }
+        UnitOfWork.afterCommit(() -> spaceAvailabilityView.bookingAdded(bookingId, newBooking));
+        return true;
     }
 
     /**
@@ -88,8 +85,9 @@ public class BookingDAOInBd implements BookingDAO {
      * @param connection the database connection
      * @param newBooking the new booking to add
      * @return the generated booking ID
+     * @throws SQLException if a database access error occurs
      */
-    private long addBooking(Connection connection, Booking newBooking) {
+    private static long addBooking(Connection connection, Booking newBooking) throws SQLException {
         try (PreparedStatement addSpaceStatement = connection.prepareStatement(
                 SQLRequest.ADD_BOOKING_SQL.getQuery(),
                 Statement.RETURN_GENERATED_KEYS)) {
@@ -108,90 +106,126 @@ public class BookingDAOInBd implements BookingDAO {
                     throw new SQLException("Creating booking failed, no ID obtained.");
                 }
             }
-        } catch (SQLException e) {
-            throw new DaoException("Failed to add booking", e);
         }
     }
 
     /**
-     * Updates the booking slots for a given booking.
+     * Reserves the free booking slots of the range for a given booking.
      *
      * @param connection the database connection
      * @param newBooking the new booking
      * @param bookingId  the booking ID
+     * @return the number of reserved slots
+     * @throws SQLException if a database access error occurs
      */
-    private void reserveSlots(Connection connection, Booking newBooking, Long bookingId) {
-        LocalDate startDate = newBooking.bookingRange().beginningBookingDate();
-        LocalDate endDate = newBooking.bookingRange().endingBookingDate();
-        int startHourBooking = newBooking.bookingRange().beginningBookingHour();
-        int endHourBooking = newBooking.bookingRange().endingBookingHour();
-
-        WorkingHours workingHours = getWorkingHoursOfSpaceByName(newBooking.nameOfBookingSpace());
+    private static int reserveSlots(Connection connection, Booking newBooking, long bookingId) throws SQLException {
+        BookingRange bookingRange = newBooking.bookingRange();
+        Date startDate = Date.valueOf(bookingRange.beginningBookingDate());
+        Date endDate = Date.valueOf(bookingRange.endingBookingDate());
 
-        try (PreparedStatement updateSlotsStatement =
+        try (PreparedStatement reserveSlotsStatement =
                      connection.prepareStatement(SQLRequest.BOOK_SLOTS_SQL.getQuery())) {
+            reserveSlotsStatement.setLong(1, bookingId);
+            reserveSlotsStatement.setString(2, newBooking.nameOfBookingSpace());
+            reserveSlotsStatement.setDate(3, startDate);
+            reserveSlotsStatement.setDate(4, endDate);
+            reserveSlotsStatement.setDate(5, startDate);
+            reserveSlotsStatement.setInt(6, bookingRange.beginningBookingHour());
+            reserveSlotsStatement.setDate(7, endDate);
+            reserveSlotsStatement.setInt(8, bookingRange.endingBookingHour());
+            return reserveSlotsStatement.executeUpdate();
+        }
+    }
 
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                int startHour = workingHours.hourOfBeginningWorkingDay();
-                int endHour = workingHours.hourOfEndingWorkingDay();
-
-                if (date.isEqual(startDate)) {
-                    startHour = startHourBooking;
-                }
-                if (date.isEqual(endDate)) {
-                    endHour = endHourBooking;
-                }
-
-                for (int hour = startHour; hour < endHour; hour++) {
-                    updateSlotsStatement.setLong(1, bookingId);
-                    updateSlotsStatement.setString(2, newBooking.nameOfBookingSpace());
-                    updateSlotsStatement.setDate(3, Date.valueOf(date));
-                    updateSlotsStatement.setInt(4, hour);
-                    updateSlotsStatement.addBatch();
-                }
-            }
-            updateSlotsStatement.executeBatch();
-        } catch (SQLException e) {
-            throw new DaoException("Failed to booking slots", e);
+    /**
+     * Calculates the number of slots covered by a booking range.
+     *
+     * @param bookingRange the range of the booking
+     * @param workingHours the working hours of the space
+     * @return the number of slots in the range
+     */
+    private static long numberOfSlots(BookingRange bookingRange, WorkingHours workingHours) {
+        long days = ChronoUnit.DAYS.between(bookingRange.beginningBookingDate(), bookingRange.endingBookingDate());
+        if (days == 0) {
+            return Math.max(0, bookingRange.endingBookingHour() - bookingRange.beginningBookingHour());
         }
+        return Math.max(0, workingHours.hourOfEndingWorkingDay() - bookingRange.beginningBookingHour())
+                + (days - 1) * (workingHours.hourOfEndingWorkingDay() - workingHours.hourOfBeginningWorkingDay())
+                + Math.max(0, bookingRange.endingBookingHour() - workingHours.hourOfBeginningWorkingDay());
     }
 
     /**
-     * Retrieves the working hours of a space identified by its name from the database.
+     * Retrieves the working hours of a space identified by its name, from the cache of space metadata if possible.
      *
+     * @param connection the database connection
      * @param spaceName The name of the space to retrieve working hours for.
      * @return A {@link WorkingHours} object representing the working hours of the space.
      */
-    private WorkingHours getWorkingHoursOfSpaceByName(String spaceName) {
-        try (Connection connection = dataSource.getConnection();
-             PreparedStatement getWorkingHoursStatement =
-                     connection.prepareStatement(SQLRequest.GET_WORKING_HOURS_OF_SPACE_BY_NAME_SQL.getQuery())) {
-            getWorkingHoursStatement.setString(1, spaceName);
+    private WorkingHours getWorkingHoursOfSpaceByName(Connection connection, String spaceName) {
+        return SpaceDAOInBd.getSpaceMetadata(spaceCache, connection, spaceName)
+                .orElseThrow(() -> new DaoException("Space not found: " + spaceName, new SQLException()))
+                .workingHours();
+    }
 
-            try (ResultSet resultSet = getWorkingHoursStatement.executeQuery()){
-                if (resultSet.next()) {
-                    int hourOfBeginning = resultSet.getInt("hour_of_beginning_working_day");
-                    int hourOfEnding = resultSet.getInt("hour_of_ending_working_day");
-                    return new WorkingHours(hourOfBeginning, hourOfEnding);
-                } else {
-                    throw new DaoException("Space not found: " + spaceName, new SQLException());
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void forEachForUser(String login, Consumer<Booking> action) {
+        forEachBooking(SQLRequest.GET_ALL_BOOKINGS_FOR_USER_SORTED_BY_ID_SQL, action, login);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void forEach(Consumer<Booking> action) {
+        forEachBooking(SQLRequest.GET_ALL_BOOKINGS_SORTED_BY_USER_SQL, action);
+    }
+
+    /**
+     * Runs a query of bookings through a server-side cursor, passing each booking to the action as soon as
+     * its batch has been fetched. The connection is held until the action has run for the last booking.
+     *
+     * @param request    the query of bookings
+     * @param action     the action to run for each booking
+     * @param parameters the string parameters of the query
+     */
+    private void forEachBooking(SQLRequest request, Consumer<Booking> action, String... parameters) {
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(request.getQuery())) {
+                    statement.setFetchSize(UnitOfWork.FETCH_SIZE);
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setString(i + 1, parameters[i]);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            action.accept(toBooking(resultSet));
+                        }
+                    }
                 }
-            }
+                return null;
+            });
         } catch (SQLException e) {
-            throw new DaoException("Failed to get working hours of space", e);
+            throw new DaoException(e);
         }
     }
 
-
     /**
      * {@inheritdoc}
+     * <p>
+     * Seeks by ID on the index on login and ID instead of skipping the bookings of previous pages.
      */
     @Override
-    public List<Booking> getAllForUser(String login) {
+    public List<Booking> getPageForUser(String login, long afterId, int limit) {
         try (Connection connection = dataSource.getConnection();
              PreparedStatement statement = connection.prepareStatement(
-                     SQLRequest.GET_ALL_BOOKINGS_FOR_USER_SQL.getQuery())) {
+                     SQLRequest.GET_PAGE_OF_BOOKINGS_FOR_USER_SQL.getQuery())) {
             statement.setString(1, login);
+            statement.setLong(2, afterId);
+            statement.setInt(3, limit);
             return getBookings(statement);
         } catch (SQLException e) {
             throw new DaoException(e);
@@ -200,12 +234,23 @@ public class BookingDAOInBd implements BookingDAO {
 
     /**
      * {@inheritdoc}
+     * <p>
+     * Seeks by login and ID on the index on both columns, so the database reads only the rows of the page
+     * however deep the page is.
      */
     @Override
-    public List<Booking> getAll() {
+    public List<Booking> getPage(BookingCursor after, int limit) {
+        SQLRequest request = after == null
+                ? SQLRequest.GET_FIRST_PAGE_OF_BOOKINGS_SQL
+                : SQLRequest.GET_NEXT_PAGE_OF_BOOKINGS_SQL;
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement statement = connection.prepareStatement(
-                     SQLRequest.GET_ALL_BOOKINGS_SQL.getQuery())) {
+             PreparedStatement statement = connection.prepareStatement(request.getQuery())) {
+            int parameter = 1;
+            if (after != null) {
+                statement.setString(parameter++, after.login());
+                statement.setLong(parameter++, after.id());
+            }
+            statement.setInt(parameter, limit);
             return getBookings(statement);
         } catch (SQLException e) {
             throw new DaoException(e);
@@ -216,19 +261,7 @@ public class BookingDAOInBd implements BookingDAO {
         try (ResultSet resultSet = statement.executeQuery()) {
             List<Booking> listOfTrainingsOfUser = new ArrayList<>();
             while (resultSet.next()) {
-                BookingRange nextBookingRange = new BookingRange(
-                        resultSet.getDate("beginning_booking_date").toLocalDate(),
-                        resultSet.getInt("beginning_booking_hour"),
-                        resultSet.getDate("ending_booking_date").toLocalDate(),
-                        resultSet.getInt("ending_booking_hour"));
-
-                Booking nextBooking = new Booking(
-                        resultSet.getLong("id"),
-                        resultSet.getString("login"),
-                        resultSet.getString("name_of_space"),
-                        nextBookingRange);
-
-                listOfTrainingsOfUser.add(nextBooking);
+                listOfTrainingsOfUser.add(toBooking(resultSet));
             }
             return listOfTrainingsOfUser;
         } catch (SQLException e) {
@@ -236,6 +269,20 @@ public class BookingDAOInBd implements BookingDAO {
         }
     }
 
+    private static Booking toBooking(ResultSet resultSet) throws SQLException {
+        BookingRange bookingRange = new BookingRange(
+                resultSet.getDate("beginning_booking_date").toLocalDate(),
+                resultSet.getInt("beginning_booking_hour"),
+                resultSet.getDate("ending_booking_date").toLocalDate(),
+                resultSet.getInt("ending_booking_hour"));
+
+        return new Booking(
+                resultSet.getLong("id"),
+                resultSet.getString("login"),
+                resultSet.getString("name_of_space"),
+                bookingRange);
+    }
+
     /**
      * {@inheritdoc}
      */
@@ -268,23 +315,19 @@ public class BookingDAOInBd implements BookingDAO {
     /**
      * {@inheritdoc}
      */
+    @LoggingTime
     @Override
     public void delete(long idOfBooking) {
-        try (Connection connection = dataSource.getConnection()) {
-            setAutoCommit(connection, false);
-            try {
+        String nameOfSpace;
+        try {
+            nameOfSpace = UnitOfWork.execute(dataSource, connection -> {
                 updateSlots(idOfBooking, connection);
-                deleteBookingById(idOfBooking, connection);
-                connection.commit();
-            } catch (SQLException e) {
-                rollback(connection);
-                throw new DaoException("SQL error occurred", e);
-            } finally {
-                setAutoCommit(connection, true);
-            }
+                return deleteBookingById(idOfBooking, connection);
+            });
         } catch (SQLException e) {
-            throw new DaoException("Failed to open connection", e);
+            throw new DaoException("SQL error occurred", e);
         }
+        bookingDeleted(nameOfSpace, idOfBooking);
     }
 
     /**
@@ -292,13 +335,28 @@ public class BookingDAOInBd implements BookingDAO {
      *
      * @param idOfBooking the ID of the booking to delete
      * @param connection  the database connection
+     * @return the name of the space of the deleted booking, or {@code null} if the booking did not exist
      * @throws SQLException if booking not exist.
      */
-    private static void deleteBookingById(long idOfBooking, Connection connection) throws SQLException {
+    static String deleteBookingById(long idOfBooking, Connection connection) throws SQLException {
         try (PreparedStatement statementDeleteBooking =
                      connection.prepareStatement(SQLRequest.DELETE_BOOKING_SQL.getQuery())) {
             statementDeleteBooking.setLong(1, idOfBooking);
-            statementDeleteBooking.executeUpdate();
+            try (ResultSet resultSet = statementDeleteBooking.executeQuery()) {
+                return resultSet.next() ? resultSet.getString("name_of_space") : null;
+            }
+        }
+    }
+
+    /**
+     * Frees the slots of a deleted booking in the view of available slots once the deletion is committed.
+     *
+     * @param nameOfSpace the name of the space of the booking, or {@code null} if no booking was deleted
+     * @param idOfBooking the ID of the booking
+     */
+    protected void bookingDeleted(String nameOfSpace, long idOfBooking) {
+        if (nameOfSpace != null) {
+            UnitOfWork.afterCommit(() -> spaceAvailabilityView.bookingDeleted(nameOfSpace, idOfBooking));
         }
     }
 
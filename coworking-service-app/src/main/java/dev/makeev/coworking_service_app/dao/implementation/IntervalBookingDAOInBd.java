@@ -0,0 +1,94 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.enums.SQLRequest;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The {@code IntervalBookingDAOInBd} class implements the {@link BookingDAO} interface without
+ * materialized booking slots. A booking is stored as a time range only, and overlapping bookings
+ * of a space are rejected by the exclusion constraint on the range.
+ */
+@Component
+@ConditionalOnProperty(name = "coworking.booking.storage", havingValue = "intervals")
+public class IntervalBookingDAOInBd extends BookingDAOInBd {
+
+    public IntervalBookingDAOInBd(DataSource dataSource, SpaceCache spaceCache,
+                                  SpaceAvailabilityView spaceAvailabilityView) {
+        super(dataSource, spaceCache, spaceAvailabilityView);
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * Uses a single {@code INSERT} that stores the booking only if the range lies within the period
+     * available for booking and the working hours of the space.
+     */
+    @LoggingTime
+    @Override
+    public boolean add(Booking newBooking) {
+        BookingRange bookingRange = newBooking.bookingRange();
+        Date startDate = Date.valueOf(bookingRange.beginningBookingDate());
+        Date endDate = Date.valueOf(bookingRange.endingBookingDate());
+
+        long bookingId;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     SQLRequest.ADD_BOOKING_IN_BOOKING_PERIOD_SQL.getQuery(), Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, newBooking.login());
+            statement.setDate(2, startDate);
+            statement.setInt(3, bookingRange.beginningBookingHour());
+            statement.setDate(4, endDate);
+            statement.setInt(5, bookingRange.endingBookingHour());
+            statement.setString(6, newBooking.nameOfBookingSpace());
+            statement.setDate(7, startDate);
+            statement.setDate(8, endDate);
+            statement.setInt(9, bookingRange.beginningBookingHour());
+            statement.setInt(10, bookingRange.endingBookingHour());
+            statement.executeUpdate();
+            try (ResultSet generatedId = statement.getGeneratedKeys()) {
+                if (!generatedId.next()) {
+                    return false;
+                }
+                bookingId = generatedId.getLong(1);
+            }
+        } catch (SQLException e) {
+            if (EXCLUSION_VIOLATION.equals(e.getSQLState())) {
+                return false;
+            }
+            throw new DaoException("Failed to add booking", e);
+        }
+        UnitOfWork.afterCommit(() -> spaceAvailabilityView.bookingAdded(bookingId, newBooking));
+        return true;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @LoggingTime
+    @Override
+    public void delete(long idOfBooking) {
+        String nameOfSpace;
+        try (Connection connection = dataSource.getConnection()) {
+            nameOfSpace = deleteBookingById(idOfBooking, connection);
+        } catch (SQLException e) {
+            throw new DaoException("SQL error occurred", e);
+        }
+        bookingDeleted(nameOfSpace, idOfBooking);
+    }
+}
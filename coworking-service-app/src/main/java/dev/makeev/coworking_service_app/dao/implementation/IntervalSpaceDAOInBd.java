@@ -0,0 +1,325 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.enums.SQLRequest;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code IntervalSpaceDAOInBd} class implements the {@link SpaceDAO} interface without
+ * materialized booking slots. Only the working hours and the period available for booking
+ * are stored for a space, and the booking slots are computed from them minus the time
+ * ranges of the bookings of the space.
+ */
+@Component
+@ConditionalOnProperty(name = "coworking.booking.storage", havingValue = "intervals")
+public class IntervalSpaceDAOInBd extends SpaceDAOInBd {
+
+    public IntervalSpaceDAOInBd(DataSource dataSource, SpaceCache spaceCache,
+                                SpaceAvailabilityView spaceAvailabilityView) {
+        super(dataSource, spaceCache, spaceAvailabilityView);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void add(Space newSpace) {
+        try (Connection connection = dataSource.getConnection()) {
+            addSpace(newSpace, connection);
+        } catch (SQLException e) {
+            throw new DaoException("SQL error occurred", e);
+        }
+        UnitOfWork.afterCommit(() -> {
+            spaceCache.put(newSpace.name(), metadataOf(newSpace));
+            spaceAvailabilityView.spaceAdded(newSpace);
+        });
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @LoggingTime
+    @Override
+    public Optional<Space> getSpaceByName(String nameOfSpace) {
+        return getSpace(nameOfSpace, null);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @LoggingTime
+    @Override
+    public Optional<Space> getSpaceByNameForRange(String nameOfSpace, BookingRange bookingRange) {
+        return getSpace(nameOfSpace, new BookingRange(bookingRange.beginningBookingDate(), 0,
+                bookingRange.endingBookingDate(), SlotOccupancy.HOURS_PER_DAY));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void delete(String nameOfSpace) {
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
+                deleteByName(connection, SQLRequest.DELETE_BOOKING_FOR_SPACE_SQL, nameOfSpace);
+                deleteByName(connection, SQLRequest.DELETE_SPACE_SQL, nameOfSpace);
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new DaoException("SQL error occurred", e);
+        }
+        UnitOfWork.afterCommit(() -> {
+            spaceCache.invalidate(nameOfSpace);
+            spaceAvailabilityView.spaceDeleted(nameOfSpace);
+        });
+    }
+
+    /**
+     * Retrieves a space by its name with the booking slots computed for the given range.
+     *
+     * @param nameOfSpace  the name of the space
+     * @param bookingRange the range of the slots, or {@code null} for the whole period available for booking
+     * @return the space with the specified name
+     */
+    private Optional<Space> getSpace(String nameOfSpace, BookingRange bookingRange) {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<SpaceMetadata> metadata = getSpaceMetadata(spaceCache, connection, nameOfSpace);
+            if (metadata.isEmpty()) {
+                return Optional.empty();
+            }
+            WorkingHours workingHours = metadata.get().workingHours();
+            BookingRange bookingPeriod = getBookingPeriod(metadata.get());
+            if (bookingPeriod == null) {
+                return Optional.of(new Space(nameOfSpace, workingHours, SlotOccupancy.empty()));
+            }
+            SlotOccupancy bookingSlots = getBookingSlots(connection, nameOfSpace, workingHours, bookingPeriod,
+                    bookingRange == null ? bookingPeriod : bookingRange);
+            return Optional.of(new Space(nameOfSpace, workingHours, bookingSlots));
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving space by name", e);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The spaces are joined with all their bookings, so the booking slots of every space are computed
+     * from a single result set.
+     */
+    @LoggingTime
+    @Override
+    public List<Space> getAllSpaces() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     SQLRequest.GET_ALL_SPACES_WITH_BOOKINGS_SQL.getQuery());
+             ResultSet resultSet = statement.executeQuery()) {
+            List<Space> spaces = new ArrayList<>();
+            String nameOfSpace = null;
+            WorkingHours workingHours = null;
+            BookingRange bookingPeriod = null;
+            SlotOccupancy.Builder bookingSlots = null;
+            while (resultSet.next()) {
+                String nextNameOfSpace = resultSet.getString("name");
+                if (!nextNameOfSpace.equals(nameOfSpace)) {
+                    if (nameOfSpace != null) {
+                        spaces.add(new Space(nameOfSpace, workingHours, bookingSlots.build()));
+                    }
+                    nameOfSpace = nextNameOfSpace;
+                    workingHours = new WorkingHours(
+                            resultSet.getInt("hour_of_beginning_working_day"),
+                            resultSet.getInt("hour_of_ending_working_day"));
+                    bookingPeriod = getBookingPeriod(resultSet, workingHours);
+                    bookingSlots = SlotOccupancy.builder();
+                    if (bookingPeriod != null) {
+                        addFreeSlots(bookingSlots, workingHours, bookingPeriod, bookingPeriod);
+                    }
+                }
+                long bookingId = resultSet.getLong("id");
+                if (bookingId != 0L && bookingPeriod != null) {
+                    addBookedSlots(bookingSlots, workingHours, bookingPeriod, bookingPeriod,
+                            getBookedRange(resultSet), bookingId);
+                }
+            }
+            if (nameOfSpace != null) {
+                spaces.add(new Space(nameOfSpace, workingHours, bookingSlots.build()));
+            }
+            return spaces;
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving spaces", e);
+        }
+    }
+
+    /**
+     * Computes the booking slots of a range from the working hours of the space and the bookings overlapping the range.
+     *
+     * @param connection    the database connection
+     * @param nameOfSpace   the name of the space
+     * @param workingHours  the working hours of the space
+     * @param bookingPeriod the period available for booking
+     * @param bookingRange  the range of the slots
+     * @return the booking slots of the range
+     * @throws SQLException if a database access error occurs
+     */
+    private static SlotOccupancy getBookingSlots(Connection connection, String nameOfSpace, WorkingHours workingHours,
+                                                 BookingRange bookingPeriod, BookingRange bookingRange) throws SQLException {
+        SlotOccupancy.Builder bookingSlots = SlotOccupancy.builder();
+        addFreeSlots(bookingSlots, workingHours, bookingPeriod, bookingRange);
+
+        try (PreparedStatement bookingsStatement = connection.prepareStatement(
+                SQLRequest.GET_BOOKINGS_OF_SPACE_IN_PERIOD_SQL.getQuery())) {
+            bookingsStatement.setString(1, nameOfSpace);
+            bookingsStatement.setTimestamp(2,
+                    timestamp(bookingRange.beginningBookingDate(), bookingRange.beginningBookingHour()));
+            bookingsStatement.setTimestamp(3,
+                    timestamp(bookingRange.endingBookingDate(), bookingRange.endingBookingHour()));
+            try (ResultSet resultSet = bookingsStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    addBookedSlots(bookingSlots, workingHours, bookingPeriod, bookingRange,
+                            getBookedRange(resultSet), resultSet.getLong("id"));
+                }
+            }
+        }
+        return bookingSlots.build();
+    }
+
+    /**
+     * Returns the period available for booking of a space.
+     *
+     * @param metadata the metadata of the space
+     * @return the period available for booking, or {@code null} if the space has none
+     */
+    private static BookingRange getBookingPeriod(SpaceMetadata metadata) {
+        if (metadata.firstDateForBooking() == null || metadata.lastDateForBooking() == null) {
+            return null;
+        }
+        return new BookingRange(metadata.firstDateForBooking(), metadata.workingHours().hourOfBeginningWorkingDay(),
+                metadata.lastDateForBooking(), metadata.workingHours().hourOfEndingWorkingDay());
+    }
+
+    /**
+     * Reads the period available for booking of the current space row.
+     *
+     * @param resultSet    the result set positioned on a space row
+     * @param workingHours the working hours of the space
+     * @return the period available for booking, or {@code null} if the space has none
+     * @throws SQLException if a database access error occurs
+     */
+    private static BookingRange getBookingPeriod(ResultSet resultSet, WorkingHours workingHours) throws SQLException {
+        Date firstDate = resultSet.getDate("first_date_for_booking");
+        Date lastDate = resultSet.getDate("last_date_for_booking");
+        if (firstDate == null || lastDate == null) {
+            return null;
+        }
+        return new BookingRange(firstDate.toLocalDate(), workingHours.hourOfBeginningWorkingDay(),
+                lastDate.toLocalDate(), workingHours.hourOfEndingWorkingDay());
+    }
+
+    /**
+     * Reads the range of the booking of the current row.
+     *
+     * @param resultSet the result set positioned on a booking row
+     * @return the range of the booking
+     * @throws SQLException if a database access error occurs
+     */
+    private static BookingRange getBookedRange(ResultSet resultSet) throws SQLException {
+        return new BookingRange(
+                resultSet.getDate("beginning_booking_date").toLocalDate(),
+                resultSet.getInt("beginning_booking_hour"),
+                resultSet.getDate("ending_booking_date").toLocalDate(),
+                resultSet.getInt("ending_booking_hour"));
+    }
+
+    /**
+     * Adds every working hour of the range within the period available for booking as a free slot.
+     *
+     * @param bookingSlots  the builder of the booking slots
+     * @param workingHours  the working hours of the space
+     * @param bookingPeriod the period available for booking
+     * @param bookingRange  the range of the slots
+     */
+    private static void addFreeSlots(SlotOccupancy.Builder bookingSlots, WorkingHours workingHours,
+                                     BookingRange bookingPeriod, BookingRange bookingRange) {
+        LocalDate lastDate = min(bookingPeriod.endingBookingDate(), bookingRange.endingBookingDate());
+        for (LocalDate date = max(bookingPeriod.beginningBookingDate(), bookingRange.beginningBookingDate());
+             !date.isAfter(lastDate); date = date.plusDays(1)) {
+            bookingSlots.addHours(date, hoursOnDate(bookingRange, date, workingHours), 0L);
+        }
+    }
+
+    /**
+     * Marks the slots of the range covered by a booking as booked.
+     *
+     * @param bookingSlots  the builder of the booking slots
+     * @param workingHours  the working hours of the space
+     * @param bookingPeriod the period available for booking
+     * @param bookingRange  the range of the slots
+     * @param bookedRange   the range of the booking
+     * @param bookingId     the ID of the booking
+     */
+    private static void addBookedSlots(SlotOccupancy.Builder bookingSlots, WorkingHours workingHours,
+                                       BookingRange bookingPeriod, BookingRange bookingRange,
+                                       BookingRange bookedRange, long bookingId) {
+        LocalDate firstDate = max(max(bookingPeriod.beginningBookingDate(), bookingRange.beginningBookingDate()),
+                bookedRange.beginningBookingDate());
+        LocalDate lastDate = min(min(bookingPeriod.endingBookingDate(), bookingRange.endingBookingDate()),
+                bookedRange.endingBookingDate());
+        for (LocalDate date = firstDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            bookingSlots.addHours(date, hoursOnDate(bookedRange, date, workingHours)
+                    & hoursOnDate(bookingRange, date, workingHours), bookingId);
+        }
+    }
+
+    /**
+     * Returns the mask of the working hours covered by a range on the given date.
+     *
+     * @param range        the range
+     * @param date         the date within the range
+     * @param workingHours the working hours of the space
+     * @return the mask of the hours
+     */
+    private static int hoursOnDate(BookingRange range, LocalDate date, WorkingHours workingHours) {
+        int fromHour = workingHours.hourOfBeginningWorkingDay();
+        int toHour = workingHours.hourOfEndingWorkingDay();
+        if (date.equals(range.beginningBookingDate())) {
+            fromHour = Math.max(fromHour, range.beginningBookingHour());
+        }
+        if (date.equals(range.endingBookingDate())) {
+            toHour = Math.min(toHour, range.endingBookingHour());
+        }
+        return SlotOccupancy.hourMask(fromHour, toHour);
+    }
+
+    private static Timestamp timestamp(LocalDate date, int hour) {
+        return Timestamp.valueOf(date.atStartOfDay().plusHours(hour));
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
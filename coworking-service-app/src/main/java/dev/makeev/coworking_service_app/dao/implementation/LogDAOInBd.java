@@ -0,0 +1,138 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.dao.LogDAO;
+import dev.makeev.coworking_service_app.enums.SQLRequest;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import dev.makeev.coworking_service_app.model.LogOfUserAction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code LogDAOInBd} class implements the {@link LogDAO} interface.
+ * It provides methods to interact with the database to manage the activity log of users.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogDAOInBd implements LogDAO {
+
+    private final DataSource dataSource;
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void add(LogOfUserAction logOfUserAction) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQLRequest.ADD_LOG_SQL.getQuery())) {
+            setLog(statement, logOfUserAction);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The actions are sent as one JDBC batch in a single transaction.
+     */
+    @Override
+    public void addAll(List<LogOfUserAction> logsOfUserActions) {
+        if (logsOfUserActions.isEmpty()) {
+            return;
+        }
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(SQLRequest.ADD_LOG_SQL.getQuery())) {
+                    for (LogOfUserAction logOfUserAction : logsOfUserActions) {
+                        setLog(statement, logOfUserAction);
+                        statement.addBatch();
+                    }
+                    return statement.executeBatch();
+                }
+            });
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public List<LogOfUserAction> getAll() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQLRequest.GET_ALL_LOGS_SQL.getQuery());
+             ResultSet resultSet = statement.executeQuery()) {
+            List<LogOfUserAction> logs = new ArrayList<>();
+            while (resultSet.next()) {
+                logs.add(toLog(resultSet));
+            }
+            return logs;
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public List<LogOfUserAction> getBetween(LocalDateTime from, LocalDateTime to) {
+        List<LogOfUserAction> logs = new ArrayList<>();
+        forEachBetween(from, to, logs::add);
+        return logs;
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The log is read through a server-side cursor, and each action is passed on as soon as its batch
+     * has been fetched. The connection is held until the action has run for the last entry.
+     */
+    @Override
+    public void forEachBetween(LocalDateTime from, LocalDateTime to, Consumer<LogOfUserAction> action) {
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
+                try (PreparedStatement statement =
+                             connection.prepareStatement(SQLRequest.GET_LOGS_IN_PERIOD_SQL.getQuery())) {
+                    statement.setFetchSize(UnitOfWork.FETCH_SIZE);
+                    statement.setTimestamp(1, from == null ? null : Timestamp.valueOf(from));
+                    statement.setTimestamp(2, to == null ? null : Timestamp.valueOf(to));
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            action.accept(toLog(resultSet));
+                        }
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    private static LogOfUserAction toLog(ResultSet resultSet) throws SQLException {
+        return new LogOfUserAction(
+                resultSet.getTimestamp("timestamp").toLocalDateTime(),
+                resultSet.getString("login"),
+                resultSet.getString("action"));
+    }
+
+    private static void setLog(PreparedStatement statement, LogOfUserAction logOfUserAction) throws SQLException {
+        statement.setTimestamp(1, Timestamp.valueOf(logOfUserAction.dateTime()));
+        statement.setString(2, logOfUserAction.login());
+        statement.setString(3, logOfUserAction.messageAboutAction());
+    }
+}
@@ -0,0 +1,95 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
+import dev.makeev.coworking_service_app.enums.SQLRequest;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code LogPartitionDAOInBd} class implements the {@link LogPartitionDAO} interface.
+ * The partition of a month is the table {@code user_activity_log_yyyy_MM}, holding the actions
+ * from the first day of the month inclusive to the first day of the next month exclusive.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogPartitionDAOInBd implements LogPartitionDAO {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("uuuu_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("user_activity_log_(\\d{4})_(\\d{2})");
+
+    private final DataSource dataSource;
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void createPartition(YearMonth month) {
+        execute(SQLRequest.CREATE_LOG_PARTITION_SQL.getQuery().formatted(
+                suffixOf(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The default partition, holding actions of months without a partition of their own, is not listed.
+     */
+    @Override
+    public List<YearMonth> getPartitions() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SQLRequest.GET_LOG_PARTITIONS_SQL.getQuery())) {
+            List<YearMonth> months = new ArrayList<>();
+            while (resultSet.next()) {
+                Matcher matcher = PARTITION_NAME.matcher(resultSet.getString("relname"));
+                if (matcher.matches()) {
+                    months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+                }
+            }
+            return months;
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void dropPartition(YearMonth month) {
+        execute(SQLRequest.DROP_LOG_PARTITION_SQL.getQuery().formatted(suffixOf(month)));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void detachPartition(YearMonth month) {
+        execute(SQLRequest.DETACH_LOG_PARTITION_SQL.getQuery().formatted(suffixOf(month)));
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new DaoException(e);
+        }
+    }
+
+    private static String suffixOf(YearMonth month) {
+        return SUFFIX_FORMAT.format(month);
+    }
+}
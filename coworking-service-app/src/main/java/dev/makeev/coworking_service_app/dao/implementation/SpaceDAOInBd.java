@@ -1,11 +1,18 @@
 package dev.makeev.coworking_service_app.dao.implementation;
 
+import dev.makeev.coworking_service_app.cache.SpaceCache;
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
 import dev.makeev.coworking_service_app.enums.SQLRequest;
 import dev.makeev.coworking_service_app.exceptions.DaoException;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
 import dev.makeev.coworking_service_app.model.WorkingHours;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -14,87 +21,67 @@ import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.sql.Types;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 /**
  * The {@code SpaceDAOInBd} class implements the {@link SpaceDAO} interface.
  * It provides methods to interact with the database to manage Space entities.
+ * Every bookable hour of a space is stored as a separate row of booking slots.
+ * The metadata of spaces is read through the {@link SpaceCache}, and committed changes
+ * of spaces are passed on to it and to the {@link SpaceAvailabilityView}.
  */
 @Component
+@ConditionalOnProperty(name = "coworking.booking.storage", havingValue = "slots", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SpaceDAOInBd implements SpaceDAO {
 
-    private final DataSource dataSource;
+    protected final DataSource dataSource;
+    protected final SpaceCache spaceCache;
+    protected final SpaceAvailabilityView spaceAvailabilityView;
 
     /**
      * {@inheritdoc}
      */
     @Override
     public void add(Space newSpace) {
-        try (Connection connection = dataSource.getConnection()) {
-            setAutoCommit(connection, false);
-            try {
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
                 addSpace(newSpace, connection);
                 addSlots(newSpace, connection);
-                connection.commit();
-            } catch (SQLException e) {
-                rollback(connection);
-                throw new DaoException("SQL error occurred", e);
-            } finally {
-                setAutoCommit(connection, true);
-            }
+                return null;
+            });
         } catch (SQLException e) {
-            throw new DaoException("Failed to open connection", e);
-        }
-    }
-
-    /**
-     * Rolls back the given SQL connection.
-     *
-     * @param connection The SQL connection to be rolled back.
-     * @throws DaoException If the rollback operation fails.
-     */
-    private void rollback(Connection connection) {
-        try {
-            connection.rollback();
-        } catch (SQLException rollbackException) {
-            throw new DaoException("Rollback failed", rollbackException);
+            throw new DaoException("SQL error occurred", e);
         }
+        UnitOfWork.afterCommit(() -> {
+            spaceCache.put(newSpace.name(), metadataOf(newSpace));
+            spaceAvailabilityView.spaceAdded(newSpace);
+        });
     }
 
     /**
-     * Sets the auto-commit mode of the given SQL connection.
-     *
-     * @param connection The SQL connection for which to set the auto-commit mode.
-     * @param autoCommit The desired auto-commit mode (true or false).
-     * @throws DaoException If setting the auto-commit mode fails.
-     */
-    private void setAutoCommit(Connection connection, boolean autoCommit) {
-        try {
-            connection.setAutoCommit(autoCommit);
-        } catch (SQLException e) {
-            throw new DaoException("Failed to set autoCommit to " + autoCommit, e);
-        }
-    }
-
-    /**
-     * Adds a new space to the database.
+     * Adds a new space to the database together with the period available for booking.
      *
      * @param newSpace the new space to add
      * @param connection the database connection
      * @throws SQLException if a database access error occurs
      */
-    private static void addSpace(Space newSpace, Connection connection) throws SQLException {
+    static void addSpace(Space newSpace, Connection connection) throws SQLException {
+        SpaceMetadata metadata = metadataOf(newSpace);
         try (PreparedStatement addSpaceStatement = connection.prepareStatement(SQLRequest.ADD_SPACE_SQL.getQuery())) {
             addSpaceStatement.setString(1, newSpace.name());
-            addSpaceStatement.setInt(2, newSpace.workingHours().hourOfBeginningWorkingDay());
-            addSpaceStatement.setInt(3, newSpace.workingHours().hourOfEndingWorkingDay());
+            addSpaceStatement.setInt(2, metadata.workingHours().hourOfBeginningWorkingDay());
+            addSpaceStatement.setInt(3, metadata.workingHours().hourOfEndingWorkingDay());
+            if (metadata.firstDateForBooking() == null) {
+                addSpaceStatement.setNull(4, Types.DATE);
+                addSpaceStatement.setNull(5, Types.DATE);
+            } else {
+                addSpaceStatement.setDate(4, Date.valueOf(metadata.firstDateForBooking()));
+                addSpaceStatement.setDate(5, Date.valueOf(metadata.lastDateForBooking()));
+            }
             addSpaceStatement.executeUpdate();
         }
     }
@@ -107,19 +94,19 @@ public class SpaceDAOInBd implements SpaceDAO {
      * @throws SQLException if a database access error occurs
      */
     private static void addSlots(Space newSpace, Connection connection) throws SQLException {
+        SlotOccupancy bookingSlots = newSpace.bookingSlots();
         try (PreparedStatement addSlotsForBookingStatement = connection.prepareStatement(SQLRequest.ADD_SLOTS_SQL.getQuery())) {
-            newSpace.bookingSlots().forEach((date, bookingSlots) -> IntStream.range(newSpace.workingHours().hourOfBeginningWorkingDay(),
-                    newSpace.workingHours().hourOfEndingWorkingDay()).forEach(hour -> {
-                try {
+            for (int day = 0; day < bookingSlots.numberOfDays(); day++) {
+                Date date = Date.valueOf(bookingSlots.dateOf(day));
+                for (int slots = bookingSlots.slotMask(day); slots != 0; slots &= slots - 1) {
+                    int hour = Integer.numberOfTrailingZeros(slots);
                     addSlotsForBookingStatement.setString(1, newSpace.name());
-                    addSlotsForBookingStatement.setDate(2, Date.valueOf(date));
+                    addSlotsForBookingStatement.setDate(2, date);
                     addSlotsForBookingStatement.setInt(3, hour);
-                    addSlotsForBookingStatement.setLong(4, 0L);
+                    addSlotsForBookingStatement.setLong(4, bookingSlots.bookingId(day, hour));
                     addSlotsForBookingStatement.addBatch();
-                } catch (SQLException e) {
-                    throw new DaoException("Failed to add slot to batch", e);
                 }
-            }));
+            }
             addSlotsForBookingStatement.executeBatch();
         }
     }
@@ -142,43 +129,151 @@ public class SpaceDAOInBd implements SpaceDAO {
         }
     }
 
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The slots of all spaces are read in one pass of a result set ordered by space, date and hour.
+     */
+    @LoggingTime
+    @Override
+    public List<Space> getAllSpaces() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQLRequest.GET_ALL_SPACES_WITH_SLOTS_SQL.getQuery());
+             ResultSet resultSet = statement.executeQuery()) {
+            List<Space> spaces = new ArrayList<>();
+            String nameOfSpace = null;
+            WorkingHours workingHours = null;
+            SlotOccupancy.Builder bookingSlots = null;
+            while (resultSet.next()) {
+                String nextNameOfSpace = resultSet.getString("name");
+                if (!nextNameOfSpace.equals(nameOfSpace)) {
+                    if (nameOfSpace != null) {
+                        spaces.add(new Space(nameOfSpace, workingHours, bookingSlots.build()));
+                    }
+                    nameOfSpace = nextNameOfSpace;
+                    workingHours = new WorkingHours(
+                            resultSet.getInt("hour_of_beginning_working_day"),
+                            resultSet.getInt("hour_of_ending_working_day"));
+                    bookingSlots = SlotOccupancy.builder();
+                }
+                Date date = resultSet.getDate("date");
+                if (date != null) {
+                    bookingSlots.add(date.toLocalDate(), resultSet.getInt("hour"), resultSet.getLong("booking_id"));
+                }
+            }
+            if (nameOfSpace != null) {
+                spaces.add(new Space(nameOfSpace, workingHours, bookingSlots.build()));
+            }
+            return spaces;
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving spaces", e);
+        }
+    }
+
     /**
      * {@inheritdoc}
      */
+    @LoggingTime
     @Override
     public Optional<Space> getSpaceByName(String nameOfSpace) {
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement spaceStatement = connection.prepareStatement(SQLRequest.GET_SPACE_BY_NAME_SQL.getQuery());
              PreparedStatement slotsStatement = connection.prepareStatement(SQLRequest.GET_SLOTS_BY_SPACE_NAME_SQL.getQuery())) {
+            slotsStatement.setString(1, nameOfSpace);
+            return getSpace(connection, nameOfSpace, slotsStatement);
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving space by name", e);
+        }
+    }
 
-            spaceStatement.setString(1, nameOfSpace);
-            try (ResultSet spaceStatementResultSet = spaceStatement.executeQuery()) {
-                if (spaceStatementResultSet.next()) {
-                    WorkingHours workingHours = new WorkingHours(
-                            spaceStatementResultSet.getInt("hour_of_beginning_working_day"),
-                            spaceStatementResultSet.getInt("hour_of_ending_working_day"));
-
-                    slotsStatement.setString(1, nameOfSpace);
-                    try (ResultSet slotsStatementResultSet = slotsStatement.executeQuery()){
-                        Map<LocalDate, Map<Integer, Long>> bookingSlots = new HashMap<>();
-                        while (slotsStatementResultSet.next()) {
-                            LocalDate date = slotsStatementResultSet.getDate("date").toLocalDate();
-                            int hour = slotsStatementResultSet.getInt("hour");
-                            long bookingId = slotsStatementResultSet.getLong("booking_id");
-
-                            bookingSlots
-                                    .computeIfAbsent(date, k -> new HashMap<>())
-                                    .put(hour, bookingId);
-                        }
-                        return Optional.of(new Space(nameOfSpace, workingHours, bookingSlots));
+    /**
+     * {@inheritdoc}
+     */
+    @LoggingTime
+    @Override
+    public Optional<Space> getSpaceByNameForRange(String nameOfSpace, BookingRange bookingRange) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement slotsStatement = connection.prepareStatement(
+                     SQLRequest.GET_SLOTS_BY_SPACE_NAME_AND_RANGE_SQL.getQuery())) {
+            slotsStatement.setString(1, nameOfSpace);
+            slotsStatement.setDate(2, Date.valueOf(bookingRange.beginningBookingDate()));
+            slotsStatement.setDate(3, Date.valueOf(bookingRange.endingBookingDate()));
+            return getSpace(connection, nameOfSpace, slotsStatement);
+        } catch (SQLException e) {
+            throw new DaoException("Error retrieving space by name", e);
+        }
+    }
+
+    /**
+     * Retrieves a space by its name with the booking slots selected by the given statement.
+     *
+     * @param connection     the database connection
+     * @param nameOfSpace    the name of the space
+     * @param slotsStatement the prepared statement selecting the slots of the space
+     * @return the space with the specified name
+     * @throws SQLException if a database access error occurs
+     */
+    private Optional<Space> getSpace(Connection connection, String nameOfSpace,
+                                     PreparedStatement slotsStatement) throws SQLException {
+        Optional<SpaceMetadata> metadata = getSpaceMetadata(spaceCache, connection, nameOfSpace);
+        if (metadata.isEmpty()) {
+            return Optional.empty();
+        }
+        try (ResultSet slotsStatementResultSet = slotsStatement.executeQuery()){
+            SlotOccupancy.Builder bookingSlots = SlotOccupancy.builder();
+            while (slotsStatementResultSet.next()) {
+                bookingSlots.add(slotsStatementResultSet.getDate("date").toLocalDate(),
+                        slotsStatementResultSet.getInt("hour"),
+                        slotsStatementResultSet.getLong("booking_id"));
+            }
+            return Optional.of(new Space(nameOfSpace, metadata.get().workingHours(), bookingSlots.build()));
+        }
+    }
+
+    /**
+     * Retrieves the metadata of a space through the cache, reading it on the given connection if it is not cached.
+     *
+     * @param spaceCache  the cache of space metadata
+     * @param connection  the database connection
+     * @param nameOfSpace the name of the space
+     * @return the metadata of the space, or an empty optional if the space does not exist
+     * @throws DaoException if a database access error occurs
+     */
+    static Optional<SpaceMetadata> getSpaceMetadata(SpaceCache spaceCache, Connection connection, String nameOfSpace) {
+        return spaceCache.get(nameOfSpace, name -> {
+            try (PreparedStatement spaceStatement = connection.prepareStatement(SQLRequest.GET_SPACE_BY_NAME_SQL.getQuery())) {
+                spaceStatement.setString(1, name);
+                try (ResultSet resultSet = spaceStatement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.empty();
                     }
-                } else {
-                    return Optional.empty();
+                    Date firstDate = resultSet.getDate("first_date_for_booking");
+                    Date lastDate = resultSet.getDate("last_date_for_booking");
+                    return Optional.of(new SpaceMetadata(
+                            new WorkingHours(
+                                    resultSet.getInt("hour_of_beginning_working_day"),
+                                    resultSet.getInt("hour_of_ending_working_day")),
+                            firstDate == null ? null : firstDate.toLocalDate(),
+                            lastDate == null ? null : lastDate.toLocalDate()));
                 }
+            } catch (SQLException e) {
+                throw new DaoException("Error retrieving space by name", e);
             }
-        } catch (SQLException e) {
-            throw new DaoException("Error retrieving space by name", e);
+        });
+    }
+
+    /**
+     * Returns the metadata stored for a new space.
+     *
+     * @param newSpace the new space
+     * @return the metadata of the space
+     */
+    static SpaceMetadata metadataOf(Space newSpace) {
+        SlotOccupancy bookingSlots = newSpace.bookingSlots();
+        if (bookingSlots.numberOfDays() == 0) {
+            return new SpaceMetadata(newSpace.workingHours(), null, null);
         }
+        return new SpaceMetadata(newSpace.workingHours(), bookingSlots.firstDate(),
+                bookingSlots.dateOf(bookingSlots.numberOfDays() - 1));
     }
 
     /**
@@ -186,22 +281,20 @@ public class SpaceDAOInBd implements SpaceDAO {
      */
     @Override
     public void delete(String nameOfSpace) {
-        try (Connection connection = dataSource.getConnection()) {
-            setAutoCommit(connection, false);
-            try {
+        try {
+            UnitOfWork.execute(dataSource, connection -> {
                 deleteByName(connection, SQLRequest.DELETE_BOOKING_FOR_SPACE_SQL, nameOfSpace);
                 deleteByName(connection, SQLRequest.DELETE_SLOTS_FOR_SPACE_SQL, nameOfSpace);
                 deleteByName(connection, SQLRequest.DELETE_SPACE_SQL, nameOfSpace);
-                connection.commit();
-            } catch (SQLException e) {
-                rollback(connection);
-                throw new DaoException("SQL error occurred", e);
-            } finally {
-                setAutoCommit(connection, true);
-            }
+                return null;
+            });
         } catch (SQLException e) {
-            throw new DaoException("Failed to open connection", e);
+            throw new DaoException("SQL error occurred", e);
         }
+        UnitOfWork.afterCommit(() -> {
+            spaceCache.invalidate(nameOfSpace);
+            spaceAvailabilityView.spaceDeleted(nameOfSpace);
+        });
     }
 
     /**
@@ -212,7 +305,7 @@ public class SpaceDAOInBd implements SpaceDAO {
      * @param nameOfSpace the name of the entity to delete
      * @throws SQLException if a database access error occurs
      */
-    private static void deleteByName(Connection connection, SQLRequest deleteBookingForSpaceSql, String nameOfSpace) throws SQLException {
+    static void deleteByName(Connection connection, SQLRequest deleteBookingForSpaceSql, String nameOfSpace) throws SQLException {
         try (PreparedStatement statement = connection.prepareStatement(deleteBookingForSpaceSql.getQuery())) {
             statement.setString(1, nameOfSpace);
             statement.executeUpdate();
@@ -0,0 +1,140 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Predicate;
+
+/**
+ * Runs the statements of a DAO method that must succeed or fail together.
+ * <p>
+ * Within a transaction started by a {@code @Transactional} service method the statements run on the
+ * connection of that transaction, and a unit that fails or is incomplete marks the whole transaction
+ * for rollback. Otherwise the unit runs in a transaction of its own on one connection.
+ */
+final class UnitOfWork {
+
+    /**
+     * Number of rows fetched per round trip by queries that pass their rows on as they are read.
+     * The PostgreSQL driver only reads through a server-side cursor when auto-commit is off,
+     * so such queries run as a unit of work.
+     */
+    static final int FETCH_SIZE = 1000;
+
+    private UnitOfWork() {
+    }
+
+    /**
+     * The statements of a unit of work.
+     *
+     * @param <T> the result of the statements
+     */
+    @FunctionalInterface
+    interface Statements<T> {
+        T execute(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Runs the statements, committing them unless they fail.
+     *
+     * @param dataSource the data source of the DAO
+     * @param statements the statements to run
+     * @return the result of the statements
+     * @throws SQLException if a statement fails, after the unit was rolled back
+     */
+    static <T> T execute(DataSource dataSource, Statements<T> statements) throws SQLException {
+        return execute(dataSource, statements, result -> true);
+    }
+
+    /**
+     * Runs the statements, committing them only if they succeed and their result is complete.
+     *
+     * @param dataSource the data source of the DAO
+     * @param statements the statements to run
+     * @param isComplete whether the result allows to commit, otherwise the unit is rolled back
+     * @return the result of the statements
+     * @throws SQLException if a statement fails, after the unit was rolled back
+     */
+    static <T> T execute(DataSource dataSource, Statements<T> statements, Predicate<T> isComplete)
+            throws SQLException {
+        ConnectionHolder transaction = currentTransaction(dataSource);
+        if (transaction != null) {
+            try {
+                T result = statements.execute(transaction.getConnection());
+                if (!isComplete.test(result)) {
+                    transaction.setRollbackOnly();
+                }
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                transaction.setRollbackOnly();
+                throw e;
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                T result = statements.execute(connection);
+                if (isComplete.test(result)) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
+                }
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                rollback(connection, e);
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Runs an action once the changes made so far on this thread are committed: at the end of the
+     * transaction in progress, or at once if there is none and the unit has already been committed.
+     * The action is dropped if the transaction is rolled back.
+     *
+     * @param action the action to run, e.g. updating an in-memory copy of the changed data
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Returns the connection of the transaction in progress on this thread.
+     *
+     * @return the holder of the connection, or {@code null} if no transaction is in progress
+     */
+    private static ConnectionHolder currentTransaction(DataSource dataSource) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        DataSource targetDataSource = dataSource instanceof TransactionAwareDataSourceProxy proxy
+                ? proxy.getTargetDataSource()
+                : dataSource;
+        return (ConnectionHolder) TransactionSynchronizationManager.getResource(targetDataSource);
+    }
+
+    private static void rollback(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackException) {
+            cause.addSuppressed(rollbackException);
+        }
+    }
+}
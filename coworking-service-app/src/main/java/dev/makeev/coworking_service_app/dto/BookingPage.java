@@ -0,0 +1,13 @@
+package dev.makeev.coworking_service_app.dto;
+
+import java.util.List;
+
+/**
+ * A page of bookings.
+ *
+ * @param bookings   the bookings of the page
+ * @param nextCursor the token of the next page, or {@code null} if this is the last page
+ */
+public record BookingPage(List<BookingDTO> bookings,
+                          String nextCursor) {
+}
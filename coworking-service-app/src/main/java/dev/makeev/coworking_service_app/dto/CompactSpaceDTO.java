@@ -0,0 +1,17 @@
+package dev.makeev.coworking_service_app.dto;
+
+import dev.makeev.coworking_service_app.model.FreeIntervals;
+
+import java.util.List;
+
+/**
+ * A space with the free time of every day available for booking merged into intervals.
+ *
+ * @param name          the name of the space
+ * @param freeIntervals the free intervals per day
+ * @param version       the version of the space, as in {@link SpaceDTO}
+ */
+public record CompactSpaceDTO(String name,
+                              List<FreeIntervals> freeIntervals,
+                              long version) {
+}
@@ -0,0 +1,6 @@
+package dev.makeev.coworking_service_app.dto;
+
+public record LogOfUserActionDTO(String dateTime,
+                                 String login,
+                                 String messageAboutAction) {
+}
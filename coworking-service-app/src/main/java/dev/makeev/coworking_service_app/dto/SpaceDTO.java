@@ -4,6 +4,15 @@ import dev.makeev.coworking_service_app.model.SlotsAvailableForBooking;
 
 import java.util.List;
 
+/**
+ * A space with the free slots of every day available for booking.
+ *
+ * @param name                      the name of the space
+ * @param slotsAvailableForBookings the free slots per day
+ * @param version                   the version of the space, greater after every change of the space or its bookings,
+ *                                  or {@code 0} if the spaces are read from the database without versions
+ */
 public record SpaceDTO(String name,
-                       List<SlotsAvailableForBooking> slotsAvailableForBookings) {
-}
\ No newline at end of file
+                       List<SlotsAvailableForBooking> slotsAvailableForBookings,
+                       long version) {
+}
@@ -11,25 +11,49 @@ public enum SQLRequest {
 
     ADD_SPACE_SQL("""
             INSERT INTO non_public.spaces \
-            (name, hour_of_beginning_working_day, hour_of_ending_working_day) VALUES (?,?,?)"""),
+            (name, hour_of_beginning_working_day, hour_of_ending_working_day, \
+            first_date_for_booking, last_date_for_booking) VALUES (?,?,?,?,?)"""),
 
     GET_ALL_SPACES_SQL("SELECT * FROM non_public.spaces"),
 
     GET_SPACE_BY_NAME_SQL(GET_ALL_SPACES_SQL.query + " WHERE name=?"),
 
-    GET_WORKING_HOURS_OF_SPACE_BY_NAME_SQL("SELECT hour_of_beginning_working_day, hour_of_ending_working_day FROM non_public.spaces WHERE name=?"),
+    GET_ALL_SPACES_WITH_SLOTS_SQL("""
+            SELECT space.name, space.hour_of_beginning_working_day, space.hour_of_ending_working_day, \
+            slot.date, slot.hour, slot.booking_id \
+            FROM non_public.spaces space \
+            LEFT JOIN non_public.slots_for_booking slot ON slot.name_of_space = space.name \
+            ORDER BY space.name, slot.date, slot.hour"""),
+
+    GET_ALL_SPACES_WITH_BOOKINGS_SQL("""
+            SELECT space.name, space.hour_of_beginning_working_day, space.hour_of_ending_working_day, \
+            space.first_date_for_booking, space.last_date_for_booking, \
+            booking.id, booking.beginning_booking_date, booking.beginning_booking_hour, \
+            booking.ending_booking_date, booking.ending_booking_hour \
+            FROM non_public.spaces space \
+            LEFT JOIN non_public.bookings booking ON booking.name_of_space = space.name \
+            ORDER BY space.name"""),
 
     ADD_SLOTS_SQL("""
             INSERT INTO non_public.slots_for_booking \
             (name_of_space, date, hour, booking_id) VALUES (?,?,?,?)"""),
 
-    BOOK_SLOTS_SQL("UPDATE non_public.slots_for_booking SET booking_id=? WHERE name_of_space=? AND date=? AND hour=?"),
+    BOOK_SLOTS_SQL("""
+            UPDATE non_public.slots_for_booking SET booking_id=? \
+            WHERE name_of_space=? AND booking_id=0 AND date BETWEEN ? AND ? \
+            AND (date, hour) >= (?, ?) AND (date, hour) < (?, ?)"""),
 
     UPDATE_SLOTS_SQL("UPDATE non_public.slots_for_booking SET booking_id=? WHERE booking_id=?"),
 
     GET_SLOTS_BY_SPACE_NAME_SQL("""
             SELECT date, hour, booking_id \
-            FROM non_public.slots_for_booking WHERE name_of_space=?"""),
+            FROM non_public.slots_for_booking WHERE name_of_space=? \
+            ORDER BY date, hour"""),
+
+    GET_SLOTS_BY_SPACE_NAME_AND_RANGE_SQL("""
+            SELECT date, hour, booking_id \
+            FROM non_public.slots_for_booking WHERE name_of_space=? AND date BETWEEN ? AND ? \
+            ORDER BY date, hour"""),
 
     DELETE_SPACE_SQL("DELETE FROM non_public.spaces WHERE name=?"),
 
@@ -44,19 +68,61 @@ public enum SQLRequest {
             ending_booking_date, ending_booking_hour) \
             VALUES (?,?,?,?,?,?)"""),
 
+    ADD_BOOKING_IN_BOOKING_PERIOD_SQL("""
+            INSERT INTO non_public.bookings \
+            (login, name_of_space, \
+            beginning_booking_date, beginning_booking_hour, \
+            ending_booking_date, ending_booking_hour) \
+            SELECT ?, name, ?, ?, ?, ? FROM non_public.spaces \
+            WHERE name=? AND first_date_for_booking <= ? AND last_date_for_booking >= ? \
+            AND hour_of_beginning_working_day <= ? AND hour_of_ending_working_day >= ?"""),
+
+    GET_BOOKINGS_OF_SPACE_IN_PERIOD_SQL("""
+            SELECT id, beginning_booking_date, beginning_booking_hour, \
+            ending_booking_date, ending_booking_hour \
+            FROM non_public.bookings WHERE name_of_space=? \
+            AND period && tsrange(?::timestamp, ?::timestamp)"""),
+
     GET_ALL_BOOKINGS_SQL("SELECT * FROM non_public.bookings"),
 
     GET_ALL_BOOKINGS_FOR_USER_SQL(GET_ALL_BOOKINGS_SQL.query + " WHERE login=?"),
 
+    GET_FIRST_PAGE_OF_BOOKINGS_SQL(GET_ALL_BOOKINGS_SQL.query + " ORDER BY login, id LIMIT ?"),
+
+    GET_NEXT_PAGE_OF_BOOKINGS_SQL(GET_ALL_BOOKINGS_SQL.query + " WHERE (login, id) > (?, ?) ORDER BY login, id LIMIT ?"),
+
+    GET_PAGE_OF_BOOKINGS_FOR_USER_SQL(GET_ALL_BOOKINGS_FOR_USER_SQL.query + " AND id > ? ORDER BY id LIMIT ?"),
+
+    GET_ALL_BOOKINGS_SORTED_BY_USER_SQL(GET_ALL_BOOKINGS_SQL.query + " ORDER BY login, id"),
+
+    GET_ALL_BOOKINGS_FOR_USER_SORTED_BY_ID_SQL(GET_ALL_BOOKINGS_FOR_USER_SQL.query + " ORDER BY id"),
+
     GET_BOOKING_BY_ID_SQL(GET_ALL_BOOKINGS_SQL.query + " WHERE id=?"),
 
-    DELETE_BOOKING_SQL("DELETE FROM non_public.bookings WHERE id=?"),
+    DELETE_BOOKING_SQL("DELETE FROM non_public.bookings WHERE id=? RETURNING name_of_space"),
 
     ADD_LOG_SQL ("INSERT INTO non_public.user_activity_log (timestamp, login, action) VALUES (?,?,?)"),
 
     GET_ALL_LOGS_SQL ("SELECT * FROM non_public.user_activity_log"),
 
-    GET_ALL_LOGS_FOR_USER_SQL (GET_ALL_LOGS_SQL.query + " WHERE login=?");
+    GET_ALL_LOGS_FOR_USER_SQL (GET_ALL_LOGS_SQL.query + " WHERE login=?"),
+
+    GET_LOGS_IN_PERIOD_SQL (GET_ALL_LOGS_SQL.query + """
+             WHERE timestamp >= COALESCE(?::TIMESTAMP, '-infinity') \
+            AND timestamp < COALESCE(?::TIMESTAMP, 'infinity')"""),
+
+    CREATE_LOG_PARTITION_SQL ("""
+            CREATE TABLE IF NOT EXISTS non_public.user_activity_log_%s \
+            PARTITION OF non_public.user_activity_log FOR VALUES FROM ('%s') TO ('%s')"""),
+
+    GET_LOG_PARTITIONS_SQL ("""
+            SELECT child.relname FROM pg_inherits \
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid \
+            WHERE pg_inherits.inhparent = 'non_public.user_activity_log'::regclass"""),
+
+    DETACH_LOG_PARTITION_SQL ("ALTER TABLE non_public.user_activity_log DETACH PARTITION non_public.user_activity_log_%s"),
+
+    DROP_LOG_PARTITION_SQL ("DROP TABLE IF EXISTS non_public.user_activity_log_%s");
 
     private final String query;
 
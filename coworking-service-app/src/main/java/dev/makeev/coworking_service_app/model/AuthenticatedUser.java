@@ -0,0 +1,11 @@
+package dev.makeev.coworking_service_app.model;
+
+/**
+ * Represents the user an authentication token was issued to.
+ *
+ * @param login the login name of the user
+ * @param admin whether the user has administrative privileges
+ */
+public record AuthenticatedUser(String login,
+                                boolean admin) {
+}
@@ -0,0 +1,51 @@
+package dev.makeev.coworking_service_app.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Represents the position after the last booking of a page of bookings ordered by login and ID.
+ * It is handed to clients as an opaque token.
+ *
+ * @param login the login of the user of the last booking
+ * @param id    the ID of the last booking
+ */
+public record BookingCursor(String login,
+                            long id) {
+
+    /**
+     * Returns the position after a booking.
+     *
+     * @param booking the last booking of a page
+     * @return the position after the booking
+     */
+    public static BookingCursor after(Booking booking) {
+        return new BookingCursor(booking.login(), booking.id());
+    }
+
+    /**
+     * Encodes the position as a URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + login).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the position encoded by the token
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static BookingCursor decode(String token) {
+        String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = position.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed cursor: " + token);
+        }
+        return new BookingCursor(position.substring(separator + 1), Long.parseLong(position.substring(0, separator)));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.makeev.coworking_service_app.model;
+
+import java.util.List;
+
+/**
+ * Represents the free time of a day as contiguous intervals.
+ *
+ * @param date      the date of the day
+ * @param intervals the free intervals as {@code "HH:00-HH:00"}, in ascending order
+ */
+public record FreeIntervals(String date, List<String> intervals) {
+}
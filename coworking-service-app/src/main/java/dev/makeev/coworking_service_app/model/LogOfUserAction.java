@@ -0,0 +1,15 @@
+package dev.makeev.coworking_service_app.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an action of a user stored in the activity log.
+ *
+ * @param dateTime           the time of the action
+ * @param login              the login of the user
+ * @param messageAboutAction the description of the action
+ */
+public record LogOfUserAction(LocalDateTime dateTime,
+                              String login,
+                              String messageAboutAction) {
+}
@@ -0,0 +1,406 @@
+package dev.makeev.coworking_service_app.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact occupancy index of the booking slots of a space.
+ * <p>
+ * Every day starting from {@code firstDate} is represented by two 24-bit words: the hours
+ * that exist as booking slots and the hours that are already booked. Bit {@code h} of a word
+ * stands for the slot {@code h:00 - (h+1):00}. The IDs of the bookings are kept in a parallel
+ * primitive array indexed by {@code day * 24 + hour}, which is allocated only when at least
+ * one slot is booked.
+ */
+public final class SlotOccupancy {
+
+    /**
+     * Number of hourly slots in a day.
+     */
+    public static final int HOURS_PER_DAY = 24;
+
+    private static final SlotOccupancy EMPTY = new SlotOccupancy(null, new int[0], new int[0], null);
+
+    private final LocalDate firstDate;
+    private final int[] slotMasks;
+    private final int[] bookedMasks;
+    private final long[] bookingIds;
+
+    private SlotOccupancy(LocalDate firstDate, int[] slotMasks, int[] bookedMasks, long[] bookingIds) {
+        this.firstDate = firstDate;
+        this.slotMasks = slotMasks;
+        this.bookedMasks = bookedMasks;
+        this.bookingIds = bookingIds;
+    }
+
+    /**
+     * Returns an occupancy without any slots.
+     *
+     * @return the empty occupancy
+     */
+    public static SlotOccupancy empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an occupancy where every working hour of every day is free.
+     *
+     * @param firstDate      the first day available for booking
+     * @param numberOfDays   the number of days available for booking
+     * @param workingHours   the working hours of the space
+     * @return the occupancy with all slots free
+     */
+    public static SlotOccupancy free(LocalDate firstDate, int numberOfDays, WorkingHours workingHours) {
+        if (numberOfDays <= 0) {
+            return EMPTY;
+        }
+        int[] slotMasks = new int[numberOfDays];
+        Arrays.fill(slotMasks, hourMask(workingHours.hourOfBeginningWorkingDay(),
+                workingHours.hourOfEndingWorkingDay()));
+        return new SlotOccupancy(firstDate, slotMasks, new int[numberOfDays], null);
+    }
+
+    /**
+     * Creates a builder filling the occupancy slot by slot, e.g. from a {@code ResultSet}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the mask with bits {@code [fromHour, toHour)} set.
+     *
+     * @param fromHour the first hour, inclusive
+     * @param toHour   the last hour, exclusive
+     * @return the mask of the hours, {@code 0} if the range is empty
+     */
+    public static int hourMask(int fromHour, int toHour) {
+        if (toHour <= fromHour) {
+            return 0;
+        }
+        return (int) ((1L << toHour) - (1L << fromHour));
+    }
+
+    /**
+     * Returns the first day covered by the occupancy.
+     *
+     * @return the first day, or {@code null} if the occupancy is empty
+     */
+    public LocalDate firstDate() {
+        return firstDate;
+    }
+
+    /**
+     * Returns the number of days covered by the occupancy.
+     *
+     * @return the number of days
+     */
+    public int numberOfDays() {
+        return slotMasks.length;
+    }
+
+    /**
+     * Returns the date of the day with the given index.
+     *
+     * @param day the index of the day
+     * @return the date of the day
+     */
+    public LocalDate dateOf(int day) {
+        return firstDate.plusDays(day);
+    }
+
+    /**
+     * Returns the index of the day with the given date.
+     *
+     * @param date the date
+     * @return the index of the day, or {@code -1} if the date is not covered
+     */
+    public int dayOf(LocalDate date) {
+        if (firstDate == null) {
+            return -1;
+        }
+        long day = ChronoUnit.DAYS.between(firstDate, date);
+        return day >= 0 && day < slotMasks.length ? (int) day : -1;
+    }
+
+    /**
+     * Checks whether the date has any booking slots.
+     *
+     * @param date the date
+     * @return {@code true} if at least one slot exists on the date
+     */
+    public boolean containsDate(LocalDate date) {
+        int day = dayOf(date);
+        return day >= 0 && slotMasks[day] != 0;
+    }
+
+    /**
+     * Returns the mask of the hours that exist as booking slots on the day.
+     *
+     * @param day the index of the day
+     * @return the mask of the slots
+     */
+    public int slotMask(int day) {
+        return slotMasks[day];
+    }
+
+    /**
+     * Returns the mask of the hours that are available for booking on the day.
+     *
+     * @param day the index of the day
+     * @return the mask of the free slots
+     */
+    public int freeMask(int day) {
+        return slotMasks[day] & ~bookedMasks[day];
+    }
+
+    /**
+     * Checks whether every hour of the mask is an existing and free slot on the day.
+     *
+     * @param day      the index of the day
+     * @param hourMask the mask of the requested hours
+     * @return {@code true} if all requested hours are free
+     */
+    public boolean isFree(int day, int hourMask) {
+        return (freeMask(day) & hourMask) == hourMask;
+    }
+
+    /**
+     * Returns the ID of the booking occupying the slot.
+     *
+     * @param day  the index of the day
+     * @param hour the hour of the slot
+     * @return the ID of the booking, {@code 0} if the slot is free
+     */
+    public long bookingId(int day, int hour) {
+        return bookingIds == null ? 0L : bookingIds[day * HOURS_PER_DAY + hour];
+    }
+
+    /**
+     * Returns a copy of the occupancy with the free slots covered by a booking marked as booked.
+     * Only the working hours of the range are covered, as in the slots reserved by the DAOs.
+     *
+     * @param bookingRange the range of the booking
+     * @param workingHours the working hours of the space
+     * @param bookingId    the ID of the booking
+     * @return the occupancy with the booking, or this occupancy if the booking covers no free slot
+     */
+    public SlotOccupancy withBooking(BookingRange bookingRange, WorkingHours workingHours, long bookingId) {
+        int firstDay = Math.max(0, dayIndex(bookingRange.beginningBookingDate()));
+        int lastDay = Math.min(slotMasks.length - 1, dayIndex(bookingRange.endingBookingDate()));
+        int[] newBookedMasks = null;
+        long[] newBookingIds = null;
+        for (int day = firstDay; day <= lastDay; day++) {
+            int hours = hoursOnDay(bookingRange, day, workingHours) & freeMask(day);
+            if (hours == 0) {
+                continue;
+            }
+            if (newBookedMasks == null) {
+                newBookedMasks = bookedMasks.clone();
+                newBookingIds = bookingIds == null
+                        ? new long[slotMasks.length * HOURS_PER_DAY]
+                        : bookingIds.clone();
+            }
+            newBookedMasks[day] |= hours;
+            for (; hours != 0; hours &= hours - 1) {
+                newBookingIds[day * HOURS_PER_DAY + Integer.numberOfTrailingZeros(hours)] = bookingId;
+            }
+        }
+        return newBookedMasks == null ? this : new SlotOccupancy(firstDate, slotMasks, newBookedMasks, newBookingIds);
+    }
+
+    /**
+     * Returns a copy of the occupancy with the slots of a booking marked as free.
+     *
+     * @param bookingId the ID of the booking
+     * @return the occupancy without the booking, or this occupancy if no slot is occupied by the booking
+     */
+    public SlotOccupancy withoutBooking(long bookingId) {
+        if (bookingIds == null || bookingId == 0L) {
+            return this;
+        }
+        int[] newBookedMasks = null;
+        long[] newBookingIds = null;
+        for (int slot = 0; slot < bookingIds.length; slot++) {
+            if (bookingIds[slot] != bookingId) {
+                continue;
+            }
+            if (newBookedMasks == null) {
+                newBookedMasks = bookedMasks.clone();
+                newBookingIds = bookingIds.clone();
+            }
+            newBookedMasks[slot / HOURS_PER_DAY] &= ~(1 << (slot % HOURS_PER_DAY));
+            newBookingIds[slot] = 0L;
+        }
+        if (newBookedMasks == null) {
+            return this;
+        }
+        boolean anyBooked = Arrays.stream(newBookedMasks).anyMatch(mask -> mask != 0);
+        return new SlotOccupancy(firstDate, slotMasks, newBookedMasks, anyBooked ? newBookingIds : null);
+    }
+
+    /**
+     * Returns the offset of a date from the first day, which may lie outside of the covered days.
+     */
+    private int dayIndex(LocalDate date) {
+        return firstDate == null ? -1 : (int) ChronoUnit.DAYS.between(firstDate, date);
+    }
+
+    /**
+     * Returns the mask of the working hours covered by a booking range on the day.
+     */
+    private int hoursOnDay(BookingRange bookingRange, int day, WorkingHours workingHours) {
+        LocalDate date = dateOf(day);
+        int fromHour = workingHours.hourOfBeginningWorkingDay();
+        int toHour = workingHours.hourOfEndingWorkingDay();
+        if (date.equals(bookingRange.beginningBookingDate())) {
+            fromHour = Math.max(fromHour, bookingRange.beginningBookingHour());
+        }
+        if (date.equals(bookingRange.endingBookingDate())) {
+            toHour = Math.min(toHour, bookingRange.endingBookingHour());
+        }
+        return hourMask(fromHour, toHour);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SlotOccupancy that)) {
+            return false;
+        }
+        return Objects.equals(firstDate, that.firstDate)
+                && Arrays.equals(slotMasks, that.slotMasks)
+                && Arrays.equals(bookedMasks, that.bookedMasks)
+                && Arrays.equals(bookingIds, that.bookingIds);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(firstDate);
+        result = 31 * result + Arrays.hashCode(slotMasks);
+        result = 31 * result + Arrays.hashCode(bookedMasks);
+        return result;
+    }
+
+    /**
+     * Builder of {@link SlotOccupancy} filled slot by slot. Slots are expected mostly in
+     * ascending order of dates, but any order is accepted.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private LocalDate firstDate;
+        private int numberOfDays;
+        private int[] slotMasks = new int[0];
+        private int[] bookedMasks = new int[0];
+        private long[] bookingIds;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a slot to the occupancy.
+         *
+         * @param date      the date of the slot
+         * @param hour      the hour of the slot
+         * @param bookingId the ID of the booking occupying the slot, {@code 0} if the slot is free
+         * @return this builder
+         */
+        public Builder add(LocalDate date, int hour, long bookingId) {
+            return addHours(date, 1 << hour, bookingId);
+        }
+
+        /**
+         * Adds several slots of one day to the occupancy.
+         *
+         * @param date      the date of the slots
+         * @param hourMask  the mask of the hours of the slots
+         * @param bookingId the ID of the booking occupying the slots, {@code 0} if the slots are free
+         * @return this builder
+         */
+        public Builder addHours(LocalDate date, int hourMask, long bookingId) {
+            if (hourMask == 0) {
+                return this;
+            }
+            int day = ensureDay(date);
+            slotMasks[day] |= hourMask;
+            if (bookingId != 0L) {
+                bookedMasks[day] |= hourMask;
+                if (bookingIds == null) {
+                    bookingIds = new long[slotMasks.length * HOURS_PER_DAY];
+                }
+                for (int hours = hourMask; hours != 0; hours &= hours - 1) {
+                    bookingIds[day * HOURS_PER_DAY + Integer.numberOfTrailingZeros(hours)] = bookingId;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Builds the occupancy.
+         *
+         * @return the occupancy with all added slots
+         */
+        public SlotOccupancy build() {
+            if (numberOfDays == 0) {
+                return EMPTY;
+            }
+            return new SlotOccupancy(firstDate,
+                    Arrays.copyOf(slotMasks, numberOfDays),
+                    Arrays.copyOf(bookedMasks, numberOfDays),
+                    bookingIds == null ? null : Arrays.copyOf(bookingIds, numberOfDays * HOURS_PER_DAY));
+        }
+
+        /**
+         * Returns the index of the day, growing the arrays if the date is not covered yet.
+         */
+        private int ensureDay(LocalDate date) {
+            if (firstDate == null) {
+                firstDate = date;
+            }
+            long offset = ChronoUnit.DAYS.between(firstDate, date);
+            if (offset < 0) {
+                shift((int) -offset);
+                offset = 0;
+            }
+            int day = (int) offset;
+            if (day >= slotMasks.length) {
+                grow(Math.max(day + 1, Math.max(INITIAL_CAPACITY, slotMasks.length * 2)));
+            }
+            numberOfDays = Math.max(numberOfDays, day + 1);
+            return day;
+        }
+
+        private void grow(int capacity) {
+            slotMasks = Arrays.copyOf(slotMasks, capacity);
+            bookedMasks = Arrays.copyOf(bookedMasks, capacity);
+            if (bookingIds != null) {
+                bookingIds = Arrays.copyOf(bookingIds, capacity * HOURS_PER_DAY);
+            }
+        }
+
+        private void shift(int days) {
+            int capacity = Math.max(numberOfDays + days, slotMasks.length);
+            int[] newSlotMasks = new int[capacity];
+            int[] newBookedMasks = new int[capacity];
+            System.arraycopy(slotMasks, 0, newSlotMasks, days, numberOfDays);
+            System.arraycopy(bookedMasks, 0, newBookedMasks, days, numberOfDays);
+            slotMasks = newSlotMasks;
+            bookedMasks = newBookedMasks;
+            if (bookingIds != null) {
+                long[] newBookingIds = new long[capacity * HOURS_PER_DAY];
+                System.arraycopy(bookingIds, 0, newBookingIds, days * HOURS_PER_DAY, numberOfDays * HOURS_PER_DAY);
+                bookingIds = newBookingIds;
+            }
+            firstDate = firstDate.minusDays(days);
+            numberOfDays += days;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.makeev.coworking_service_app.model;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the stored attributes of a coworking space apart from its bookings.
+ *
+ * @param workingHours         the working hours of the space
+ * @param firstDateForBooking  the first day available for booking, or {@code null} if the space has none
+ * @param lastDateForBooking   the last day available for booking, or {@code null} if the space has none
+ */
+public record SpaceMetadata(WorkingHours workingHours,
+                            LocalDate firstDateForBooking,
+                            LocalDate lastDateForBooking) {
+}
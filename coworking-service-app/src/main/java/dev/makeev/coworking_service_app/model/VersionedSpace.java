@@ -0,0 +1,11 @@
+package dev.makeev.coworking_service_app.model;
+
+/**
+ * Represents a space as kept in memory together with the version of its state.
+ *
+ * @param space   the space with its booking slots
+ * @param version the version of the space, greater after every change of the space or its bookings
+ */
+public record VersionedSpace(Space space,
+                             long version) {
+}
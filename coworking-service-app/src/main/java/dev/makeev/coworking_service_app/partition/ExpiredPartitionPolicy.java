@@ -0,0 +1,17 @@
+package dev.makeev.coworking_service_app.partition;
+
+/**
+ * What the {@link LogPartitionMaintainer} does with the partition of a month that is older than the retention.
+ */
+public enum ExpiredPartitionPolicy {
+
+    /**
+     * Drops the partition with its actions.
+     */
+    DROP,
+
+    /**
+     * Detaches the partition from the log, keeping its actions in a table of their own to be archived.
+     */
+    DETACH
+}
@@ -0,0 +1,127 @@
+package dev.makeev.coworking_service_app.partition;
+
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the monthly partitions of the activity log in step with time.
+ * <p>
+ * Every run creates the partitions of the current month and of the configured number of months ahead,
+ * so that actions never land in the default partition, and drops or detaches the partitions of months
+ * whose actions are all older than the retention. Expired partitions are removed even if creating the coming
+ * ones fails, e.g. while rows of a coming month sit in the default partition. A background thread runs it
+ * at startup and then periodically; runs are idempotent, so several instances of the service may maintain
+ * the same log.
+ */
+public class LogPartitionMaintainer implements AutoCloseable {
+
+    private final LogPartitionDAO logPartitionDAO;
+    private final LogPartitionProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    public LogPartitionMaintainer(LogPartitionDAO logPartitionDAO, LogPartitionProperties properties) {
+        this(logPartitionDAO, properties, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates the maintainer with the given source of time.
+     *
+     * @param logPartitionDAO the partitions of the log
+     * @param properties      the settings of the partitions
+     * @param clock           the source of the current date, the system clock outside of tests
+     */
+    LogPartitionMaintainer(LogPartitionDAO logPartitionDAO, LogPartitionProperties properties, Clock clock) {
+        if (properties.monthsAhead() < 0 || properties.retention().isNegative()) {
+            throw new IllegalArgumentException("coworking.log-partitions months-ahead and retention must not be negative");
+        }
+        this.logPartitionDAO = logPartitionDAO;
+        this.properties = properties;
+        this.clock = clock;
+        long checkIntervalMillis = properties.checkInterval().toMillis();
+        if (checkIntervalMillis > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "log-partition-maintainer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::maintainReportingErrors,
+                    0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Creates the partitions of the coming months and removes the partitions of expired months.
+     * Both steps run even if the other one fails.
+     *
+     * @throws RuntimeException the failure of the first failed step, with the other one suppressed
+     */
+    public void maintain() {
+        RuntimeException failure = null;
+        try {
+            createComingPartitions();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        try {
+            removeExpiredPartitions();
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void createComingPartitions() {
+        YearMonth currentMonth = YearMonth.now(clock);
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            logPartitionDAO.createPartition(currentMonth.plusMonths(i));
+        }
+    }
+
+    private void removeExpiredPartitions() {
+        LocalDate oldestKeptDate = LocalDate.now(clock).minus(properties.retention());
+        for (YearMonth month : logPartitionDAO.getPartitions()) {
+            if (!month.plusMonths(1).atDay(1).isAfter(oldestKeptDate)) {
+                switch (properties.expired()) {
+                    case DROP -> logPartitionDAO.dropPartition(month);
+                    case DETACH -> logPartitionDAO.detachPartition(month);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the maintenance on the background thread, which would stop repeating it after an uncaught exception.
+     */
+    private void maintainReportingErrors() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            System.err.println("Error maintaining partitions of the activity log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
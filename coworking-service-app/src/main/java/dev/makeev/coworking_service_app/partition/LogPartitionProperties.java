@@ -0,0 +1,25 @@
+package dev.makeev.coworking_service_app.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * Settings of the monthly partitions of the activity log, bound from {@code coworking.log-partitions.*}.
+ *
+ * @param enabled        whether the partitions are maintained by the application
+ * @param monthsAhead    the number of months after the current one that have a partition created in advance
+ * @param retention      how long actions are kept; a month is expired once all of its actions are older
+ * @param expired        what is done with the partition of an expired month
+ * @param checkInterval  the interval between maintenance runs, the first one running at startup;
+ *                       0 disables the background runs
+ */
+@ConfigurationProperties(prefix = "coworking.log-partitions")
+public record LogPartitionProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("2") int monthsAhead,
+                                     @DefaultValue("12m") Period retention,
+                                     @DefaultValue("DROP") ExpiredPartitionPolicy expired,
+                                     @DefaultValue("1h") Duration checkInterval) {
+}
@@ -0,0 +1,87 @@
+package dev.makeev.coworking_service_app.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import dev.makeev.logging_time_starter.metrics.LatencyHistogram;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of the HikariCP connection pool.
+ * <p>
+ * The time a request waits for a connection and the time it holds the connection are recorded as
+ * {@code HikariPool.acquire} and {@code HikariPool.usage} in the {@link LatencyRegistry}, so they appear
+ * in the periodic latency summary next to the DAO methods. Requests that gave up waiting are counted,
+ * and the current state of the pool is read from the pool itself.
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    public static final String ACQUIRE = "HikariPool.acquire";
+    public static final String USAGE = "HikariPool.usage";
+
+    private final LatencyHistogram acquireLatencies;
+    private final LatencyHistogram usageLatencies;
+    private final LongAdder timeouts = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    public ConnectionPoolMetrics(LatencyRegistry latencyRegistry) {
+        this.acquireLatencies = latencyRegistry.histogramOf(ACQUIRE);
+        this.usageLatencies = latencyRegistry.histogramOf(USAGE);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireLatencies.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageLatencies.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of requests that failed because no connection became free in time.
+     *
+     * @return the number of timeouts
+     */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Returns the number of connections in use.
+     *
+     * @return the active connections, 0 before the pool started
+     */
+    public int activeConnections() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getActiveConnections();
+    }
+
+    /**
+     * Returns the number of threads waiting for a connection.
+     *
+     * @return the waiting threads, 0 before the pool started
+     */
+    public int pendingThreads() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getPendingThreads();
+    }
+}
@@ -2,11 +2,13 @@ package dev.makeev.coworking_service_app.service;
 
 import dev.makeev.coworking_service_app.dto.BookingAddDTO;
 import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
+import dev.makeev.coworking_service_app.exceptions.BadRequestException;
 import dev.makeev.coworking_service_app.exceptions.BookingNotFoundException;
 import dev.makeev.coworking_service_app.exceptions.SpaceIsNotAvailableException;
 import dev.makeev.coworking_service_app.exceptions.SpaceNotFoundException;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing bookings.
@@ -23,19 +25,40 @@ public interface BookingService {
     void addBooking(String login, BookingAddDTO bookingAddDTO) throws SpaceIsNotAvailableException, SpaceNotFoundException;
 
     /**
-     * Retrieves all bookings for a user.
+     * Retrieves a page of the bookings of a user ordered by ID.
      *
-     * @param login the login of the user
-     * @return a list of formatted booking strings
+     * @param login  the login of the user
+     * @param cursor the token of the page returned with the previous page, or {@code null} for the first page
+     * @param limit  the maximum number of bookings on the page
+     * @return the page of bookings
+     * @throws BadRequestException if the cursor is malformed or belongs to another user
+     */
+    BookingPage getAllBookingsForUser(String login, String cursor, int limit) throws BadRequestException;
+
+    /**
+     * Retrieves a page of all bookings sorted by user and ID.
+     *
+     * @param cursor the token of the page returned with the previous page, or {@code null} for the first page
+     * @param limit  the maximum number of bookings on the page
+     * @return the page of bookings
+     * @throws BadRequestException if the cursor is malformed
+     */
+    BookingPage getAllBookingsSortedByUser(String cursor, int limit) throws BadRequestException;
+
+    /**
+     * Passes every booking of a user to an action, ordered by ID, as the bookings are read.
+     *
+     * @param login  the login of the user
+     * @param action the action to run for each booking
      */
-    List<BookingDTO> getAllBookingsForUser(String login);
+    void forEachBookingForUser(String login, Consumer<BookingDTO> action);
 
     /**
-     * Retrieves all bookings sorted by user.
+     * Passes every booking to an action, sorted by user and ID, as the bookings are read.
      *
-     * @return a list of formatted booking strings
+     * @param action the action to run for each booking
      */
-    List<BookingDTO> getAllBookingsSortedByUser();
+    void forEachBookingSortedByUser(Consumer<BookingDTO> action);
 
     /**
      * Deletes a booking by its index in the user's booking list.
@@ -0,0 +1,31 @@
+package dev.makeev.coworking_service_app.service;
+
+import dev.makeev.coworking_service_app.dto.LogOfUserActionDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for reading the activity log of users.
+ */
+public interface LogGetService {
+
+    /**
+     * Retrieves the actions of a period.
+     *
+     * @param from the start of the period inclusive, or {@code null} for the beginning of the log
+     * @param to   the end of the period exclusive, or {@code null} for the end of the log
+     * @return a list of actions
+     */
+    List<LogOfUserActionDTO> getLogs(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Passes every action of a period to another action as the log is read.
+     *
+     * @param from   the start of the period inclusive, or {@code null} for the beginning of the log
+     * @param to     the end of the period exclusive, or {@code null} for the end of the log
+     * @param action the action to run for each action of the log
+     */
+    void forEachLog(LocalDateTime from, LocalDateTime to, Consumer<LogOfUserActionDTO> action);
+}
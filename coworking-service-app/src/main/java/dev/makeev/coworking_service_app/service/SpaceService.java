@@ -1,5 +1,6 @@
 package dev.makeev.coworking_service_app.service;
 
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDTO;
 import dev.makeev.coworking_service_app.exceptions.SpaceAlreadyExistsException;
@@ -26,6 +27,13 @@ public interface SpaceService {
      */
     List<SpaceDTO> getSpaces();
 
+    /**
+     * Retrieves a list of all spaces with the free slots of every day merged into intervals.
+     *
+     * @return a list of all spaces
+     */
+    List<CompactSpaceDTO> getCompactSpaces();
+
     /**
      * Deletes a space by its name.
      *
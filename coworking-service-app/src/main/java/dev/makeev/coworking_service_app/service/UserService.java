@@ -2,6 +2,7 @@ package dev.makeev.coworking_service_app.service;
 
 import dev.makeev.coworking_service_app.exceptions.LoginAlreadyExistsException;
 import dev.makeev.coworking_service_app.exceptions.VerificationException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 
 /**
  * UserService interface for managing users.
@@ -18,15 +19,13 @@ public interface UserService {
      */
     String checkCredentials(String login, String password) throws VerificationException;
 
-    String validateToken(String token) throws VerificationException;
-
-    void logOut(String token);
-
     /**
-     * Checks if a user is an admin.
+     * Checks a token and resolves the user it was issued to, together with the role of the user.
      *
-     * @param login The login of the user.
-     * @return {@code true} if the user is an admin, {@code false} otherwise.
+     * @param token The token to check.
+     * @return the authenticated user of the token
      */
-    boolean isAdmin(String login);
+    AuthenticatedUser validateToken(String token) throws VerificationException;
+
+    void logOut(String token);
 }
@@ -4,12 +4,16 @@ import dev.makeev.coworking_service_app.dao.BookingDAO;
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
 import dev.makeev.coworking_service_app.dto.BookingAddDTO;
 import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
+import dev.makeev.coworking_service_app.exceptions.BadRequestException;
 import dev.makeev.coworking_service_app.exceptions.BookingNotFoundException;
 import dev.makeev.coworking_service_app.exceptions.SpaceIsNotAvailableException;
 import dev.makeev.coworking_service_app.exceptions.SpaceNotFoundException;
 import dev.makeev.coworking_service_app.mappers.BookingMapper;
 import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
 import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.Space;
 import dev.makeev.coworking_service_app.model.WorkingHours;
 import dev.makeev.coworking_service_app.service.BookingService;
@@ -17,12 +21,11 @@ import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
 import dev.makeev.logging_to_db_starter.advice.annotations.LoggingToDb;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.function.Consumer;
 
 /**
  * The {@code BookingServiceImpl} class implements the {@link BookingService} interface.
@@ -39,60 +42,127 @@ public class BookingServiceImpl implements BookingService {
     /**
      * {@inheritdoc}
      */
-    @LoggingTime
+    @LoggingTime(slowThresholdMillis = 500)
     @LoggingToDb
+    @Transactional
     @Override
     public void addBooking(String login, BookingAddDTO bookingAddDTO) throws SpaceIsNotAvailableException, SpaceNotFoundException {
-        Space bookingSpace = spaceDAO.getSpaceByName(bookingAddDTO.nameOfBookingSpace()).orElseThrow(SpaceNotFoundException::new);
         Booking booking = bookingMapper.toBooking(login, bookingAddDTO);
-        if (isSpaceAvailableForBookingOnDateAndTime(bookingSpace, booking.bookingRange(), bookingSpace.workingHours())) {
-            bookingDAO.add(booking);
-        } else {
+        Space bookingSpace = spaceDAO.getSpaceByNameForRange(bookingAddDTO.nameOfBookingSpace(), booking.bookingRange())
+                .orElseThrow(SpaceNotFoundException::new);
+        if (!isSpaceAvailableForBookingOnDateAndTime(bookingSpace, booking.bookingRange(), bookingSpace.workingHours())
+                || !bookingDAO.add(booking)) {
             throw new SpaceIsNotAvailableException();
         }
     }
 
     /**
      * Checks if a space is available for booking on a specified date and time.
+     * Every day of the range is checked with a single mask comparison against the occupancy of the space.
      *
-     * @param bookingSpace the space to check
+     * @param bookingSpace the space to check, holding at least the slots of the booking range
      * @param bookingRange the range of the booking
      * @param workingHours the working hours of the space
      * @return true if the space is available, false otherwise
      */
     private Boolean isSpaceAvailableForBookingOnDateAndTime(Space bookingSpace, BookingRange bookingRange, WorkingHours workingHours) {
-        if (!isValidDateAndTimeOfBooking(bookingSpace, bookingRange, workingHours)) {
+        if (!isValidDateAndTimeOfBooking(bookingRange, workingHours)) {
+            return false;
+        }
+
+        SlotOccupancy bookingSlots = bookingSpace.bookingSlots();
+        int firstDay = bookingSlots.dayOf(bookingRange.beginningBookingDate());
+        int lastDay = bookingSlots.dayOf(bookingRange.endingBookingDate());
+        if (firstDay < 0 || lastDay < 0 || bookingSlots.slotMask(firstDay) == 0 || bookingSlots.slotMask(lastDay) == 0) {
             return false;
         }
 
-        return bookingRange.beginningBookingDate().datesUntil(bookingRange.endingBookingDate().plusDays(1))
-                .allMatch(date -> {
-                    Map<Integer, Long> slots = bookingSpace.bookingSlots().get(date);
-                    int startHour = (date.equals(bookingRange.beginningBookingDate())) ?
-                            bookingRange.beginningBookingHour() : workingHours.hourOfBeginningWorkingDay();
-                    int endHour = (date.equals(bookingRange.endingBookingDate())) ?
-                            bookingRange.endingBookingHour() : workingHours.hourOfEndingWorkingDay();
+        for (int day = firstDay; day <= lastDay; day++) {
+            int startHour = (day == firstDay) ?
+                    bookingRange.beginningBookingHour() : workingHours.hourOfBeginningWorkingDay();
+            int endHour = (day == lastDay) ?
+                    bookingRange.endingBookingHour() : workingHours.hourOfEndingWorkingDay();
 
-                    return IntStream.range(startHour, endHour).allMatch(hour -> slots.get(hour) == 0L);
-                });
+            if (!bookingSlots.isFree(day, SlotOccupancy.hourMask(startHour, endHour))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Validates the date and time of a booking.
+     * The range must not start in the past, must end after it starts and must fit the working hours.
      *
-     * @param bookingSpace the space to check
      * @param bookingRange the range of the booking
      * @param workingHours the working hours of the space
      * @return true if the date and time are valid, false otherwise
      */
-    private static boolean isValidDateAndTimeOfBooking(Space bookingSpace, BookingRange bookingRange, WorkingHours workingHours) {
-        if (bookingRange.beginningBookingDate().isBefore(LocalDate.now())) {
+    private static boolean isValidDateAndTimeOfBooking(BookingRange bookingRange, WorkingHours workingHours) {
+        LocalDate beginningDate = bookingRange.beginningBookingDate();
+        LocalDate endingDate = bookingRange.endingBookingDate();
+        if (beginningDate.isBefore(LocalDate.now()) || endingDate.isBefore(beginningDate)) {
             return false;
-        } else if (bookingRange.beginningBookingHour() < workingHours.hourOfBeginningWorkingDay() ||
-                bookingRange.endingBookingHour() > workingHours.hourOfEndingWorkingDay()) {
+        } else if (endingDate.equals(beginningDate)
+                && bookingRange.endingBookingHour() <= bookingRange.beginningBookingHour()) {
             return false;
-        } else return bookingSpace.bookingSlots().containsKey(bookingRange.beginningBookingDate()) &&
-                bookingSpace.bookingSlots().containsKey(bookingRange.endingBookingDate());
+        } else return bookingRange.beginningBookingHour() >= workingHours.hourOfBeginningWorkingDay() &&
+                bookingRange.endingBookingHour() <= workingHours.hourOfEndingWorkingDay();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @LoggingTime
+    @LoggingToDb
+    @Override
+    public BookingPage getAllBookingsForUser(String login, String cursor, int limit) throws BadRequestException {
+        long afterId = 0L;
+        if (cursor != null) {
+            BookingCursor after = decode(cursor);
+            if (!after.login().equals(login)) {
+                throw new BadRequestException();
+            }
+            afterId = after.id();
+        }
+        return toPage(bookingDAO.getPageForUser(login, afterId, limit + 1), limit);
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The bookings are sorted by the database and read one page at a time, so the number of bookings
+     * held in memory is bounded by the size of the page.
+     */
+    @Override
+    public BookingPage getAllBookingsSortedByUser(String cursor, int limit) throws BadRequestException {
+        BookingCursor after = cursor == null ? null : decode(cursor);
+        return toPage(bookingDAO.getPage(after, limit + 1), limit);
+    }
+
+    /**
+     * Converts the bookings read for a page to the page. One booking more than fits the page is read
+     * to find out whether there is a next page.
+     *
+     * @param bookings the bookings read, at most {@code limit + 1}
+     * @param limit    the maximum number of bookings on the page
+     * @return the page of bookings
+     */
+    private BookingPage toPage(List<Booking> bookings, int limit) {
+        if (bookings.size() <= limit) {
+            return new BookingPage(bookings.stream().map(bookingMapper::toBookingDTO).toList(), null);
+        }
+        List<Booking> bookingsOfPage = bookings.subList(0, limit);
+        return new BookingPage(bookingsOfPage.stream().map(bookingMapper::toBookingDTO).toList(),
+                BookingCursor.after(bookingsOfPage.get(limit - 1)).encode());
+    }
+
+    private static BookingCursor decode(String cursor) {
+        try {
+            return BookingCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException();
+        }
     }
 
     /**
@@ -101,23 +171,16 @@ public class BookingServiceImpl implements BookingService {
     @LoggingTime
     @LoggingToDb
     @Override
-    public List<BookingDTO> getAllBookingsForUser(String login) {
-        return bookingDAO.getAllForUser(login)
-                .stream()
-                .map(bookingMapper::toBookingDTO)
-                .toList();
+    public void forEachBookingForUser(String login, Consumer<BookingDTO> action) {
+        bookingDAO.forEachForUser(login, booking -> action.accept(bookingMapper.toBookingDTO(booking)));
     }
 
     /**
      * {@inheritdoc}
      */
     @Override
-    public List<BookingDTO> getAllBookingsSortedByUser() {
-        return bookingDAO.getAll()
-                .stream()
-                .sorted(Comparator.comparing(Booking::login))
-                .map(bookingMapper::toBookingDTO)
-                .toList();
+    public void forEachBookingSortedByUser(Consumer<BookingDTO> action) {
+        bookingDAO.forEach(booking -> action.accept(bookingMapper.toBookingDTO(booking)));
     }
 
     /**
@@ -125,6 +188,7 @@ public class BookingServiceImpl implements BookingService {
      */
     @LoggingTime
     @LoggingToDb
+    @Transactional
     @Override
     public void deleteBookingById(String login, long id) throws BookingNotFoundException {
         bookingDAO.getBookingById(id).orElseThrow(BookingNotFoundException::new);
@@ -136,6 +200,7 @@ public class BookingServiceImpl implements BookingService {
      */
     @LoggingTime
     @LoggingToDb
+    @Transactional
     @Override
     public void deleteBookingByIdByAdmin(String login, long id) throws BookingNotFoundException {
         Booking booking = bookingDAO.getBookingById(id).orElseThrow(BookingNotFoundException::new);
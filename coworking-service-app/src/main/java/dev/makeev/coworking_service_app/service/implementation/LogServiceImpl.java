@@ -0,0 +1,65 @@
+package dev.makeev.coworking_service_app.service.implementation;
+
+import dev.makeev.coworking_service_app.dao.LogDAO;
+import dev.makeev.coworking_service_app.dto.LogOfUserActionDTO;
+import dev.makeev.coworking_service_app.mappers.LogOfUserActionMapper;
+import dev.makeev.coworking_service_app.model.LogOfUserAction;
+import dev.makeev.coworking_service_app.service.LogGetService;
+import dev.makeev.logging_to_db_starter.model.LogRecord;
+import dev.makeev.logging_to_db_starter.service.LogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The {@code LogServiceImpl} class implements the {@link LogService} and {@link LogGetService} interfaces.
+ * It stores and provides the activity log of users.
+ */
+@Service
+@RequiredArgsConstructor
+public class LogServiceImpl implements LogService, LogGetService {
+
+    private final LogDAO logDAO;
+    private final LogOfUserActionMapper logOfUserActionMapper;
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void addLog(String loginArg, String methodName) {
+        logDAO.add(new LogOfUserAction(LocalDateTime.now(), loginArg, methodName));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void addLogs(List<LogRecord> logRecords) {
+        logDAO.addAll(logRecords.stream()
+                .map(logRecord -> new LogOfUserAction(logRecord.timestamp(),
+                        logRecord.loginArg(), logRecord.methodName()))
+                .toList());
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public List<LogOfUserActionDTO> getLogs(LocalDateTime from, LocalDateTime to) {
+        return logDAO.getBetween(from, to).stream()
+                .map(logOfUserActionMapper::toLogOfUserActionDTO)
+                .toList();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void forEachLog(LocalDateTime from, LocalDateTime to, Consumer<LogOfUserActionDTO> action) {
+        logDAO.forEachBetween(from, to,
+                logOfUserAction -> action.accept(logOfUserActionMapper.toLogOfUserActionDTO(logOfUserAction)));
+    }
+}
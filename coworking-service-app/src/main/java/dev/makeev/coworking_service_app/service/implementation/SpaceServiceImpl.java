@@ -1,24 +1,27 @@
 package dev.makeev.coworking_service_app.service.implementation;
 
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDTO;
 import dev.makeev.coworking_service_app.exceptions.SpaceAlreadyExistsException;
 import dev.makeev.coworking_service_app.exceptions.SpaceNotFoundException;
+import dev.makeev.coworking_service_app.model.FreeIntervals;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.SlotsAvailableForBooking;
 import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.VersionedSpace;
 import dev.makeev.coworking_service_app.model.WorkingHours;
 import dev.makeev.coworking_service_app.service.SpaceService;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
 import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * The {@code SpaceServiceImpl} class implements the {@link SpaceService} interface.
@@ -28,11 +31,35 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SpaceServiceImpl implements SpaceService {
 
+    /**
+     * Labels of the hourly slots, formatted once instead of for every free hour of every listing.
+     */
+    private static final String[] SLOT_LABELS = new String[SlotOccupancy.HOURS_PER_DAY];
+
+    /**
+     * Labels of the intervals {@code [fromHour, toHour)}, indexed by {@code fromHour} and {@code toHour}.
+     */
+    private static final String[][] INTERVAL_LABELS =
+            new String[SlotOccupancy.HOURS_PER_DAY][SlotOccupancy.HOURS_PER_DAY + 1];
+
+    static {
+        for (int hour = 0; hour < SLOT_LABELS.length; hour++) {
+            SLOT_LABELS[hour] = String.format("%02d:00 - %02d:00", hour, hour + 1);
+        }
+        for (int fromHour = 0; fromHour < SlotOccupancy.HOURS_PER_DAY; fromHour++) {
+            for (int toHour = fromHour + 1; toHour <= SlotOccupancy.HOURS_PER_DAY; toHour++) {
+                INTERVAL_LABELS[fromHour][toHour] = String.format("%02d:00-%02d:00", fromHour, toHour);
+            }
+        }
+    }
+
     private final SpaceDAO spaceDAO;
+    private final SpaceAvailabilityView spaceAvailabilityView;
 
     /**
      * {@inheritdoc}
      */
+    @Transactional
     @Override
     public void addSpace(SpaceAddDTO spaceAddDTO) throws SpaceAlreadyExistsException, SpaceNotFoundException {
         WorkingHours workingHours = new WorkingHours(spaceAddDTO.hourOfBeginningWorkingDay(), spaceAddDTO.hourOfEndingWorkingDay());
@@ -41,55 +68,126 @@ public class SpaceServiceImpl implements SpaceService {
             throw new SpaceAlreadyExistsException();
         }
 
-        LocalDate nowDate = LocalDate.now();
-        Map<LocalDate, Map<Integer, Long>> bookingSlots = new HashMap<>();
-
-        Map<Integer, Long> slots = new HashMap<>();
-        long freeSlot = 0L;
-        for (int i = spaceAddDTO.hourOfBeginningWorkingDay(); i < spaceAddDTO.hourOfEndingWorkingDay(); i++) {
-            slots.put(i, freeSlot);
-        }
-
-        for (int i = 0; i < spaceAddDTO.numberOfDaysAvailableForBooking(); i++) {
-            bookingSlots.put(nowDate.plusDays(i), slots);
-        }
+        SlotOccupancy bookingSlots = SlotOccupancy.free(LocalDate.now(),
+                spaceAddDTO.numberOfDaysAvailableForBooking(), workingHours);
 
         spaceDAO.add(new Space(spaceAddDTO.name(), workingHours, bookingSlots));
     }
 
     /**
      * {@inheritdoc}
+     * <p>
+     * The spaces are read from the {@link SpaceAvailabilityView} without any query. If the view is not kept,
+     * all spaces with their slots are loaded by one DAO call, so the number of queries does not
+     * depend on the number of spaces.
      */
     @LoggingTime
     @Override
     public List<SpaceDTO> getSpaces() {
-        List<SpaceDTO> spaceDTOsList = new ArrayList<>();
-        long freeSlot = 0L;
-
-        spaceDAO.getNamesOfSpaces().forEach(s -> {
-            List<SlotsAvailableForBooking> availableSlots = new ArrayList<>();
-            spaceDAO.getSpaceByName(s).orElseThrow(SpaceNotFoundException::new).bookingSlots()
-                    .entrySet()
-                    .stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .forEachOrdered(dateEntry -> {
-                        List<String> slots = new ArrayList<>();
-                        dateEntry.getValue().keySet().stream()
-                                .filter(hour -> dateEntry.getValue().get(hour) == freeSlot)
-                                .sorted(Comparator.naturalOrder())
-                                .forEachOrdered(hour ->
-                                        slots.add(String.format("%02d:00 - %02d:00", hour, hour + 1)));
-                        availableSlots.add(new SlotsAvailableForBooking(dateEntry.getKey().toString(), slots));
-                    });
-            spaceDTOsList.add(new SpaceDTO(s, availableSlots));
-        });
-
-        return spaceDTOsList;
+        return getAllSpaces().stream()
+                .map(SpaceServiceImpl::toSpaceDTO)
+                .toList();
+    }
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * The spaces are read as in {@link #getSpaces()}, but a day produces one label per run of free hours
+     * instead of one per free hour.
+     */
+    @LoggingTime
+    @Override
+    public List<CompactSpaceDTO> getCompactSpaces() {
+        return getAllSpaces().stream()
+                .map(SpaceServiceImpl::toCompactSpaceDTO)
+                .toList();
+    }
+
+    /**
+     * Returns all spaces from the availability view, or from the database if the view is not kept.
+     *
+     * @return all spaces with their versions
+     */
+    private List<VersionedSpace> getAllSpaces() {
+        return spaceAvailabilityView.getAllSpaces()
+                .orElseGet(() -> spaceDAO.getAllSpaces().stream()
+                        .map(space -> new VersionedSpace(space, 0L))
+                        .toList());
+    }
+
+    /**
+     * Converts a space to a DTO listing the free slots of every day that has booking slots.
+     *
+     * @param versionedSpace the space with its version
+     * @return the DTO of the space
+     */
+    private static SpaceDTO toSpaceDTO(VersionedSpace versionedSpace) {
+        Space space = versionedSpace.space();
+        SlotOccupancy bookingSlots = space.bookingSlots();
+        List<SlotsAvailableForBooking> availableSlots = new ArrayList<>(bookingSlots.numberOfDays());
+        for (int day = 0; day < bookingSlots.numberOfDays(); day++) {
+            if (bookingSlots.slotMask(day) != 0) {
+                availableSlots.add(new SlotsAvailableForBooking(bookingSlots.dateOf(day).toString(),
+                        formatSlots(bookingSlots.freeMask(day))));
+            }
+        }
+        return new SpaceDTO(space.name(), availableSlots, versionedSpace.version());
+    }
+
+    /**
+     * Converts a space to a DTO listing the free intervals of every day that has booking slots.
+     *
+     * @param versionedSpace the space with its version
+     * @return the compact DTO of the space
+     */
+    private static CompactSpaceDTO toCompactSpaceDTO(VersionedSpace versionedSpace) {
+        Space space = versionedSpace.space();
+        SlotOccupancy bookingSlots = space.bookingSlots();
+        List<FreeIntervals> freeIntervals = new ArrayList<>(bookingSlots.numberOfDays());
+        for (int day = 0; day < bookingSlots.numberOfDays(); day++) {
+            if (bookingSlots.slotMask(day) != 0) {
+                freeIntervals.add(new FreeIntervals(bookingSlots.dateOf(day).toString(),
+                        formatIntervals(bookingSlots.freeMask(day))));
+            }
+        }
+        return new CompactSpaceDTO(space.name(), freeIntervals, versionedSpace.version());
+    }
+
+    /**
+     * Formats every run of consecutive free hours of the mask as a {@code "HH:00-HH:00"} interval.
+     *
+     * @param freeMask the mask of the free hours of a day
+     * @return the formatted intervals in ascending order of hours
+     */
+    private static List<String> formatIntervals(int freeMask) {
+        List<String> intervals = new ArrayList<>(2);
+        for (int hours = freeMask; hours != 0; ) {
+            int fromHour = Integer.numberOfTrailingZeros(hours);
+            int toHour = fromHour + Integer.numberOfTrailingZeros(~(hours >>> fromHour));
+            intervals.add(INTERVAL_LABELS[fromHour][toHour]);
+            hours &= ~SlotOccupancy.hourMask(fromHour, toHour);
+        }
+        return intervals;
+    }
+
+    /**
+     * Formats every free hour of the mask as a {@code "HH:00 - HH:00"} slot.
+     *
+     * @param freeMask the mask of the free hours of a day
+     * @return the formatted slots in ascending order of hours
+     */
+    private static List<String> formatSlots(int freeMask) {
+        List<String> slots = new ArrayList<>(Integer.bitCount(freeMask));
+        for (int hours = freeMask; hours != 0; hours &= hours - 1) {
+            slots.add(SLOT_LABELS[Integer.numberOfTrailingZeros(hours)]);
+        }
+        return slots;
     }
 
     /**
      * {@inheritdoc}
      */
+    @Transactional
     @Override
     public void deleteSpace(String nameOfSpace) throws SpaceNotFoundException {
         spaceDAO.getSpaceByName(nameOfSpace).orElseThrow(SpaceNotFoundException::new);
@@ -3,13 +3,15 @@ package dev.makeev.coworking_service_app.service.implementation;
 import dev.makeev.coworking_service_app.dao.UserDAO;
 import dev.makeev.coworking_service_app.exceptions.LoginAlreadyExistsException;
 import dev.makeev.coworking_service_app.exceptions.VerificationException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.model.User;
 import dev.makeev.coworking_service_app.service.UserService;
-import dev.makeev.coworking_service_app.util.TokenUtil;
+import dev.makeev.coworking_service_app.token.TokenStore;
 import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
 import dev.makeev.logging_to_db_starter.advice.annotations.LoggingToDb;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -26,18 +28,24 @@ public class UserServiceImpl implements UserService {
      */
     private final UserDAO userDAO;
 
+    /**
+     * The TokenStore instance for issuing and checking tokens.
+     */
+    private final TokenStore tokenStore;
+
     /**
      * {@inheritdoc}
      */
     @LoggingTime
     @LoggingToDb
+    @Transactional
     @Override
     public String addUser(String login, String password) throws LoginAlreadyExistsException {
         if (userDAO.getByLogin(login).isPresent()){
             throw new LoginAlreadyExistsException();
         }
         userDAO.add(new User(login, password));
-        return TokenUtil.generateToken(login);
+        return tokenStore.generate(login, false);
     }
 
 
@@ -50,7 +58,7 @@ public class UserServiceImpl implements UserService {
     public String checkCredentials(String login, String password) throws VerificationException {
         Optional<User> user = userDAO.getByLogin(login);
         if (user.isPresent() && user.get().password().equals(password)) {
-            return TokenUtil.generateToken(login);
+            return tokenStore.generate(login, Boolean.TRUE.equals(user.get().isAdmin()));
         } else {
             throw new VerificationException();
         }
@@ -59,10 +67,10 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritdoc}
      */
-    @LoggingTime
+    @LoggingTime(sampleRate = 64)
     @Override
-    public String validateToken(String token) throws VerificationException {
-        return TokenUtil.validateToken(token).orElseThrow(VerificationException::new);
+    public AuthenticatedUser validateToken(String token) throws VerificationException {
+        return tokenStore.validate(token).orElseThrow(VerificationException::new);
     }
 
     /**
@@ -72,15 +80,6 @@ public class UserServiceImpl implements UserService {
     @LoggingToDb
     @Override
     public void logOut(String token) {
-        TokenUtil.invalidateToken(token);
-    }
-
-    /**
-     * {@inheritdoc}
-     */
-    @LoggingTime
-    @Override
-    public boolean isAdmin(String login){
-        return userDAO.getByLogin(login).map(User::isAdmin).orElse(false);
+        tokenStore.invalidate(token);
     }
 }
@@ -0,0 +1,22 @@
+package dev.makeev.coworking_service_app.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the authentication tokens, bound from {@code coworking.token.*}.
+ *
+ * @param ttl           the time a token stays valid since it was issued or last used
+ * @param maxSize       the maximum number of tokens kept at once
+ * @param sweepInterval the interval between removals of expired tokens
+ * @param secret        the key signing stateless tokens, shared by all instances of the service;
+ *                      required when the tokens are signed
+ */
+@ConfigurationProperties(prefix = "coworking.token")
+public record TokenProperties(@DefaultValue("30m") Duration ttl,
+                              @DefaultValue("100000") int maxSize,
+                              @DefaultValue("1m") Duration sweepInterval,
+                              String secret) {
+}
@@ -0,0 +1,35 @@
+package dev.makeev.coworking_service_app.token;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+
+import java.util.Optional;
+
+/**
+ * TokenStore interface for issuing and checking the authentication tokens of users.
+ */
+public interface TokenStore {
+
+    /**
+     * Issues a new token for a user.
+     *
+     * @param login the login of the user
+     * @param admin whether the user has administrative privileges
+     * @return the new token
+     */
+    String generate(String login, boolean admin);
+
+    /**
+     * Checks a token and returns its user.
+     *
+     * @param token the token to check
+     * @return the user of the token, or an empty optional if the token is unknown, expired or invalidated
+     */
+    Optional<AuthenticatedUser> validate(String token);
+
+    /**
+     * Invalidates a token, e.g. when the user logs out.
+     *
+     * @param token the token to invalidate
+     */
+    void invalidate(String token);
+}
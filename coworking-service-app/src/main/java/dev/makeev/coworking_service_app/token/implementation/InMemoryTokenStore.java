@@ -0,0 +1,200 @@
+package dev.makeev.coworking_service_app.token.implementation;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import dev.makeev.coworking_service_app.token.TokenStore;
+import dev.makeev.coworking_service_app.util.SampledKeys;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code InMemoryTokenStore} class implements the {@link TokenStore} interface.
+ * Tokens are kept in a {@link ConcurrentHashMap}, so they can be issued and checked from
+ * every request thread without locking, and counted apart from the map, whose size is not kept.
+ * <p>
+ * A token expires when it has not been used for the configured TTL; every successful
+ * validation moves its expiry forward. When the store is full, the token expiring soonest
+ * among a small sample of tokens picked at random is evicted.
+ * A background thread periodically removes expired tokens.
+ */
+public class InMemoryTokenStore implements TokenStore, AutoCloseable {
+
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final SampledKeys<String> tokens = new SampledKeys<>();
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+    private final ScheduledExecutorService sweeper;
+
+    public InMemoryTokenStore(TokenProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Creates the store with the given source of time.
+     *
+     * @param properties the settings of the tokens
+     * @param nanoClock  the source of time in nanoseconds, {@code System::nanoTime} outside of tests
+     */
+    InMemoryTokenStore(TokenProperties properties, LongSupplier nanoClock) {
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maxSize = properties.maxSize();
+        this.nanoClock = nanoClock;
+        long sweepIntervalMillis = properties.sweepInterval().toMillis();
+        if (sweepIntervalMillis > 0) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "token-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.sweeper.scheduleWithFixedDelay(this::removeExpired,
+                    sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public String generate(String login, boolean admin) {
+        if (size.get() >= maxSize) {
+            makeRoom();
+        }
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, new Session(new AuthenticatedUser(login, admin), nanoClock.getAsLong() + ttlNanos));
+        size.incrementAndGet();
+        tokens.add(token);
+        return token;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<AuthenticatedUser> validate(String token) {
+        Session session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long now = nanoClock.getAsLong();
+        if (session.isExpiredAt(now)) {
+            remove(token, session);
+            return Optional.empty();
+        }
+        session.expiresAt = now + ttlNanos;
+        return Optional.of(session.user);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void invalidate(String token) {
+        if (sessions.remove(token) != null) {
+            size.decrementAndGet();
+            tokens.removeIfAbsent(token, sessions);
+        }
+    }
+
+    /**
+     * Returns the number of tokens currently kept, including expired tokens not yet removed.
+     *
+     * @return the number of tokens
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Removes every expired token.
+     */
+    public void removeExpired() {
+        long now = nanoClock.getAsLong();
+        sessions.forEach((token, session) -> {
+            if (session.isExpiredAt(now)) {
+                remove(token, session);
+            }
+        });
+    }
+
+    /**
+     * Stops the background removal of expired tokens.
+     */
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * Frees space for a new token by evicting the tokens expiring soonest among small samples.
+     * The bound is approximate when tokens are issued concurrently.
+     */
+    private void makeRoom() {
+        while (size.get() >= maxSize) {
+            String candidate = null;
+            Session candidateSession = null;
+            for (String token : tokens.sample(EVICTION_SAMPLE_SIZE)) {
+                Session session = sessions.get(token);
+                if (session == null) {
+                    tokens.removeIfAbsent(token, sessions);
+                } else if (candidateSession == null || session.expiresAt - candidateSession.expiresAt < 0) {
+                    candidate = token;
+                    candidateSession = session;
+                }
+            }
+            if (candidate == null) {
+                if (tokens.size() == 0) {
+                    return;
+                }
+            } else {
+                remove(candidate, candidateSession);
+            }
+        }
+    }
+
+    /**
+     * Removes a token if it still belongs to the given session.
+     *
+     * @param token   the token to remove
+     * @param session the session of the token
+     */
+    private void remove(String token, Session session) {
+        if (sessions.remove(token, session)) {
+            size.decrementAndGet();
+            tokens.removeIfAbsent(token, sessions);
+        }
+    }
+
+    /**
+     * The user of a token and the moment the token expires.
+     */
+    private static final class Session {
+
+        private final AuthenticatedUser user;
+        private volatile long expiresAt;
+
+        private Session(AuthenticatedUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpiredAt(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
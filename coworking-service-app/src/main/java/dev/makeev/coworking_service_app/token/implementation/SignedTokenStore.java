@@ -0,0 +1,217 @@
+package dev.makeev.coworking_service_app.token.implementation;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import dev.makeev.coworking_service_app.token.TokenStore;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@code SignedTokenStore} class implements the {@link TokenStore} interface with
+ * self-contained tokens. A token carries the login, the admin flag and the expiry of the user,
+ * signed with HMAC-SHA256, so it is checked by any instance sharing the secret without
+ * a lookup and survives restarts.
+ * <p>
+ * Token format: {@code base64url(expiresAt:admin:nonce:login) "." base64url(signature)}.
+ * Tokens expire a fixed TTL after they were issued. Tokens of users who logged out are kept
+ * in a small revocation list until they expire; while the list is empty a check does not touch it.
+ */
+public class SignedTokenStore implements TokenStore, AutoCloseable {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> revokedSignatures = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public SignedTokenStore(TokenProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the store with the given source of time.
+     *
+     * @param properties the settings of the tokens
+     * @param clock      the source of time in epoch milliseconds, {@code System::currentTimeMillis} outside of tests
+     */
+    SignedTokenStore(TokenProperties properties, LongSupplier clock) {
+        this.key = new SecretKeySpec(secretOf(properties), ALGORITHM);
+        this.ttlMillis = properties.ttl().toMillis();
+        this.clock = clock;
+        newMac();
+        long sweepIntervalMillis = properties.sweepInterval().toMillis();
+        if (sweepIntervalMillis > 0) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "revoked-token-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.sweeper.scheduleWithFixedDelay(this::removeExpired,
+                    sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public String generate(String login, boolean admin) {
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        String payload = expiresAt + ":" + (admin ? 1 : 0) + ":"
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ":" + login;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<AuthenticatedUser> validate(String token) {
+        Claims claims = parse(token);
+        if (claims == null || isRevoked(claims.signature())) {
+            return Optional.empty();
+        }
+        return Optional.of(claims.user());
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void invalidate(String token) {
+        Claims claims = parse(token);
+        if (claims != null) {
+            revokedSignatures.put(ENCODER.encodeToString(claims.signature()), claims.expiresAt());
+        }
+    }
+
+    /**
+     * Returns the number of revoked tokens that have not expired yet.
+     *
+     * @return the size of the revocation list
+     */
+    public int revokedCount() {
+        return revokedSignatures.size();
+    }
+
+    /**
+     * Removes expired tokens from the revocation list, since they are rejected by their expiry anyway.
+     */
+    public void removeExpired() {
+        long now = clock.getAsLong();
+        revokedSignatures.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /**
+     * Stops the background cleanup of the revocation list.
+     */
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    private boolean isRevoked(byte[] signature) {
+        return !revokedSignatures.isEmpty() && revokedSignatures.containsKey(ENCODER.encodeToString(signature));
+    }
+
+    /**
+     * Verifies the signature and the expiry of a token and extracts its claims.
+     *
+     * @param token the token
+     * @return the claims of the token, or {@code null} if the token is malformed, forged or expired
+     */
+    private Claims parse(String token) {
+        if (token == null) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+        byte[] payloadBytes;
+        byte[] signatureBytes;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, separator));
+            signatureBytes = sign(payloadBytes);
+            if (!MessageDigest.isEqual(signatureBytes, DECODER.decode(token.substring(separator + 1)))) {
+                return null;
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split(":", 4);
+        if (parts.length != 4) {
+            return null;
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(parts[0]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (clock.getAsLong() >= expiresAt) {
+            return null;
+        }
+        return new Claims(new AuthenticatedUser(parts[3], "1".equals(parts[1])), expiresAt, signatureBytes);
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+
+    private static byte[] secretOf(TokenProperties properties) {
+        String secret = properties.secret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException(
+                    "coworking.token.secret must be set when coworking.token.mode is signed");
+        }
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                    "coworking.token.secret must be at least " + MIN_SECRET_LENGTH + " bytes long");
+        }
+        return secretBytes;
+    }
+
+    /**
+     * The verified content of a token. The signature is the one computed by this store, so that it
+     * identifies the token in the revocation list regardless of how the client encoded it.
+     */
+    private record Claims(AuthenticatedUser user, long expiresAt, byte[] signature) {
+    }
+}
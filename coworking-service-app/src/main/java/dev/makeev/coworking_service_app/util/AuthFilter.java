@@ -2,6 +2,7 @@ package dev.makeev.coworking_service_app.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.makeev.coworking_service_app.dto.ApiResponse;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.UserService;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -15,10 +16,22 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
+/**
+ * Filter authenticating every {@code /api/*} request except the user API.
+ * The user and the role carried by the token are stored as the {@link #PRINCIPAL} request attribute,
+ * so controllers check roles without looking the user up.
+ * Only a token that cannot be validated is answered here; errors raised while the request is handled
+ * are passed on to the container.
+ */
 @Component
 @RequiredArgsConstructor
 public class AuthFilter implements Filter {
 
+    /**
+     * Name of the request attribute holding the {@link AuthenticatedUser} of the request.
+     */
+    public static final String PRINCIPAL = "principal";
+
     private final UserService userService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -41,14 +54,15 @@ public class AuthFilter implements Filter {
             return;
         }
 
+        AuthenticatedUser principal;
         try {
-            String login = userService.validateToken(authHeader);
-            httpRequest.setAttribute("login", login);
-            chain.doFilter(request, response);
+            principal = userService.validateToken(authHeader);
         } catch (Exception e) {
-            httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             getErrorMassage(httpResponse,"Invalid token");
+            return;
         }
+        httpRequest.setAttribute(PRINCIPAL, principal);
+        chain.doFilter(request, response);
     }
 
     private void getErrorMassage(HttpServletResponse httpResponse, String message) throws IOException {
@@ -0,0 +1,82 @@
+package dev.makeev.coworking_service_app.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes objects to a response as newline-delimited JSON, one object per line, while they are produced.
+ * Nothing but the output buffers is held in memory, and the first line is flushed at once
+ * so that the client receives it before the rest of the result has been read.
+ * Objects are serialized with the {@link ObjectMapper} of the application, like the other responses.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonWriter {
+
+    /**
+     * Media type of newline-delimited JSON.
+     */
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the objects passed on by a source to the response.
+     * An error raised by the source before the first line has been sent is rethrown as it is,
+     * so it is answered like an error of any other request. An error raised after that can no longer
+     * change the status of the response; the response is then left unfinished and an {@link IOException}
+     * carrying the error as suppressed is thrown, so that the container aborts the connection
+     * and the client does not take the lines received so far for the whole result.
+     *
+     * @param response the response to write to
+     * @param source   runs the given action for each object to write
+     * @param <T>      the type of the objects
+     * @throws IOException if the response cannot be written or has been aborted
+     */
+    public <T> void write(HttpServletResponse response, Consumer<Consumer<T>> source) throws IOException {
+        response.setContentType(MEDIA_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        // lines are flushed by the output buffers, not after every object
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.setRootValueSeparator(null);
+        boolean[] first = {true};
+        try {
+            source.accept(object -> {
+                try {
+                    writer.writeValue(generator, object);
+                    generator.writeRaw('\n');
+                    if (first[0]) {
+                        generator.flush();
+                        first[0] = false;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.resetBuffer();
+                throw e;
+            }
+            // kept as suppressed, not as the cause, so that no exception handler matching the cause
+            // writes its answer after the lines already sent
+            IOException aborted = new IOException("Response aborted after the first line, the source failed");
+            aborted.addSuppressed(e);
+            throw aborted;
+        }
+        generator.close();
+    }
+}
@@ -0,0 +1,98 @@
+package dev.makeev.coworking_service_app.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The keys of a concurrent map kept side by side in an array, so that keys can be picked at random
+ * positions for an eviction sample without walking the map.
+ * <p>
+ * A removed key is replaced by the last one, so the array holds no gaps and every key of the map
+ * can be picked. Changes and samples are serialized by the monitor of this object, while the map
+ * itself stays free of locks; a picked key may therefore have left the map already, which callers check.
+ *
+ * @param <K> the type of the keys
+ */
+public class SampledKeys<K> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<K, Integer> positions = new HashMap<>();
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a key, unless it is already kept.
+     *
+     * @param key the key to add
+     */
+    public synchronized void add(K key) {
+        if (positions.putIfAbsent(key, size) != null) {
+            return;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        keys[size++] = key;
+    }
+
+    /**
+     * Removes a key that left the map.
+     * A key put into the map again in the meantime is kept, so that it can still be picked.
+     *
+     * @param key the key to remove
+     * @param map the map the keys belong to
+     */
+    public synchronized void removeIfAbsent(K key, Map<K, ?> map) {
+        if (!map.containsKey(key)) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Picks keys at random positions, or all of them when there are no more than the given number.
+     * A key may be picked more than once.
+     *
+     * @param count the number of keys to pick
+     * @return the picked keys, none if no key is kept
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<K> sample(int count) {
+        if (size <= count) {
+            return (List<K>) List.of(Arrays.copyOf(keys, size));
+        }
+        List<K> sample = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sample.add((K) keys[ThreadLocalRandom.current().nextInt(size)]);
+        }
+        return sample;
+    }
+
+    /**
+     * Returns the number of keys kept.
+     *
+     * @return the number of keys
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void remove(K key) {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            @SuppressWarnings("unchecked")
+            K moved = (K) keys[last];
+            keys[position] = moved;
+            positions.put(moved, position);
+        }
+        keys[last] = null;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.makeev.coworking_service_app.view;
+
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.VersionedSpace;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SpaceAvailabilityView interface for keeping the booking slots of all spaces in memory, so that the
+ * listing of spaces does not read the database. It is loaded once at startup, and the DAOs update it
+ * when spaces and bookings are added or deleted.
+ */
+public interface SpaceAvailabilityView {
+
+    /**
+     * Replaces the content of the view with the spaces read from the database.
+     *
+     * @param spaces all spaces with their booking slots
+     */
+    void load(List<Space> spaces);
+
+    /**
+     * Returns all spaces kept in the view, ordered by name.
+     *
+     * @return the spaces with their versions, or an empty optional if the view is not loaded
+     *         and the spaces have to be read from the database
+     */
+    Optional<List<VersionedSpace>> getAllSpaces();
+
+    /**
+     * Adds a space that has been added.
+     *
+     * @param space the new space
+     */
+    void spaceAdded(Space space);
+
+    /**
+     * Removes a space that has been deleted.
+     *
+     * @param nameOfSpace the name of the space
+     */
+    void spaceDeleted(String nameOfSpace);
+
+    /**
+     * Marks the slots of a booking that has been added as booked.
+     *
+     * @param bookingId the ID of the booking
+     * @param booking   the booking
+     */
+    void bookingAdded(long bookingId, Booking booking);
+
+    /**
+     * Marks the slots of a booking that has been deleted as free. It may be called before
+     * {@link #bookingAdded(long, Booking)} of the same booking, which then has no effect.
+     *
+     * @param nameOfSpace the name of the space of the booking
+     * @param bookingId   the ID of the booking
+     */
+    void bookingDeleted(String nameOfSpace, long bookingId);
+}
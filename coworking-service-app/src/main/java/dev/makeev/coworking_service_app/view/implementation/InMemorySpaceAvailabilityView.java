@@ -0,0 +1,149 @@
+package dev.makeev.coworking_service_app.view.implementation;
+
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.VersionedSpace;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The {@code InMemorySpaceAvailabilityView} class implements the {@link SpaceAvailabilityView} interface.
+ * <p>
+ * Every space is kept as an immutable {@link VersionedSpace} that is replaced as a whole, copy-on-write,
+ * when the space or one of its bookings changes, so a listing reads consistent spaces without locking.
+ * The versions are drawn from one counter, so the version of a space grows with every change and
+ * does not start over when a space is deleted and added again under the same name.
+ * <p>
+ * Bookings are added and deleted after their transactions commit, on the threads of the requests, so the
+ * deletion of a booking may reach the view before its addition. A deletion that finds no slot of the booking
+ * leaves the ID of the booking behind, and the late addition of that ID is then ignored. The IDs left behind
+ * are bounded, the oldest are forgotten first.
+ * <p>
+ * The view only sees the changes made through this instance. It has to be disabled when several
+ * instances share the database.
+ */
+public class InMemorySpaceAvailabilityView implements SpaceAvailabilityView {
+
+    static final int MAX_DELETED_BOOKING_IDS = 10_000;
+
+    private final ConcurrentNavigableMap<String, VersionedSpace> spaces = new ConcurrentSkipListMap<>();
+    private final AtomicLong versions = new AtomicLong();
+    private final Object bookingLock = new Object();
+    private final Set<Long> deletedBookingIds = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > MAX_DELETED_BOOKING_IDS;
+        }
+    });
+    private volatile boolean loaded;
+
+    /**
+     * {@inheritdoc}
+     * <p>
+     * Meant to run once before requests are served: changes made while the spaces are read from
+     * the database and loaded may be lost.
+     */
+    @Override
+    public void load(List<Space> loadedSpaces) {
+        spaces.clear();
+        for (Space space : loadedSpaces) {
+            spaces.put(space.name(), new VersionedSpace(space, versions.incrementAndGet()));
+        }
+        loaded = true;
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<List<VersionedSpace>> getAllSpaces() {
+        if (!loaded) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(spaces.values()));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void spaceAdded(Space space) {
+        spaces.put(space.name(), new VersionedSpace(space, versions.incrementAndGet()));
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void spaceDeleted(String nameOfSpace) {
+        spaces.remove(nameOfSpace);
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void bookingAdded(long bookingId, Booking booking) {
+        synchronized (bookingLock) {
+            if (deletedBookingIds.remove(bookingId)) {
+                return;
+            }
+            update(booking.nameOfBookingSpace(), space -> space.bookingSlots()
+                    .withBooking(booking.bookingRange(), space.workingHours(), bookingId));
+        }
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void bookingDeleted(String nameOfSpace, long bookingId) {
+        synchronized (bookingLock) {
+            if (!update(nameOfSpace, space -> space.bookingSlots().withoutBooking(bookingId))) {
+                deletedBookingIds.add(bookingId);
+            }
+        }
+    }
+
+    /**
+     * Replaces the booking slots of a space kept in the view with a new version.
+     * Spaces that are not kept, e.g. added by another instance, are left out.
+     *
+     * @param nameOfSpace the name of the space
+     * @param change      computes the new booking slots from the space
+     * @return true if the booking slots of the space changed
+     */
+    private boolean update(String nameOfSpace, Function<Space, SlotOccupancy> change) {
+        boolean[] changed = {false};
+        spaces.computeIfPresent(nameOfSpace, (name, current) -> {
+            Space space = current.space();
+            SlotOccupancy bookingSlots = change.apply(space);
+            changed[0] = bookingSlots != space.bookingSlots();
+            if (!changed[0]) {
+                return current;
+            }
+            return new VersionedSpace(new Space(name, space.workingHours(), bookingSlots), versions.incrementAndGet());
+        });
+        return changed[0];
+    }
+
+    /**
+     * Returns the number of spaces currently kept.
+     *
+     * @return the number of spaces
+     */
+    public int size() {
+        return spaces.size();
+    }
+}
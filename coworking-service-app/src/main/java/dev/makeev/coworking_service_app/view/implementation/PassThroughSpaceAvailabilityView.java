@@ -0,0 +1,59 @@
+package dev.makeev.coworking_service_app.view.implementation;
+
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.VersionedSpace;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code PassThroughSpaceAvailabilityView} class implements the {@link SpaceAvailabilityView} interface
+ * without keeping anything: the spaces are read from the database for every listing.
+ */
+public class PassThroughSpaceAvailabilityView implements SpaceAvailabilityView {
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void load(List<Space> spaces) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public Optional<List<VersionedSpace>> getAllSpaces() {
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void spaceAdded(Space space) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void spaceDeleted(String nameOfSpace) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void bookingAdded(long bookingId, Booking booking) {
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void bookingDeleted(String nameOfSpace, long bookingId) {
+    }
+}
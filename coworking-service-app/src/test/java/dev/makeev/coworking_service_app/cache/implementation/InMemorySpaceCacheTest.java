@@ -0,0 +1,127 @@
+package dev.makeev.coworking_service_app.cache.implementation;
+
+import dev.makeev.coworking_service_app.cache.SpaceCacheProperties;
+import dev.makeev.coworking_service_app.model.SpaceMetadata;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemorySpaceCache Test")
+class InMemorySpaceCacheTest {
+
+    private static final String SPACE_NAME = "TestSpace";
+    private static final SpaceMetadata METADATA = new SpaceMetadata(new WorkingHours(10, 20),
+            LocalDate.now(), LocalDate.now().plusDays(7));
+    private static final int MAX_SIZE = 4;
+    private static final int LARGE_MAX_SIZE = 64;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<SpaceMetadata>> loader = name -> {
+        loads.incrementAndGet();
+        return Optional.of(METADATA);
+    };
+    private InMemorySpaceCache spaceCache;
+
+    @BeforeEach
+    void setUp() {
+        spaceCache = new InMemorySpaceCache(new SpaceCacheProperties(true, MAX_SIZE), now::get);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Get - Should load a space once")
+    void get_shouldLoadSpaceOnce() {
+        assertThat(spaceCache.get(SPACE_NAME, loader)).contains(METADATA);
+        assertThat(spaceCache.get(SPACE_NAME, loader)).contains(METADATA);
+
+        assertThat(loads).hasValue(1);
+        assertThat(spaceCache.misses()).isEqualTo(1);
+        assertThat(spaceCache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Get - Should not keep missing space")
+    void get_shouldNotKeepMissingSpace() {
+        assertThat(spaceCache.get(SPACE_NAME, name -> Optional.empty())).isEmpty();
+
+        assertThat(spaceCache.get(SPACE_NAME, loader)).contains(METADATA);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Put - Should answer without loading")
+    void put_shouldAnswerWithoutLoading() {
+        spaceCache.put(SPACE_NAME, METADATA);
+
+        assertThat(spaceCache.get(SPACE_NAME, loader)).contains(METADATA);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Invalidate - Should load space again")
+    void invalidate_shouldLoadSpaceAgain() {
+        spaceCache.put(SPACE_NAME, METADATA);
+
+        spaceCache.invalidate(SPACE_NAME);
+
+        assertThat(spaceCache.get(SPACE_NAME, name -> Optional.empty())).isEmpty();
+        assertThat(spaceCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Get - Should not keep space invalidated while loading")
+    void get_shouldNotKeepSpaceInvalidatedWhileLoading() {
+        assertThat(spaceCache.get(SPACE_NAME, name -> {
+            spaceCache.invalidate(name);
+            return Optional.of(METADATA);
+        })).contains(METADATA);
+
+        assertThat(spaceCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Put - Should evict least recently used space when full")
+    void put_shouldEvictLeastRecentlyUsedSpaceWhenFull() {
+        for (int i = 0; i < MAX_SIZE; i++) {
+            now.incrementAndGet();
+            spaceCache.put(SPACE_NAME + i, METADATA);
+        }
+        now.incrementAndGet();
+        spaceCache.get(SPACE_NAME + 0, loader);
+
+        now.incrementAndGet();
+        spaceCache.put(SPACE_NAME, METADATA);
+
+        assertThat(spaceCache.size()).isEqualTo(MAX_SIZE);
+        assertThat(spaceCache.get(SPACE_NAME + 0, loader)).contains(METADATA);
+        assertThat(spaceCache.get(SPACE_NAME + 1, loader)).contains(METADATA);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceCache test: Put - Should keep frequently used space while others are evicted")
+    void put_shouldKeepFrequentlyUsedSpace() {
+        InMemorySpaceCache largeSpaceCache = new InMemorySpaceCache(
+                new SpaceCacheProperties(true, LARGE_MAX_SIZE), now::get);
+        largeSpaceCache.put(SPACE_NAME, METADATA);
+
+        for (int i = 0; i < LARGE_MAX_SIZE * 20; i++) {
+            now.incrementAndGet();
+            assertThat(largeSpaceCache.get(SPACE_NAME, loader)).contains(METADATA);
+            now.incrementAndGet();
+            largeSpaceCache.put(SPACE_NAME + i, METADATA);
+        }
+
+        assertThat(largeSpaceCache.size()).isEqualTo(LARGE_MAX_SIZE);
+        assertThat(loads).hasValue(0);
+    }
+}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.makeev.coworking_service_app.advice.ExceptionControllerAdvice;
 import dev.makeev.coworking_service_app.dto.BookingAddDTO;
 import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
 import dev.makeev.coworking_service_app.exceptions.BookingNotFoundException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.BookingService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
+import dev.makeev.coworking_service_app.util.NdjsonWriter;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,25 +17,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.core.StringContains.containsString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("BookingController Test")
@@ -41,14 +49,16 @@ class BookingControllerTest {
 
     private static final String LOGIN = "TestUser";
     private static final String SPACE_NAME = "Test Space";
+    private static final AuthenticatedUser USER = new AuthenticatedUser(LOGIN, false);
+    private static final AuthenticatedUser ADMIN = new AuthenticatedUser("TestAdmin", true);
 
     private static ObjectMapper objectMapper;
 
     @Mock
     private BookingService bookingService;
 
-    @Mock
-    private UserService userService;
+    @Spy
+    private NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
 
     @InjectMocks
     private BookingController bookingController;
@@ -76,17 +86,83 @@ class BookingControllerTest {
     void testGetBookings_ValidRequest() throws Exception {
         List<BookingDTO> bookings = List.of(mockBookingDTO);
         when(mockBookingDTO.nameOfBookingSpace()).thenReturn(SPACE_NAME);
-        when(userService.isAdmin(LOGIN)).thenReturn(false);
-        when(bookingService.getAllBookingsForUser(LOGIN)).thenReturn(bookings);
+        when(bookingService.getAllBookingsForUser(LOGIN, null, 100)).thenReturn(new BookingPage(bookings, null));
 
         mockMvc.perform(get("/api/v1/bookings")
-                        .requestAttr("login", LOGIN))
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(content().string(containsString(SPACE_NAME)));
+                .andExpect(content().string(containsString(SPACE_NAME)))
+                .andExpect(header().doesNotExist(BookingController.NEXT_CURSOR_HEADER));
+
+        verify(bookingService, times(1)).getAllBookingsForUser(LOGIN, null, 100);
+    }
+
+    @Test
+    @DisplayName("Should get a page of all bookings with the cursor of the next page for admin")
+    void testGetBookings_Admin_NextPage() throws Exception {
+        when(bookingService.getAllBookingsSortedByUser("cursor", 10))
+                .thenReturn(new BookingPage(List.of(mockBookingDTO), "next-cursor"));
+
+        mockMvc.perform(get("/api/v1/bookings")
+                        .param("cursor", "cursor")
+                        .param("limit", "10")
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(header().string(BookingController.NEXT_CURSOR_HEADER, "next-cursor"));
+
+        verify(bookingService, times(1)).getAllBookingsSortedByUser("cursor", 10);
+    }
+
+    @Test
+    @DisplayName("Should return bad request if page size is out of range")
+    void testGetBookings_InvalidLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings")
+                        .param("limit", "0")
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/bookings")
+                        .param("limit", String.valueOf(BookingController.MAX_PAGE_SIZE + 1))
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
+                .andExpect(status().isBadRequest());
 
-        verify(userService, times(1)).isAdmin(LOGIN);
-        verify(bookingService, times(1)).getAllBookingsForUser(LOGIN);
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("Should stream the bookings of a user as one JSON object per line")
+    void testStreamBookings_User() throws Exception {
+        BookingDTO first = new BookingDTO(1L, LOGIN, SPACE_NAME, "2024-07-14", 10, "2024-07-14", 12);
+        BookingDTO second = new BookingDTO(2L, LOGIN, SPACE_NAME, "2024-07-15", 10, "2024-07-15", 12);
+        doAnswer(invocation -> {
+            Consumer<BookingDTO> action = invocation.getArgument(1);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(bookingService).forEachBookingForUser(anyString(), any());
+
+        mockMvc.perform(get("/api/v1/bookings")
+                        .param("stream", "true")
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NdjsonWriter.MEDIA_TYPE))
+                .andExpect(content().string(objectMapper.writeValueAsString(first) + "\n"
+                        + objectMapper.writeValueAsString(second) + "\n"));
+
+        verify(bookingService, times(1)).forEachBookingForUser(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should stream all bookings for admin")
+    void testStreamBookings_Admin() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings")
+                        .param("stream", "true")
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NdjsonWriter.MEDIA_TYPE))
+                .andExpect(content().string(""));
+
+        verify(bookingService, times(1)).forEachBookingSortedByUser(any());
     }
 
     @Test
@@ -100,7 +176,7 @@ class BookingControllerTest {
                         "2024-07-14", 12));
 
         mockMvc.perform(post("/api/v1/bookings")
-                        .requestAttr("login", LOGIN)
+                        .requestAttr(AuthFilter.PRINCIPAL, USER)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isCreated())
@@ -115,10 +191,8 @@ class BookingControllerTest {
     @Test
     @DisplayName("Should delete booking if user is admin")
     void testDeleteBooking_ValidRequest_Admin() throws Exception {
-        when(userService.isAdmin("TestAdmin")).thenReturn(true);
-
         mockMvc.perform(delete("/api/v1/bookings/1")
-                        .requestAttr("login", "TestAdmin"))
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
                 .andExpect(status().isNoContent());
 
         verify(bookingService, times(1)).deleteBookingByIdByAdmin("TestAdmin", 1L);
@@ -127,11 +201,10 @@ class BookingControllerTest {
     @Test
     @DisplayName("Should return not found if booking does not exist for user")
     void testDeleteBooking_NotFound() throws Exception {
-        when(userService.isAdmin(LOGIN)).thenReturn(false);
         doThrow(new BookingNotFoundException()).when(bookingService).deleteBookingById(LOGIN,999L);
 
         mockMvc.perform(delete("/api/v1/bookings/999")
-                        .requestAttr("login", LOGIN))
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
                 .andExpect(status().isNotFound())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString(new BookingNotFoundException().getMessage())));
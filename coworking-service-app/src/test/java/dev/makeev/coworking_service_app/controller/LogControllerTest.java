@@ -1,26 +1,34 @@
 package dev.makeev.coworking_service_app.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.makeev.coworking_service_app.advice.ExceptionControllerAdvice;
 import dev.makeev.coworking_service_app.dto.LogOfUserActionDTO;
 import dev.makeev.coworking_service_app.exceptions.NoAdminException;
 import dev.makeev.coworking_service_app.mappers.LogOfUserActionMapper;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.LogGetService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
+import dev.makeev.coworking_service_app.util.NdjsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,6 +43,8 @@ class LogControllerTest {
 
     private static final String ADMIN_LOGIN = "TestAdmin";
     private static final String LOGIN = "TestUser";
+    private static final AuthenticatedUser ADMIN = new AuthenticatedUser(ADMIN_LOGIN, true);
+    private static final AuthenticatedUser USER = new AuthenticatedUser(LOGIN, false);
     private static final String ACTION = "TestAction";
     private static final String DATE = "2024-07-14 18:00:00";
     private static final LogOfUserActionDTO LOG_OF_USER_ACTION_DTO = new LogOfUserActionDTO(DATE, LOGIN, ACTION);
@@ -42,12 +52,12 @@ class LogControllerTest {
     @Mock
     private LogGetService logGetService;
 
-    @Mock
-    private UserService userService;
-
     @Mock
     private LogOfUserActionMapper logOfUserActionMapper;
 
+    @Spy
+    private NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+
     @InjectMocks
     private LogController logController;
 
@@ -64,35 +74,89 @@ class LogControllerTest {
     @Test
     @DisplayName("Should get log if user is admin")
     void testGetLog_AdminUser() throws Exception {
-        when(userService.isAdmin(ADMIN_LOGIN)).thenReturn(true);
-        when(logGetService.getLogs()).thenReturn(List.of(LOG_OF_USER_ACTION_DTO));
+        when(logGetService.getLogs(null, null)).thenReturn(List.of(LOG_OF_USER_ACTION_DTO));
 
         mockMvc.perform(get("/api/v1/log")
-                        .requestAttr("login", ADMIN_LOGIN))
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString(DATE)))
                 .andExpect(content().string(containsString(LOGIN)))
                 .andExpect(content().string(containsString(ACTION)));
 
-        verify(userService, times(1)).isAdmin(ADMIN_LOGIN);
-        verify(logGetService, times(1)).getLogs();
+        verify(logGetService, times(1)).getLogs(null, null);
     }
 
     @Test
     @DisplayName("Should throw NoAdminException if user is not admin")
     void testGetLog_NonAdminUser() throws Exception {
-        when(userService.isAdmin(LOGIN)).thenReturn(false);
-
         mockMvc.perform(get("/api/v1/log")
-                        .requestAttr("login", LOGIN))
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
                 .andExpect(status().isUnauthorized())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString(new NoAdminException().getMessage())));
 
-        verify(userService, times(1)).isAdmin(LOGIN);
-        verify(logGetService, never()).getLogs();
+        verify(logGetService, never()).getLogs(any(), any());
         verify(logOfUserActionMapper, never()).toLogOfUserActionDTO(any());
     }
 
+    @Test
+    @DisplayName("Should stream log as one JSON object per line if user is admin")
+    void testStreamLog_AdminUser() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<LogOfUserActionDTO> action = invocation.getArgument(2);
+            action.accept(LOG_OF_USER_ACTION_DTO);
+            action.accept(LOG_OF_USER_ACTION_DTO);
+            return null;
+        }).when(logGetService).forEachLog(any(), any(), any());
+
+        mockMvc.perform(get("/api/v1/log")
+                        .param("stream", "true")
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NdjsonWriter.MEDIA_TYPE))
+                .andExpect(content().string(matchesPattern("(\\{[^\\n]*\"" + ACTION + "\"[^\\n]*}\\n){2}")));
+
+        verify(logGetService, never()).getLogs(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not stream log if user is not admin")
+    void testStreamLog_NonAdminUser() throws Exception {
+        mockMvc.perform(get("/api/v1/log")
+                        .param("stream", "true")
+                        .requestAttr(AuthFilter.PRINCIPAL, USER))
+                .andExpect(status().isUnauthorized());
+
+        verify(logGetService, never()).forEachLog(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should get log of a period if user is admin")
+    void testGetLog_Period() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2024, 7, 14, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(logGetService.getLogs(from, to)).thenReturn(List.of(LOG_OF_USER_ACTION_DTO));
+
+        mockMvc.perform(get("/api/v1/log")
+                        .param("from", "2024-07-14T00:00:00")
+                        .param("to", "2024-07-15T00:00:00")
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(ACTION)));
+
+        verify(logGetService, times(1)).getLogs(from, to);
+    }
+
+    @Test
+    @DisplayName("Should return bad request if period does not end after it starts")
+    void testGetLog_EmptyPeriod() throws Exception {
+        mockMvc.perform(get("/api/v1/log")
+                        .param("from", "2024-07-15T00:00:00")
+                        .param("to", "2024-07-14T00:00:00")
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN))
+                .andExpect(status().isBadRequest());
+
+        verify(logGetService, never()).getLogs(any(), any());
+    }
 }
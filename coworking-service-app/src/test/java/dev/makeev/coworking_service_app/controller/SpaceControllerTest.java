@@ -2,12 +2,15 @@ package dev.makeev.coworking_service_app.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.makeev.coworking_service_app.advice.ExceptionControllerAdvice;
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDeleteDTO;
 import dev.makeev.coworking_service_app.exceptions.NoAdminException;
+import dev.makeev.coworking_service_app.model.FreeIntervals;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.service.SpaceService;
-import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.coworking_service_app.util.AuthFilter;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class SpaceControllerTest {
 
     private static final String ADMIN_LOGIN = "TestAdmin";
+    private static final AuthenticatedUser ADMIN = new AuthenticatedUser(ADMIN_LOGIN, true);
+    private static final AuthenticatedUser NOT_ADMIN = new AuthenticatedUser("NotAdmin", false);
     private static final String SPACE_NAME = "Test Space";
     private static final SpaceAddDTO SPACE_ADD_DTO = new SpaceAddDTO(SPACE_NAME, 8, 18, 10);
 
@@ -49,9 +54,6 @@ class SpaceControllerTest {
     @Mock
     private SpaceService spaceService;
 
-    @Mock
-    private UserService userService;
-
     @InjectMocks
     private SpaceController spaceController;
 
@@ -88,81 +90,86 @@ class SpaceControllerTest {
         verify(spaceService, times(1)).getSpaces();
     }
 
+    @Test
+    @DisplayName("Should return list of spaces with free intervals")
+    void testGetCompactSpaces() throws Exception {
+        List<CompactSpaceDTO> spaces = List.of(new CompactSpaceDTO(SPACE_NAME,
+                List.of(new FreeIntervals("2024-07-15", List.of("09:00-12:00", "14:00-17:00"))), 3L));
+        when(spaceService.getCompactSpaces()).thenReturn(spaces);
+
+        mockMvc.perform(get("/api/v1/spaces").param("slots", "intervals"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(containsString("[\"09:00-12:00\",\"14:00-17:00\"]")));
+
+        verify(spaceService, never()).getSpaces();
+    }
+
     @Test
     @DisplayName("Should add space if parameters are valid and user is admin")
     void testAddSpace_ValidRequest_Admin() throws Exception {
-        when(userService.isAdmin(ADMIN_LOGIN)).thenReturn(true);
         doNothing().when(spaceService).addSpace(SPACE_ADD_DTO);
 
         String jsonRequest = objectMapper.writeValueAsString(SPACE_ADD_DTO);
 
         mockMvc.perform(post("/api/v1/spaces")
-                        .requestAttr("login", ADMIN_LOGIN)
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString("Space added successfully")));
 
-        verify(userService, times(1)).isAdmin(ADMIN_LOGIN);
         verify(spaceService, times(1)).addSpace(SPACE_ADD_DTO);
     }
 
     @Test
     @DisplayName("Should throw NoAdminException if user is not admin")
     void testAddSpace_NoAdmin() throws Exception {
-        when(userService.isAdmin("NotAdmin")).thenReturn(false);
-
         String jsonRequest = objectMapper.writeValueAsString(SPACE_ADD_DTO);
 
         mockMvc.perform(post("/api/v1/spaces")
-                        .requestAttr("login", "NotAdmin")
+                        .requestAttr(AuthFilter.PRINCIPAL, NOT_ADMIN)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isUnauthorized())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString(new NoAdminException().getMessage())));
 
-        verify(userService, times(1)).isAdmin("NotAdmin");
         verify(spaceService, never()).addSpace(SPACE_ADD_DTO);
     }
 
     @Test
     @DisplayName("Should delete space if user is admin")
     void testDeleteSpace_ValidRequest_Admin() throws Exception {
-        when(userService.isAdmin(ADMIN_LOGIN)).thenReturn(true);
         doNothing().when(spaceService).deleteSpace("Test Space");
 
         String jsonRequest = objectMapper.writeValueAsString(new SpaceDeleteDTO("Test Space"));
 
         mockMvc.perform(delete("/api/v1/spaces")
-                        .requestAttr("login", ADMIN_LOGIN)
+                        .requestAttr(AuthFilter.PRINCIPAL, ADMIN)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isNoContent())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(containsString("Space deleted successfully")));
 
-        verify(userService, times(1)).isAdmin(ADMIN_LOGIN);
         verify(spaceService, times(1)).deleteSpace(SPACE_NAME);
     }
 
     @Test
     @DisplayName("Should throw NoAdminException if user is not admin")
     void testDeleteSpace_NoAdmin() throws Exception {
-        when(userService.isAdmin("NotAdmin")).thenReturn(false);
-
         String jsonRequest = objectMapper.writeValueAsString(new SpaceDeleteDTO("Test Space"));
 
         mockMvc.perform(delete("/api/v1/spaces")
-                        .requestAttr("login", "NotAdmin")
+                        .requestAttr(AuthFilter.PRINCIPAL, NOT_ADMIN)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonRequest))
                 .andExpect(status().isUnauthorized())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().string(CoreMatchers.containsString(new NoAdminException().getMessage())));
 
-        verify(userService, times(1)).isAdmin("NotAdmin");
         verify(spaceService, never()).deleteSpace(SPACE_NAME);
     }
 }
@@ -1,10 +1,15 @@
 package dev.makeev.coworking_service_app.dao.implementation;
 
 import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.dao.LogDAO;
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
 import dev.makeev.coworking_service_app.dao.UserDAO;
 import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
 import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.LogOfUserAction;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.Space;
 import dev.makeev.coworking_service_app.model.User;
 import dev.makeev.coworking_service_app.model.WorkingHours;
@@ -23,17 +28,20 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
-@SpringBootTest
+@SpringBootTest(properties = "coworking.log-partitions.enabled=false")
 @DisplayName("Tests for all DAO")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class AllDAOsTest {
@@ -45,11 +53,14 @@ public class AllDAOsTest {
     private static final String TEST_SPACE_NAME = "TestSpace";
     private static Space TEST_SPACE;
     private static final Booking TEST_BOOKING_1 = new Booking(TEST_LOGIN_1, TEST_SPACE_NAME,
-            new BookingRange(LocalDate.of(2024, 7, 2), 12,
-                    LocalDate.of(2024, 7, 5), 20));
+            new BookingRange(LocalDate.now().plusDays(1), 12,
+                    LocalDate.now().plusDays(4), 20));
     private static final Booking TEST_BOOKING_2 = new Booking(TEST_LOGIN_2, TEST_SPACE_NAME,
-            new BookingRange(LocalDate.of(2024, 7, 9), 10,
-                    LocalDate.of(2024, 7, 9), 20));
+            new BookingRange(LocalDate.now().plusDays(8), 10,
+                    LocalDate.now().plusDays(8), 20));
+    private static final Booking OVERLAPPING_BOOKING = new Booking(TEST_LOGIN_2, TEST_SPACE_NAME,
+            new BookingRange(LocalDate.now().plusDays(4), 10,
+                    LocalDate.now().plusDays(5), 12));
 
     @Container
     @ServiceConnection
@@ -65,6 +76,12 @@ public class AllDAOsTest {
     @Autowired
     private BookingDAO bookingDAO;
 
+    @Autowired
+    private LogDAO logDAO;
+
+    @Autowired
+    private LogPartitionDAO logPartitionDAO;
+
     @BeforeAll
     static void setUpAll() {
         postgresContainer.start();
@@ -75,23 +92,10 @@ public class AllDAOsTest {
         int hourOfBeginningWorkingDay = 10;
         int hourOfEndingWorkingDay = 20;
         int numberOfDaysAvailableForBooking = 14;
-        LocalDate nowDate = LocalDate.now();
-
-        Map<LocalDate, Map<Integer, Long>> bookingSlots = new HashMap<>();
-
-        Map<Integer, Long> slots = new HashMap<>();
-        long freeSlot = 0L;
-        for (int i = hourOfBeginningWorkingDay; i < hourOfEndingWorkingDay; i++) {
-            slots.put(i, freeSlot);
-        }
-
-        for (int i = 0; i < numberOfDaysAvailableForBooking; i++) {
-            bookingSlots.put(nowDate.plusDays(i), slots);
-        }
+        WorkingHours workingHours = new WorkingHours(hourOfBeginningWorkingDay, hourOfEndingWorkingDay);
 
-        return new Space(TEST_SPACE_NAME,
-                new WorkingHours(hourOfBeginningWorkingDay, hourOfEndingWorkingDay),
-                bookingSlots);
+        return new Space(TEST_SPACE_NAME, workingHours,
+                SlotOccupancy.free(LocalDate.now(), numberOfDaysAvailableForBooking, workingHours));
     }
 
     @AfterAll
@@ -175,10 +179,11 @@ public class AllDAOsTest {
     @Order(8)
     @DisplayName("BookingDAOInBd test: Add Booking - Should add new booking for user")
     void add_shouldAddBooking() {
-        List<Booking> bookingsBeforeAdd = bookingDAO.getAllForUser(TEST_LOGIN_1);
-        bookingDAO.add(TEST_BOOKING_1);
+        List<Booking> bookingsBeforeAdd = bookingsOf(TEST_LOGIN_1);
+        boolean added = bookingDAO.add(TEST_BOOKING_1);
 
-        List<Booking> bookingsAfterAdd = bookingDAO.getAllForUser(TEST_LOGIN_1);
+        List<Booking> bookingsAfterAdd = bookingsOf(TEST_LOGIN_1);
+        assertTrue(added);
         assertTrue(bookingsBeforeAdd.isEmpty());
         assertFalse(bookingsAfterAdd.isEmpty());
         assertThat(bookingsAfterAdd.get(0).login()).isEqualTo(TEST_BOOKING_1.login());
@@ -186,30 +191,212 @@ public class AllDAOsTest {
         assertThat(bookingsAfterAdd.get(0).bookingRange()).isEqualTo(TEST_BOOKING_1.bookingRange());
     }
 
-    @Test
-    @Order(9)
-    @DisplayName("BookingDAOInBd test: Get All Bookings for User - Should return all bookings for a user")
-    void getAllForUser_shouldReturnAllBookingsForUser() {
-        List<Booking> bookings = bookingDAO.getAllForUser(TEST_LOGIN_1);
-
-        assertFalse(bookings.isEmpty());
-        assertThat(bookings.get(0).login()).isEqualTo(TEST_LOGIN_1);
-        assertThat(bookings.get(0).nameOfBookingSpace()).isEqualTo(TEST_BOOKING_1.nameOfBookingSpace());
-        assertThat(bookings.get(0).bookingRange()).isEqualTo(TEST_BOOKING_1.bookingRange());
-    }
-
     @Test
     @Order(10)
-    @DisplayName("BookingDAOInBd test: Get All Bookings - Should return all bookings")
-    void getAll_shouldReturnAllBookings() {
-        List<Booking> allBookingsBeforeAdd = bookingDAO.getAll();
+    @DisplayName("BookingDAOInBd test: For Each - Should pass on bookings of every user")
+    void forEach_shouldPassOnBookingsOfEveryUser() {
+        List<Booking> allBookingsBeforeAdd = allBookings();
         userDAO.add(new User(TEST_LOGIN_2, TEST_PASSWORD, true));
         bookingDAO.add(TEST_BOOKING_2);
 
-        List<Booking> allBookingsAfterAdd = bookingDAO.getAll();
+        List<Booking> allBookingsAfterAdd = allBookings();
 
         assertThat(allBookingsAfterAdd.size()).isEqualTo(allBookingsBeforeAdd.size() + 1);
         assertThat(allBookingsAfterAdd).usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
                 .contains(TEST_BOOKING_1, TEST_BOOKING_2);
     }
+
+    @Test
+    @Order(11)
+    @DisplayName("BookingDAOInBd test: Add Booking - Should not add booking overlapping reserved slots")
+    void add_shouldNotAddBooking_whenSlotsAreReserved() {
+        List<Booking> allBookingsBeforeAdd = allBookings();
+
+        boolean added = bookingDAO.add(OVERLAPPING_BOOKING);
+
+        assertFalse(added);
+        assertThat(allBookings()).hasSameSizeAs(allBookingsBeforeAdd);
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("SpaceDAOInBd test: Get Space by name for range - Should return only slots of the days of the range")
+    void getSpaceByNameForRange_shouldReturnOnlySlotsOfRange() {
+        BookingRange bookingRange = new BookingRange(LocalDate.now().plusDays(4), 12,
+                LocalDate.now().plusDays(5), 12);
+
+        Optional<Space> space = spaceDAO.getSpaceByNameForRange(TEST_SPACE_NAME, bookingRange);
+
+        assertTrue(space.isPresent());
+        SlotOccupancy bookingSlots = space.get().bookingSlots();
+        assertThat(bookingSlots.firstDate()).isEqualTo(bookingRange.beginningBookingDate());
+        assertThat(bookingSlots.numberOfDays()).isEqualTo(2);
+        assertThat(bookingSlots.slotMask(0)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertThat(bookingSlots.freeMask(0) & SlotOccupancy.hourMask(12, 20)).isZero();
+        assertThat(bookingSlots.slotMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertThat(bookingSlots.isFree(1, SlotOccupancy.hourMask(10, 12))).isTrue();
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("SpaceDAOInBd test: Get Space by name for range - Should return the last day of a range ending at the opening hour")
+    void getSpaceByNameForRange_shouldReturnLastDayWithoutHoursOfRange() {
+        BookingRange bookingRange = new BookingRange(LocalDate.now().plusDays(4), 12,
+                LocalDate.now().plusDays(5), 10);
+
+        SlotOccupancy bookingSlots = spaceDAO.getSpaceByNameForRange(TEST_SPACE_NAME, bookingRange)
+                .orElseThrow().bookingSlots();
+
+        assertThat(bookingSlots.dayOf(bookingRange.endingBookingDate())).isEqualTo(1);
+        assertThat(bookingSlots.slotMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("SpaceDAOInBd test: Get All Spaces - Should return every space with the same slots as by name")
+    void getAllSpaces_shouldReturnSpacesWithSlots() {
+        List<Space> spaces = spaceDAO.getAllSpaces();
+
+        assertThat(spaces).hasSameSizeAs(spaceDAO.getNamesOfSpaces());
+        assertThat(spaces).contains(spaceDAO.getSpaceByName(TEST_SPACE_NAME).orElseThrow());
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("LogDAOInBd test: Add All - Should store every action of the batch")
+    void addAll_shouldStoreBatch() {
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<LogOfUserAction> batch = List.of(
+                new LogOfUserAction(dateTime, TEST_LOGIN_1, "First batched action"),
+                new LogOfUserAction(dateTime.plusSeconds(1), TEST_LOGIN_1, "Second batched action"));
+        int numberOfLogsBeforeAdd = logDAO.getAll().size();
+
+        logDAO.addAll(batch);
+
+        List<LogOfUserAction> logs = logDAO.getAll();
+        assertThat(logs).hasSize(numberOfLogsBeforeAdd + batch.size());
+        assertThat(logs).containsAll(batch);
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("BookingDAOInBd test: Get Page - Should return every booking once page by page")
+    void getPage_shouldReturnAllBookingsInOrder() {
+        List<Booking> bookings = new ArrayList<>();
+        List<Booking> page = bookingDAO.getPage(null, 1);
+        while (!page.isEmpty()) {
+            assertThat(page).hasSize(1);
+            bookings.addAll(page);
+            page = bookingDAO.getPage(BookingCursor.after(page.get(0)), 1);
+        }
+
+        assertThat(bookings).containsExactlyInAnyOrderElementsOf(allBookings());
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("BookingDAOInBd test: Get Page For User - Should return bookings of user after the given ID")
+    void getPageForUser_shouldReturnBookingsAfterId() {
+        List<Booking> bookings = bookingsOf(TEST_LOGIN_1);
+        long firstId = bookings.stream().mapToLong(Booking::id).min().orElseThrow();
+
+        assertThat(bookingDAO.getPageForUser(TEST_LOGIN_1, 0L, 1)).extracting(Booking::id).containsExactly(firstId);
+        assertThat(bookingDAO.getPageForUser(TEST_LOGIN_1, firstId, bookings.size()))
+                .hasSize(bookings.size() - 1)
+                .allMatch(booking -> booking.id() > firstId && booking.login().equals(TEST_LOGIN_1));
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("BookingDAOInBd test: For Each - Should pass on every booking ordered by login and ID")
+    void forEach_shouldPassOnAllBookingsInOrder() {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEach(bookings::add);
+
+        assertThat(bookings).isNotEmpty();
+        assertThat(bookings).containsExactlyElementsOf(bookingDAO.getPage(null, bookings.size() + 1));
+    }
+
+    @Test
+    @Order(19)
+    @DisplayName("BookingDAOInBd test: For Each For User - Should pass on bookings of user ordered by ID")
+    void forEachForUser_shouldPassOnBookingsOfUserInOrder() {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEachForUser(TEST_LOGIN_1, bookings::add);
+
+        assertThat(bookings).containsExactlyInAnyOrderElementsOf(allBookings().stream()
+                .filter(booking -> booking.login().equals(TEST_LOGIN_1))
+                .toList());
+        assertThat(bookings).extracting(Booking::id).isSorted();
+    }
+
+    @Test
+    @Order(20)
+    @DisplayName("LogDAOInBd test: For Each - Should pass on more actions than fit one fetch")
+    void forEach_shouldPassOnEveryLogAcrossFetches() {
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        logDAO.addAll(IntStream.range(0, UnitOfWork.FETCH_SIZE + 1)
+                .mapToObj(i -> new LogOfUserAction(dateTime, TEST_LOGIN_1, "FetchAction"))
+                .toList());
+        List<LogOfUserAction> logs = new ArrayList<>();
+
+        logDAO.forEachBetween(null, null, logs::add);
+
+        assertThat(logs).hasSameSizeAs(logDAO.getAll());
+        assertThat(logs).filteredOn(log -> log.messageAboutAction().equals("FetchAction"))
+                .hasSize(UnitOfWork.FETCH_SIZE + 1);
+    }
+
+    @Test
+    @Order(21)
+    @DisplayName("LogDAOInBd test: Get Between - Should return only actions of the period")
+    void getBetween_shouldReturnActionsOfPeriod() {
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LogOfUserAction inPeriod = new LogOfUserAction(dateTime, TEST_LOGIN_2, "InPeriodAction");
+        LogOfUserAction afterPeriod = new LogOfUserAction(dateTime.plusHours(1), TEST_LOGIN_2, "AfterPeriodAction");
+        logDAO.addAll(List.of(inPeriod, afterPeriod));
+
+        List<LogOfUserAction> logs = logDAO.getBetween(dateTime, dateTime.plusHours(1));
+
+        assertThat(logs).contains(inPeriod).doesNotContain(afterPeriod);
+        assertThat(logs).allMatch(log -> !log.dateTime().isBefore(dateTime)
+                && log.dateTime().isBefore(dateTime.plusHours(1)));
+        assertThat(logDAO.getBetween(dateTime.plusHours(1), null)).contains(afterPeriod).doesNotContain(inPeriod);
+    }
+
+    @Test
+    @Order(22)
+    @DisplayName("LogPartitionDAOInBd test: Create, Detach and Drop - Should change the months of the log")
+    void logPartitions_shouldBeCreatedDetachedAndDropped() {
+        YearMonth detachedMonth = YearMonth.of(2000, 1);
+        YearMonth droppedMonth = YearMonth.of(2000, 2);
+        LogOfUserAction oldAction = new LogOfUserAction(detachedMonth.atDay(15).atStartOfDay(), TEST_LOGIN_1, "OldAction");
+
+        logPartitionDAO.createPartition(detachedMonth);
+        logPartitionDAO.createPartition(droppedMonth);
+        logPartitionDAO.createPartition(droppedMonth);
+        logDAO.add(oldAction);
+
+        assertThat(logPartitionDAO.getPartitions()).contains(detachedMonth, droppedMonth, YearMonth.now());
+        assertThat(logDAO.getBetween(detachedMonth.atDay(1).atStartOfDay(), droppedMonth.atDay(1).atStartOfDay()))
+                .containsExactly(oldAction);
+
+        logPartitionDAO.detachPartition(detachedMonth);
+        logPartitionDAO.dropPartition(droppedMonth);
+
+        assertThat(logPartitionDAO.getPartitions()).doesNotContain(detachedMonth, droppedMonth);
+        assertThat(logDAO.getAll()).doesNotContain(oldAction);
+    }
+
+    private List<Booking> allBookings() {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEach(bookings::add);
+        return bookings;
+    }
+
+    private List<Booking> bookingsOf(String login) {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEachForUser(login, bookings::add);
+        return bookings;
+    }
 }
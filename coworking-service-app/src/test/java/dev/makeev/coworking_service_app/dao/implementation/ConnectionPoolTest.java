@@ -0,0 +1,157 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.makeev.coworking_service_app.cache.SpaceCache;
+import dev.makeev.coworking_service_app.cache.SpaceCacheProperties;
+import dev.makeev.coworking_service_app.cache.implementation.InMemorySpaceCache;
+import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.dao.UserDAO;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.User;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import dev.makeev.coworking_service_app.pool.ConnectionPoolMetrics;
+import dev.makeev.coworking_service_app.view.SpaceAvailabilityView;
+import dev.makeev.coworking_service_app.view.implementation.InMemorySpaceAvailabilityView;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every write path of the DAOs on a pool of a single connection, which fails with a timeout
+ * if a DAO method checks out a second connection while holding the first one.
+ * The committed changes are checked to reach the availability view.
+ */
+@Testcontainers
+@SpringBootTest
+@DisplayName("Tests for DAO on a pool of one connection")
+public class ConnectionPoolTest {
+
+    private static final String TEST_LOGIN = "PoolUser";
+    private static final WorkingHours WORKING_HOURS = new WorkingHours(10, 20);
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16.2");
+
+    @Autowired
+    private LatencyRegistry latencyRegistry;
+
+    @Autowired
+    private ConnectionPoolMetrics connectionPoolMetrics;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    private HikariDataSource singleConnectionDataSource;
+    private ConnectionPoolMetrics singleConnectionMetrics;
+    private SpaceCache spaceCache;
+    private SpaceAvailabilityView spaceAvailabilityView;
+
+    @BeforeAll
+    static void setUpAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        singleConnectionMetrics = new ConnectionPoolMetrics(new LatencyRegistry());
+        spaceCache = new InMemorySpaceCache(new SpaceCacheProperties(true, 100));
+        spaceAvailabilityView = new InMemorySpaceAvailabilityView();
+        spaceAvailabilityView.load(List.of());
+        singleConnectionDataSource = new HikariDataSource();
+        singleConnectionDataSource.setJdbcUrl(postgresContainer.getJdbcUrl());
+        singleConnectionDataSource.setUsername(postgresContainer.getUsername());
+        singleConnectionDataSource.setPassword(postgresContainer.getPassword());
+        singleConnectionDataSource.setMaximumPoolSize(1);
+        singleConnectionDataSource.setConnectionTimeout(1000);
+        singleConnectionDataSource.setMetricsTrackerFactory(singleConnectionMetrics);
+        UserDAO poolUserDAO = new UserDAOInBd(singleConnectionDataSource);
+        if (poolUserDAO.getByLogin(TEST_LOGIN).isEmpty()) {
+            poolUserDAO.add(new User(TEST_LOGIN, "TestPassword", false));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        singleConnectionDataSource.close();
+    }
+
+    @Test
+    @DisplayName("Slot storage: Add and delete - Should use one connection at a time")
+    void slotStorage_shouldUseOneConnectionAtATime() {
+        assertWritePathsUseOneConnection(new SpaceDAOInBd(singleConnectionDataSource, spaceCache, spaceAvailabilityView),
+                new BookingDAOInBd(singleConnectionDataSource, spaceCache, spaceAvailabilityView), "PoolSlotSpace");
+    }
+
+    @Test
+    @DisplayName("Interval storage: Add and delete - Should use one connection at a time")
+    void intervalStorage_shouldUseOneConnectionAtATime() {
+        assertWritePathsUseOneConnection(new IntervalSpaceDAOInBd(singleConnectionDataSource, spaceCache, spaceAvailabilityView),
+                new IntervalBookingDAOInBd(singleConnectionDataSource, spaceCache, spaceAvailabilityView), "PoolIntervalSpace");
+    }
+
+    @Test
+    @DisplayName("Pool metrics: Application pool - Should record the wait for connections")
+    void connectionPoolMetrics_shouldRecordAcquireLatencies() {
+        long acquiredBefore = latencyRegistry.snapshot(ConnectionPoolMetrics.ACQUIRE).orElseThrow().count();
+
+        userDAO.getByLogin("admin");
+
+        assertThat(latencyRegistry.snapshot(ConnectionPoolMetrics.ACQUIRE).orElseThrow().count())
+                .isGreaterThan(acquiredBefore);
+        assertThat(connectionPoolMetrics.timeouts()).isZero();
+    }
+
+    private void assertWritePathsUseOneConnection(SpaceDAO spaceDAO, BookingDAO bookingDAO, String spaceName) {
+        spaceDAO.add(new Space(spaceName, WORKING_HOURS, SlotOccupancy.free(TODAY, 14, WORKING_HOURS)));
+        Booking booking = new Booking(TEST_LOGIN, spaceName,
+                new BookingRange(TODAY.plusDays(1), 12, TODAY.plusDays(2), 14));
+
+        assertTrue(bookingDAO.add(booking));
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEachForUser(TEST_LOGIN, bookings::add);
+        long id = bookings.stream()
+                .filter(storedBooking -> storedBooking.nameOfBookingSpace().equals(spaceName))
+                .findFirst().orElseThrow().id();
+        assertThat(viewedSpace().bookingSlots().bookingId(1, 12)).isEqualTo(id);
+        bookingDAO.delete(id);
+        assertThat(viewedSpace().bookingSlots().bookingId(1, 12)).isZero();
+        spaceDAO.delete(spaceName);
+        assertThat(spaceAvailabilityView.getAllSpaces().orElseThrow()).isEmpty();
+
+        assertThat(singleConnectionMetrics.timeouts()).isZero();
+        assertThat(singleConnectionMetrics.activeConnections()).isZero();
+    }
+
+    private Space viewedSpace() {
+        return spaceAvailabilityView.getAllSpaces().orElseThrow().get(0).space();
+    }
+}
@@ -0,0 +1,185 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest
+@DisplayName("Tests for database indexes")
+public class DatabaseIndexesTest {
+
+    private static final int NUMBER_OF_USERS = 500;
+    private static final int NUMBER_OF_SPACES = 100;
+    private static final int NUMBER_OF_DAYS = 365;
+    private static final int NUMBER_OF_BOOKINGS = 20_000;
+    private static final int NUMBER_OF_LOGS = 50_000;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16.2");
+
+    private static boolean seeded;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private LogPartitionDAO logPartitionDAO;
+
+    @BeforeAll
+    static void setUpAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @BeforeEach
+    void seed() throws SQLException {
+        if (seeded) {
+            return;
+        }
+        logPartitionDAO.createPartition(YearMonth.of(2030, 1));
+        logPartitionDAO.createPartition(YearMonth.of(2030, 2));
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO non_public.users (login, password, admin)
+                    SELECT 'Index user ' || i, 'pass', false FROM generate_series(1, %d) i"""
+                    .formatted(NUMBER_OF_USERS));
+            statement.execute("""
+                    INSERT INTO non_public.spaces (name, hour_of_beginning_working_day, hour_of_ending_working_day)
+                    SELECT 'Index space ' || i, 0, 24 FROM generate_series(1, %d) i"""
+                    .formatted(NUMBER_OF_SPACES));
+            statement.execute("""
+                    INSERT INTO non_public.slots_for_booking (name_of_space, date, hour, booking_id)
+                    SELECT 'Index space ' || s, DATE '2030-01-01' + d, h, CASE WHEN h = 12 THEN d + 1 ELSE 0 END
+                    FROM generate_series(1, %d) s, generate_series(0, %d) d, generate_series(0, 23) h"""
+                    .formatted(NUMBER_OF_SPACES, NUMBER_OF_DAYS - 1));
+            statement.execute("""
+                    INSERT INTO non_public.bookings (login, name_of_space, beginning_booking_date, beginning_booking_hour,
+                                                     ending_booking_date, ending_booking_hour)
+                    SELECT 'Index user ' || (i %% %d + 1), 'Index space ' || (i %% %d + 1),
+                           DATE '2030-01-01' + (i / %d) / 24, (i / %d) %% 24,
+                           DATE '2030-01-01' + (i / %d) / 24, (i / %d) %% 24 + 1
+                    FROM generate_series(1, %d) i"""
+                    .formatted(NUMBER_OF_USERS, NUMBER_OF_SPACES, NUMBER_OF_SPACES, NUMBER_OF_SPACES,
+                            NUMBER_OF_SPACES, NUMBER_OF_SPACES, NUMBER_OF_BOOKINGS));
+            statement.execute("""
+                    INSERT INTO non_public.user_activity_log (timestamp, login, action)
+                    SELECT TIMESTAMP '2030-01-01' + i * INTERVAL '1 minute', 'Index user ' || (i %% %d + 1), 'Login in.'
+                    FROM generate_series(1, %d) i"""
+                    .formatted(NUMBER_OF_USERS, NUMBER_OF_LOGS));
+            statement.execute("ANALYZE");
+        }
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("Booking slots of a range - Should use primary key of slots")
+    void bookSlots_shouldUsePrimaryKey() throws SQLException {
+        assertThat(explain("""
+                UPDATE non_public.slots_for_booking SET booking_id = 1
+                WHERE name_of_space = 'Index space 7' AND booking_id = 0
+                AND date BETWEEN DATE '2030-02-01' AND DATE '2030-02-03'
+                AND (date, hour) >= (DATE '2030-02-01', 10) AND (date, hour) < (DATE '2030-02-03', 12)"""))
+                .contains("slots_for_booking_pkey");
+    }
+
+    @Test
+    @DisplayName("Slots of a range - Should use primary key of slots")
+    void getSlotsOfRange_shouldUsePrimaryKey() throws SQLException {
+        assertThat(explain("""
+                SELECT date, hour, booking_id FROM non_public.slots_for_booking
+                WHERE name_of_space = 'Index space 7' AND date BETWEEN DATE '2030-02-01' AND DATE '2030-02-03'
+                ORDER BY date, hour"""))
+                .contains("slots_for_booking_pkey");
+    }
+
+    @Test
+    @DisplayName("Cancelling a booking - Should use partial index on booking ID")
+    void releaseSlots_shouldUseBookingIdIndex() throws SQLException {
+        assertThat(explain("UPDATE non_public.slots_for_booking SET booking_id = 0 WHERE booking_id = 42"))
+                .contains("slots_for_booking_booking_id_idx");
+    }
+
+    @Test
+    @DisplayName("Bookings of a user - Should use index on login and ID")
+    void getBookingsForUser_shouldUseLoginIndex() throws SQLException {
+        assertThat(explain("SELECT * FROM non_public.bookings WHERE login = 'Index user 7'"))
+                .contains("bookings_login_id_idx");
+    }
+
+    @Test
+    @DisplayName("Next page of bookings - Should seek on index on login and ID without sorting")
+    void getNextPageOfBookings_shouldSeekOnLoginIdIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM non_public.bookings WHERE (login, id) > ('Index user 7', 1000)
+                ORDER BY login, id LIMIT 100""");
+
+        assertThat(plan).contains("bookings_login_id_idx");
+        assertThat(plan).doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("Deleting bookings of a space - Should use index on name of space")
+    void deleteBookingsForSpace_shouldUseNameOfSpaceIndex() throws SQLException {
+        assertThat(explain("DELETE FROM non_public.bookings WHERE name_of_space = 'Index space 7'"))
+                .contains("bookings_name_of_space_idx");
+    }
+
+    @Test
+    @DisplayName("Logs of a user - Should use index on login and timestamp")
+    void getLogsForUser_shouldUseLoginTimestampIndex() throws SQLException {
+        assertThat(explain("""
+                SELECT * FROM non_public.user_activity_log
+                WHERE login = 'Index user 7' ORDER BY timestamp"""))
+                .containsPattern("user_activity_log_2030_0\\d_login_timestamp_idx");
+    }
+
+    @Test
+    @DisplayName("Logs of a period - Should only read the partitions of the months of the period")
+    void getLogsInPeriod_shouldPrunePartitions() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM non_public.user_activity_log
+                WHERE timestamp >= TIMESTAMP '2030-01-10' AND timestamp < TIMESTAMP '2030-01-11'""");
+
+        assertThat(plan).contains("user_activity_log_2030_01");
+        assertThat(plan).doesNotContain("user_activity_log_2030_02");
+        assertThat(plan).doesNotContain("user_activity_log_default");
+    }
+
+    private String explain(String query) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + query)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
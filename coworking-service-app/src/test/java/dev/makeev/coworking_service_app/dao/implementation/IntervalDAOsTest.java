@@ -0,0 +1,184 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.dao.UserDAO;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.User;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+@SpringBootTest(properties = "coworking.booking.storage=intervals")
+@DisplayName("Tests for DAO with interval-based booking storage")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class IntervalDAOsTest {
+
+    private static final String TEST_LOGIN = "IntervalUser";
+    private static final String TEST_SPACE_NAME = "IntervalSpace";
+    private static final WorkingHours WORKING_HOURS = new WorkingHours(10, 20);
+    private static final int NUMBER_OF_DAYS_AVAILABLE_FOR_BOOKING = 14;
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final Booking TEST_BOOKING = new Booking(TEST_LOGIN, TEST_SPACE_NAME,
+            new BookingRange(TODAY.plusDays(1), 12, TODAY.plusDays(2), 14));
+    private static final Booking OVERLAPPING_BOOKING = new Booking(TEST_LOGIN, TEST_SPACE_NAME,
+            new BookingRange(TODAY.plusDays(2), 13, TODAY.plusDays(2), 15));
+    private static final Booking ADJACENT_BOOKING = new Booking(TEST_LOGIN, TEST_SPACE_NAME,
+            new BookingRange(TODAY.plusDays(2), 14, TODAY.plusDays(2), 15));
+    private static final Booking OUT_OF_PERIOD_BOOKING = new Booking(TEST_LOGIN, TEST_SPACE_NAME,
+            new BookingRange(TODAY.plusDays(20), 10, TODAY.plusDays(20), 12));
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16.2");
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private SpaceDAO spaceDAO;
+
+    @Autowired
+    private BookingDAO bookingDAO;
+
+    @BeforeAll
+    static void setUpAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Interval storage: Beans - Should use interval-based DAO")
+    void context_shouldUseIntervalDAOs() {
+        assertThat(spaceDAO).isInstanceOf(IntervalSpaceDAOInBd.class);
+        assertThat(bookingDAO).isInstanceOf(IntervalBookingDAOInBd.class);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("IntervalSpaceDAOInBd test: Add Space - Should compute free slots from working hours")
+    void add_shouldAddSpaceWithFreeSlots() {
+        userDAO.add(new User(TEST_LOGIN, "TestPassword", false));
+        spaceDAO.add(new Space(TEST_SPACE_NAME, WORKING_HOURS,
+                SlotOccupancy.free(TODAY, NUMBER_OF_DAYS_AVAILABLE_FOR_BOOKING, WORKING_HOURS)));
+
+        Optional<Space> space = spaceDAO.getSpaceByName(TEST_SPACE_NAME);
+
+        assertTrue(space.isPresent());
+        assertThat(space.get().bookingSlots())
+                .isEqualTo(SlotOccupancy.free(TODAY, NUMBER_OF_DAYS_AVAILABLE_FOR_BOOKING, WORKING_HOURS));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("IntervalBookingDAOInBd test: Add Booking - Should add booking and occupy its slots")
+    void add_shouldAddBookingAndOccupySlots() {
+        assertTrue(bookingDAO.add(TEST_BOOKING));
+
+        SlotOccupancy bookingSlots = spaceDAO.getSpaceByName(TEST_SPACE_NAME).orElseThrow().bookingSlots();
+        long bookingId = bookingSlots.bookingId(1, 12);
+        assertThat(bookingId).isNotZero();
+        assertThat(bookingSlots.freeMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 12));
+        assertThat(bookingSlots.freeMask(2)).isEqualTo(SlotOccupancy.hourMask(14, 20));
+        assertThat(bookingSlots.bookingId(2, 13)).isEqualTo(bookingId);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("IntervalBookingDAOInBd test: Add Booking - Should not add overlapping booking")
+    void add_shouldNotAddOverlappingBooking() {
+        assertFalse(bookingDAO.add(OVERLAPPING_BOOKING));
+        assertThat(bookingsOf(TEST_LOGIN)).hasSize(1);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("IntervalBookingDAOInBd test: Add Booking - Should add booking adjacent to another booking")
+    void add_shouldAddAdjacentBooking() {
+        assertTrue(bookingDAO.add(ADJACENT_BOOKING));
+        assertThat(bookingsOf(TEST_LOGIN)).hasSize(2);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("IntervalBookingDAOInBd test: Add Booking - Should not add booking outside of the booking period")
+    void add_shouldNotAddBookingOutsideOfBookingPeriod() {
+        assertFalse(bookingDAO.add(OUT_OF_PERIOD_BOOKING));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("IntervalSpaceDAOInBd test: Get Space by name for range - Should return only slots of the days of the range")
+    void getSpaceByNameForRange_shouldReturnOnlySlotsOfRange() {
+        BookingRange bookingRange = new BookingRange(TODAY.plusDays(2), 12, TODAY.plusDays(3), 12);
+
+        SlotOccupancy bookingSlots = spaceDAO.getSpaceByNameForRange(TEST_SPACE_NAME, bookingRange)
+                .orElseThrow().bookingSlots();
+
+        assertThat(bookingSlots.firstDate()).isEqualTo(bookingRange.beginningBookingDate());
+        assertThat(bookingSlots.numberOfDays()).isEqualTo(2);
+        assertThat(bookingSlots.slotMask(0)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertThat(bookingSlots.freeMask(0) & SlotOccupancy.hourMask(12, 20)).isEqualTo(SlotOccupancy.hourMask(15, 20));
+        assertThat(bookingSlots.slotMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertThat(bookingSlots.isFree(1, SlotOccupancy.hourMask(10, 12))).isTrue();
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("IntervalBookingDAOInBd test: Delete Booking - Should free slots of the booking")
+    void delete_shouldFreeSlots() {
+        long bookingId = spaceDAO.getSpaceByName(TEST_SPACE_NAME).orElseThrow().bookingSlots().bookingId(1, 12);
+
+        bookingDAO.delete(bookingId);
+
+        SlotOccupancy bookingSlots = spaceDAO.getSpaceByName(TEST_SPACE_NAME).orElseThrow().bookingSlots();
+        assertThat(bookingSlots.freeMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertTrue(bookingDAO.getBookingById(bookingId).isEmpty());
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("IntervalSpaceDAOInBd test: Delete Space - Should delete space with its bookings")
+    void delete_shouldDeleteSpace() {
+        spaceDAO.delete(TEST_SPACE_NAME);
+
+        assertTrue(spaceDAO.getSpaceByName(TEST_SPACE_NAME).isEmpty());
+        assertThat(bookingsOf(TEST_LOGIN)).isEmpty();
+    }
+
+    private List<Booking> bookingsOf(String login) {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEachForUser(login, bookings::add);
+        return bookings;
+    }
+}
@@ -0,0 +1,137 @@
+package dev.makeev.coworking_service_app.dao.implementation;
+
+import dev.makeev.coworking_service_app.cache.implementation.PassThroughSpaceCache;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.view.implementation.PassThroughSpaceAvailabilityView;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the number of statements of listing all spaces name by name with the single bulk query.
+ * The latency of the listing is measured in coworking-benchmarks.
+ */
+@Testcontainers
+@SpringBootTest
+@DisplayName("Tests for queries of listing all spaces")
+public class SpaceListingQueriesTest {
+
+    private static final int NUMBER_OF_SPACES = 500;
+    private static final int NUMBER_OF_DAYS = 30;
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16.2");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    static void setUpAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @Test
+    @DisplayName("Get All Spaces - Should use one statement instead of one per space and return the same spaces")
+    void getAllSpaces_shouldReplaceQueryPerSpace() throws SQLException {
+        seed();
+        AtomicInteger statements = new AtomicInteger();
+        SpaceDAOInBd spaceDAO = new SpaceDAOInBd(countingDataSource(dataSource, statements),
+                new PassThroughSpaceCache(), new PassThroughSpaceAvailabilityView());
+
+        Supplier<List<Space>> spaceByName = () -> {
+            List<Space> spaces = new ArrayList<>();
+            spaceDAO.getNamesOfSpaces()
+                    .forEach(name -> spaces.add(spaceDAO.getSpaceByName(name).orElseThrow()));
+            return spaces;
+        };
+
+        Result before = countStatements(spaceByName, statements);
+        Result after = countStatements(spaceDAO::getAllSpaces, statements);
+
+        assertThat(after.spaces()).hasSizeGreaterThanOrEqualTo(NUMBER_OF_SPACES);
+        assertThat(after.spaces()).containsExactlyInAnyOrderElementsOf(before.spaces());
+        assertThat(before.statements()).isEqualTo(1 + 2 * before.spaces().size());
+        assertThat(after.statements()).isEqualTo(1);
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO non_public.spaces (name, hour_of_beginning_working_day, hour_of_ending_working_day)
+                    SELECT 'Listed space ' || i, 8, 20 FROM generate_series(1, %d) i"""
+                    .formatted(NUMBER_OF_SPACES));
+            statement.execute("""
+                    INSERT INTO non_public.slots_for_booking (name_of_space, date, hour, booking_id)
+                    SELECT 'Listed space ' || s, CURRENT_DATE + d, h, 0
+                    FROM generate_series(1, %d) s, generate_series(0, %d) d, generate_series(8, 19) h"""
+                    .formatted(NUMBER_OF_SPACES, NUMBER_OF_DAYS - 1));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static Result countStatements(Supplier<List<Space>> listing, AtomicInteger statements) {
+        statements.set(0);
+        List<Space> spaces = listing.get();
+        return new Result(spaces, statements.get());
+    }
+
+    /**
+     * Wraps the data source so that every statement prepared on its connections is counted.
+     */
+    private static DataSource countingDataSource(DataSource dataSource, AtomicInteger statements) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    Object result = invoke(method, dataSource, args);
+                    if (result instanceof Connection connection) {
+                        return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                new Class<?>[]{Connection.class}, (connectionProxy, connectionMethod, connectionArgs) -> {
+                                    if (connectionMethod.getName().startsWith("prepare")) {
+                                        statements.incrementAndGet();
+                                    }
+                                    return invoke(connectionMethod, connection, connectionArgs);
+                                });
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record Result(List<Space> spaces, int statements) {
+    }
+}
@@ -0,0 +1,127 @@
+package dev.makeev.coworking_service_app.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlotOccupancy Test")
+class SlotOccupancyTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 7, 15);
+    private static final WorkingHours WORKING_HOURS = new WorkingHours(8, 20);
+
+    @Test
+    @DisplayName("SlotOccupancy test: Hour mask - Should set bits of the hours in range")
+    void hourMask_shouldSetBitsOfHoursInRange() {
+        assertThat(SlotOccupancy.hourMask(8, 10)).isEqualTo(0b11_0000_0000);
+        assertThat(SlotOccupancy.hourMask(0, 24)).isEqualTo(0xFF_FFFF);
+        assertThat(SlotOccupancy.hourMask(10, 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: Free - Should contain every working hour of every day as free slot")
+    void free_shouldContainAllWorkingHoursAsFreeSlots() {
+        SlotOccupancy occupancy = SlotOccupancy.free(FIRST_DATE, 3, WORKING_HOURS);
+
+        assertThat(occupancy.numberOfDays()).isEqualTo(3);
+        assertThat(occupancy.dayOf(FIRST_DATE.plusDays(2))).isEqualTo(2);
+        assertThat(occupancy.dayOf(FIRST_DATE.plusDays(3))).isEqualTo(-1);
+        assertThat(occupancy.freeMask(1)).isEqualTo(SlotOccupancy.hourMask(8, 20));
+        assertThat(occupancy.isFree(1, SlotOccupancy.hourMask(8, 20))).isTrue();
+        assertThat(occupancy.isFree(1, SlotOccupancy.hourMask(7, 9))).isFalse();
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: Builder - Should mark booked slots and keep booking IDs")
+    void builder_shouldMarkBookedSlots() {
+        SlotOccupancy occupancy = SlotOccupancy.builder()
+                .add(FIRST_DATE.plusDays(1), 10, 0L)
+                .add(FIRST_DATE.plusDays(1), 11, 7L)
+                .add(FIRST_DATE, 10, 0L)
+                .build();
+
+        assertThat(occupancy.firstDate()).isEqualTo(FIRST_DATE);
+        assertThat(occupancy.numberOfDays()).isEqualTo(2);
+        assertThat(occupancy.containsDate(FIRST_DATE)).isTrue();
+        assertThat(occupancy.isFree(1, SlotOccupancy.hourMask(10, 11))).isTrue();
+        assertThat(occupancy.isFree(1, SlotOccupancy.hourMask(10, 12))).isFalse();
+        assertThat(occupancy.bookingId(1, 11)).isEqualTo(7L);
+        assertThat(occupancy.bookingId(0, 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: Builder - Should add several hours of a day at once")
+    void builder_shouldAddHoursOfDay() {
+        SlotOccupancy occupancy = SlotOccupancy.builder()
+                .addHours(FIRST_DATE, SlotOccupancy.hourMask(8, 20), 0L)
+                .addHours(FIRST_DATE, SlotOccupancy.hourMask(12, 14), 3L)
+                .build();
+
+        assertThat(occupancy.slotMask(0)).isEqualTo(SlotOccupancy.hourMask(8, 20));
+        assertThat(occupancy.freeMask(0)).isEqualTo(SlotOccupancy.hourMask(8, 12) | SlotOccupancy.hourMask(14, 20));
+        assertThat(occupancy.bookingId(0, 12)).isEqualTo(3L);
+        assertThat(occupancy.bookingId(0, 13)).isEqualTo(3L);
+        assertThat(occupancy.bookingId(0, 14)).isZero();
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: Builder - Should return empty occupancy without slots")
+    void builder_shouldReturnEmptyOccupancyWithoutSlots() {
+        SlotOccupancy occupancy = SlotOccupancy.builder().build();
+
+        assertThat(occupancy.numberOfDays()).isZero();
+        assertThat(occupancy.containsDate(FIRST_DATE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: With booking - Should book free working hours of the range in a copy")
+    void withBooking_shouldBookRangeInCopy() {
+        SlotOccupancy occupancy = SlotOccupancy.free(FIRST_DATE, 3, WORKING_HOURS);
+
+        SlotOccupancy booked = occupancy.withBooking(
+                new BookingRange(FIRST_DATE, 18, FIRST_DATE.plusDays(1), 10), WORKING_HOURS, 5L);
+
+        assertThat(booked.freeMask(0)).isEqualTo(SlotOccupancy.hourMask(8, 18));
+        assertThat(booked.freeMask(1)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+        assertThat(booked.freeMask(2)).isEqualTo(SlotOccupancy.hourMask(8, 20));
+        assertThat(booked.bookingId(0, 19)).isEqualTo(5L);
+        assertThat(booked.bookingId(1, 9)).isEqualTo(5L);
+        assertThat(occupancy.freeMask(0)).isEqualTo(SlotOccupancy.hourMask(8, 20));
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: With booking - Should keep slots of other bookings and days outside of the occupancy")
+    void withBooking_shouldKeepOtherBookings() {
+        SlotOccupancy occupancy = SlotOccupancy.free(FIRST_DATE, 1, WORKING_HOURS)
+                .withBooking(new BookingRange(FIRST_DATE, 10, FIRST_DATE, 12), WORKING_HOURS, 1L);
+
+        SlotOccupancy booked = occupancy.withBooking(
+                new BookingRange(FIRST_DATE.minusDays(1), 8, FIRST_DATE, 14), WORKING_HOURS, 2L);
+
+        assertThat(booked.bookingId(0, 10)).isEqualTo(1L);
+        assertThat(booked.bookingId(0, 12)).isEqualTo(2L);
+        assertThat(booked.freeMask(0)).isEqualTo(SlotOccupancy.hourMask(14, 20));
+        assertThat(booked.withBooking(new BookingRange(FIRST_DATE.plusDays(1), 8, FIRST_DATE.plusDays(1), 9),
+                WORKING_HOURS, 3L)).isSameAs(booked);
+    }
+
+    @Test
+    @DisplayName("SlotOccupancy test: Without booking - Should free only the slots of the booking")
+    void withoutBooking_shouldFreeSlotsOfBooking() {
+        SlotOccupancy occupancy = SlotOccupancy.free(FIRST_DATE, 2, WORKING_HOURS)
+                .withBooking(new BookingRange(FIRST_DATE, 10, FIRST_DATE, 12), WORKING_HOURS, 1L)
+                .withBooking(new BookingRange(FIRST_DATE, 19, FIRST_DATE.plusDays(1), 9), WORKING_HOURS, 2L);
+
+        SlotOccupancy freed = occupancy.withoutBooking(2L);
+
+        assertThat(freed.freeMask(0)).isEqualTo(SlotOccupancy.hourMask(8, 10) | SlotOccupancy.hourMask(12, 20));
+        assertThat(freed.freeMask(1)).isEqualTo(SlotOccupancy.hourMask(8, 20));
+        assertThat(freed.bookingId(0, 10)).isEqualTo(1L);
+        assertThat(freed).isEqualTo(SlotOccupancy.free(FIRST_DATE, 2, WORKING_HOURS)
+                .withBooking(new BookingRange(FIRST_DATE, 10, FIRST_DATE, 12), WORKING_HOURS, 1L));
+        assertThat(freed.withoutBooking(2L)).isSameAs(freed);
+    }
+}
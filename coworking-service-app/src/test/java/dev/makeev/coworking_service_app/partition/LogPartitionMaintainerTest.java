@@ -0,0 +1,130 @@
+package dev.makeev.coworking_service_app.partition;
+
+import dev.makeev.coworking_service_app.dao.LogPartitionDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LogPartitionMaintainer Test")
+class LogPartitionMaintainerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 7, 14);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final InMemoryLogPartitionDAO logPartitionDAO = new InMemoryLogPartitionDAO();
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Maintain - Should create partitions of current and coming months")
+    void maintain_shouldCreatePartitionsAhead() {
+        maintainer(2, Period.ofMonths(12), ExpiredPartitionPolicy.DROP).maintain();
+
+        assertThat(logPartitionDAO.partitions)
+                .containsExactly(YearMonth.of(2024, 7), YearMonth.of(2024, 8), YearMonth.of(2024, 9));
+    }
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Maintain - Should drop only months older than the retention")
+    void maintain_shouldDropExpiredMonths() {
+        logPartitionDAO.partitions.addAll(List.of(YearMonth.of(2024, 3), YearMonth.of(2024, 4), YearMonth.of(2024, 5)));
+
+        maintainer(0, Period.ofDays(90), ExpiredPartitionPolicy.DROP).maintain();
+
+        assertThat(logPartitionDAO.dropped).containsExactly(YearMonth.of(2024, 3));
+        assertThat(logPartitionDAO.detached).isEmpty();
+        assertThat(logPartitionDAO.partitions)
+                .containsExactly(YearMonth.of(2024, 4), YearMonth.of(2024, 5), YearMonth.of(2024, 7));
+    }
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Maintain - Should detach expired months to be archived")
+    void maintain_shouldDetachExpiredMonths() {
+        logPartitionDAO.partitions.add(YearMonth.of(2023, 6));
+
+        maintainer(0, Period.ofMonths(12), ExpiredPartitionPolicy.DETACH).maintain();
+
+        assertThat(logPartitionDAO.detached).containsExactly(YearMonth.of(2023, 6));
+        assertThat(logPartitionDAO.dropped).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Maintain - Should keep the current month with no retention")
+    void maintain_shouldKeepCurrentMonth() {
+        maintainer(0, Period.ZERO, ExpiredPartitionPolicy.DROP).maintain();
+
+        assertThat(logPartitionDAO.partitions).containsExactly(YearMonth.of(2024, 7));
+        assertThat(logPartitionDAO.dropped).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Maintain - Should drop expired months when creating partitions fails")
+    void maintain_shouldDropExpiredMonthsWhenCreationFails() {
+        logPartitionDAO.partitions.add(YearMonth.of(2023, 6));
+        logPartitionDAO.creationFailure = new IllegalStateException("Rows of the month in the default partition");
+
+        assertThatThrownBy(() -> maintainer(2, Period.ofMonths(12), ExpiredPartitionPolicy.DROP).maintain())
+                .isSameAs(logPartitionDAO.creationFailure);
+
+        assertThat(logPartitionDAO.dropped).containsExactly(YearMonth.of(2023, 6));
+        assertThat(logPartitionDAO.partitions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LogPartitionMaintainer test: Create - Should reject negative settings")
+    void create_shouldRejectNegativeSettings() {
+        assertThatThrownBy(() -> maintainer(-1, Period.ofMonths(12), ExpiredPartitionPolicy.DROP))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> maintainer(2, Period.ofMonths(-1), ExpiredPartitionPolicy.DROP))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LogPartitionMaintainer maintainer(int monthsAhead, Period retention, ExpiredPartitionPolicy expired) {
+        return new LogPartitionMaintainer(logPartitionDAO,
+                new LogPartitionProperties(true, monthsAhead, retention, expired, Duration.ZERO), CLOCK);
+    }
+
+    private static class InMemoryLogPartitionDAO implements LogPartitionDAO {
+
+        private final Set<YearMonth> partitions = new TreeSet<>();
+        private final List<YearMonth> dropped = new ArrayList<>();
+        private final List<YearMonth> detached = new ArrayList<>();
+        private RuntimeException creationFailure;
+
+        @Override
+        public void createPartition(YearMonth month) {
+            if (creationFailure != null) {
+                throw creationFailure;
+            }
+            partitions.add(month);
+        }
+
+        @Override
+        public List<YearMonth> getPartitions() {
+            return new ArrayList<>(partitions);
+        }
+
+        @Override
+        public void dropPartition(YearMonth month) {
+            partitions.remove(month);
+            dropped.add(month);
+        }
+
+        @Override
+        public void detachPartition(YearMonth month) {
+            partitions.remove(month);
+            detached.add(month);
+        }
+    }
+}
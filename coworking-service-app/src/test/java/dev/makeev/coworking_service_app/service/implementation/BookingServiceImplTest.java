@@ -4,11 +4,16 @@ import dev.makeev.coworking_service_app.dao.BookingDAO;
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
 import dev.makeev.coworking_service_app.dto.BookingAddDTO;
 import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
+import dev.makeev.coworking_service_app.exceptions.BadRequestException;
 import dev.makeev.coworking_service_app.exceptions.BookingNotFoundException;
 import dev.makeev.coworking_service_app.exceptions.SpaceIsNotAvailableException;
 import dev.makeev.coworking_service_app.exceptions.SpaceNotFoundException;
 import dev.makeev.coworking_service_app.mappers.BookingMapper;
 import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingCursor;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.Space;
 import dev.makeev.coworking_service_app.model.WorkingHours;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,13 +28,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -41,6 +49,7 @@ class BookingServiceImplTest {
 
     private static final String NAME_OF_SPACE = "TestSpace";
     private static final String LOGIN = "TestLogin";
+    private static final LocalDate BOOKING_DATE = LocalDate.now().plusDays(1);
 
     @Mock
     private BookingDAO bookingDAO;
@@ -71,19 +80,41 @@ class BookingServiceImplTest {
         bookingServiceImpl = new BookingServiceImpl(bookingDAO, spaceDAO, Mappers.getMapper(BookingMapper.class));
     }
 
+    @Test
+    @DisplayName("BookingService test: Add Booking - Should add multi-day booking ending at the opening hour")
+    void addBooking_shouldAddBookingEndingAtOpeningHour() throws SpaceIsNotAvailableException, SpaceNotFoundException {
+        WorkingHours workingHours = new WorkingHours(8, 18);
+        when(spaceDAO.getSpaceByNameForRange(anyString(), any(BookingRange.class))).thenReturn(Optional.of(
+                new Space(NAME_OF_SPACE, workingHours, SlotOccupancy.free(BOOKING_DATE, 2, workingHours))));
+        when(mockBookingAddDTO.nameOfBookingSpace()).thenReturn(NAME_OF_SPACE);
+        when(mockBookingAddDTO.beginningBookingHour()).thenReturn(16);
+        when(mockBookingAddDTO.beginningBookingDate()).thenReturn(BOOKING_DATE.toString());
+        when(mockBookingAddDTO.endingBookingHour()).thenReturn(8);
+        when(mockBookingAddDTO.endingBookingDate()).thenReturn(BOOKING_DATE.plusDays(1).toString());
+        when(bookingDAO.add(any(Booking.class))).thenReturn(true);
+
+        bookingServiceImpl.addBooking(LOGIN, mockBookingAddDTO);
+
+        verify(bookingDAO, times(1)).add(any(Booking.class));
+    }
+
     @Test
     @DisplayName("BookingService test: Add Booking - Should add booking if space is available")
     void addBooking_shouldAddBookingIfSpaceIsAvailable() throws SpaceIsNotAvailableException, SpaceNotFoundException {
-        when(spaceDAO.getSpaceByName(anyString())).thenReturn(Optional.of(mockSpace));
-        when(mockSpace.bookingSlots()).thenReturn(Map.of(LocalDate.of(2024, 8, 15), Map.of(10, 0L, 11, 0L)));
+        when(spaceDAO.getSpaceByNameForRange(anyString(), any(BookingRange.class))).thenReturn(Optional.of(mockSpace));
+        when(mockSpace.bookingSlots()).thenReturn(SlotOccupancy.builder()
+                .add(BOOKING_DATE, 10, 0L)
+                .add(BOOKING_DATE, 11, 0L)
+                .build());
         when(mockSpace.workingHours()).thenReturn(mockWorkingHours);
         when(mockWorkingHours.hourOfBeginningWorkingDay()).thenReturn(8);
         when(mockWorkingHours.hourOfEndingWorkingDay()).thenReturn(18);
         when(mockBookingAddDTO.nameOfBookingSpace()).thenReturn(NAME_OF_SPACE);
         when(mockBookingAddDTO.beginningBookingHour()).thenReturn(10);
-        when(mockBookingAddDTO.beginningBookingDate()).thenReturn("2024-08-15");
+        when(mockBookingAddDTO.beginningBookingDate()).thenReturn(BOOKING_DATE.toString());
         when(mockBookingAddDTO.endingBookingHour()).thenReturn(11);
-        when(mockBookingAddDTO.endingBookingDate()).thenReturn("2024-08-15");
+        when(mockBookingAddDTO.endingBookingDate()).thenReturn(BOOKING_DATE.toString());
+        when(bookingDAO.add(any(Booking.class))).thenReturn(true);
 
         bookingServiceImpl.addBooking(LOGIN, mockBookingAddDTO);
 
@@ -93,12 +124,14 @@ class BookingServiceImplTest {
     @Test
     @DisplayName("BookingService test: Add Booking - Should throw exception if space is not available")
     void addBooking_shouldThrowExceptionIfSpaceIsNotAvailable() {
-        when(spaceDAO.getSpaceByName(anyString())).thenReturn(Optional.of(mockSpace));
+        when(spaceDAO.getSpaceByNameForRange(anyString(), any(BookingRange.class))).thenReturn(Optional.of(mockSpace));
         when(mockSpace.workingHours()).thenReturn(mockWorkingHours);
         when(mockBookingAddDTO.nameOfBookingSpace()).thenReturn(NAME_OF_SPACE);
         when(mockWorkingHours.hourOfBeginningWorkingDay()).thenReturn(8);
-        when(mockBookingAddDTO.beginningBookingDate()).thenReturn("2024-08-15");
-        when(mockBookingAddDTO.endingBookingDate()).thenReturn("2024-08-15");
+        when(mockBookingAddDTO.beginningBookingHour()).thenReturn(7);
+        when(mockBookingAddDTO.beginningBookingDate()).thenReturn(BOOKING_DATE.toString());
+        when(mockBookingAddDTO.endingBookingHour()).thenReturn(9);
+        when(mockBookingAddDTO.endingBookingDate()).thenReturn(BOOKING_DATE.toString());
 
         assertThatThrownBy(() -> bookingServiceImpl.addBooking(LOGIN, mockBookingAddDTO))
                 .isInstanceOf(SpaceIsNotAvailableException.class);
@@ -109,7 +142,7 @@ class BookingServiceImplTest {
     @Test
     @DisplayName("BookingService test: Add Booking - Should throw exception if space is not found")
     void addBooking_shouldThrowExceptionIfSpaceIsNotFound() {
-        when(spaceDAO.getSpaceByName(anyString())).thenReturn(Optional.empty());
+        when(spaceDAO.getSpaceByNameForRange(anyString(), any(BookingRange.class))).thenReturn(Optional.empty());
         when(mockBookingAddDTO.nameOfBookingSpace()).thenReturn(NAME_OF_SPACE);
 
         assertThatThrownBy(() -> bookingServiceImpl.addBooking(LOGIN, mockBookingAddDTO))
@@ -119,35 +152,77 @@ class BookingServiceImplTest {
     }
 
     @Test
-    @DisplayName("BookingService test: Get All Bookings For User - Should return all bookings for user")
-    void getAllBookingsForUser_shouldReturnAllBookingsForUser() {
+    @DisplayName("BookingService test: Get All Bookings For User - Should return last page without cursor")
+    void getAllBookingsForUser_shouldReturnLastPageWithoutCursor() {
         List<Booking> bookings = new ArrayList<>();
         bookings.add(mockBooking1);
         bookings.add(mockBooking2);
-        when(bookingDAO.getAllForUser(LOGIN)).thenReturn(bookings);
+        when(bookingDAO.getPageForUser(LOGIN, 0L, 3)).thenReturn(bookings);
 
-        List<BookingDTO> result = bookingServiceImpl.getAllBookingsForUser(LOGIN);
+        BookingPage result = bookingServiceImpl.getAllBookingsForUser(LOGIN, null, 2);
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).hasSize(2);
-        verify(bookingDAO, times(1)).getAllForUser(LOGIN);
+        assertThat(result.bookings()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
+        verify(bookingDAO, times(1)).getPageForUser(LOGIN, 0L, 3);
     }
 
     @Test
-    @DisplayName("BookingService test: Get All Bookings Sorted By User - Should return all bookings sorted by user")
-    void getAllBookingsSortedByUser_shouldReturnAllBookingsSortedByUser() {
-        List<Booking> bookings = new ArrayList<>();
-        bookings.add(mockBooking1);
-        when(mockBooking1.login()).thenReturn(LOGIN);
-        bookings.add(mockBooking2);
-        when(mockBooking2.login()).thenReturn("LOGIN-2");
-        when(bookingDAO.getAll()).thenReturn(bookings);
+    @DisplayName("BookingService test: Get All Bookings For User - Should continue after the booking of the cursor")
+    void getAllBookingsForUser_shouldContinueAfterCursor() {
+        Booking booking = new Booking(7L, LOGIN, NAME_OF_SPACE, new BookingRange(BOOKING_DATE, 10, BOOKING_DATE, 11));
+        when(bookingDAO.getPageForUser(LOGIN, 0L, 2)).thenReturn(List.of(booking, mockBooking1));
+        String cursor = bookingServiceImpl.getAllBookingsForUser(LOGIN, null, 1).nextCursor();
+
+        bookingServiceImpl.getAllBookingsForUser(LOGIN, cursor, 1);
 
-        List<BookingDTO> result = bookingServiceImpl.getAllBookingsSortedByUser();
+        verify(bookingDAO, times(1)).getPageForUser(LOGIN, 7L, 2);
+    }
+
+    @Test
+    @DisplayName("BookingService test: Get All Bookings For User - Should reject cursor of another user or malformed")
+    void getAllBookingsForUser_shouldRejectForeignOrMalformedCursor() {
+        String cursorOfAnotherUser = new BookingCursor("LOGIN-2", 7L).encode();
+
+        assertThatThrownBy(() -> bookingServiceImpl.getAllBookingsForUser(LOGIN, cursorOfAnotherUser, 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> bookingServiceImpl.getAllBookingsForUser(LOGIN, "not a cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+        verify(bookingDAO, never()).getPageForUser(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("BookingService test: Get All Bookings Sorted By User - Should return page and cursor of next page")
+    void getAllBookingsSortedByUser_shouldReturnPageAndNextCursor() {
+        Booking booking = new Booking(7L, LOGIN, NAME_OF_SPACE, new BookingRange(BOOKING_DATE, 10, BOOKING_DATE, 11));
+        when(bookingDAO.getPage(null, 2)).thenReturn(List.of(booking, mockBooking2));
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).hasSize(2);
-        verify(bookingDAO, times(1)).getAll();
+        BookingPage result = bookingServiceImpl.getAllBookingsSortedByUser(null, 1);
+
+        assertThat(result.bookings()).extracting(BookingDTO::id).containsExactly(7L);
+        assertThat(BookingCursor.decode(result.nextCursor())).isEqualTo(new BookingCursor(LOGIN, 7L));
+
+        bookingServiceImpl.getAllBookingsSortedByUser(result.nextCursor(), 1);
+
+        verify(bookingDAO, times(1)).getPage(new BookingCursor(LOGIN, 7L), 2);
+    }
+
+    @Test
+    @DisplayName("BookingService test: For Each Booking For User - Should pass on every booking as DTO")
+    void forEachBookingForUser_shouldPassOnBookingsAsDTO() {
+        Booking booking = new Booking(7L, LOGIN, NAME_OF_SPACE, new BookingRange(BOOKING_DATE, 10, BOOKING_DATE, 11));
+        doAnswer(invocation -> {
+            Consumer<Booking> action = invocation.getArgument(1);
+            action.accept(booking);
+            return null;
+        }).when(bookingDAO).forEachForUser(anyString(), any());
+        List<BookingDTO> result = new ArrayList<>();
+
+        bookingServiceImpl.forEachBookingForUser(LOGIN, result::add);
+
+        assertThat(result).containsExactly(new BookingDTO(7L, LOGIN, NAME_OF_SPACE,
+                BOOKING_DATE.toString(), 10, BOOKING_DATE.toString(), 11));
+        verify(bookingDAO, times(1)).forEachForUser(anyString(), any());
+        verify(bookingDAO, never()).getPageForUser(anyString(), anyLong(), anyInt());
     }
 
     @Test
@@ -4,6 +4,7 @@ import dev.makeev.coworking_service_app.dao.LogDAO;
 import dev.makeev.coworking_service_app.dto.LogOfUserActionDTO;
 import dev.makeev.coworking_service_app.mappers.LogOfUserActionMapper;
 import dev.makeev.coworking_service_app.model.LogOfUserAction;
+import dev.makeev.logging_to_db_starter.model.LogRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +59,20 @@ public class LogServiceImplTest {
         verify(logDAO, times(1)).add(any(LogOfUserAction.class));
     }
 
+    @Test
+    @DisplayName("Test adding logs in one batch with their own timestamps")
+    void testAddLogs() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 7, 14, 18, 0);
+        List<LogRecord> logRecords = List.of(new LogRecord(dateTime, LOGIN, MESSAGE),
+                new LogRecord(dateTime.plusSeconds(1), LOGIN, MESSAGE));
+
+        logService.addLogs(logRecords);
+
+        verify(logDAO, times(1)).addAll(List.of(new LogOfUserAction(dateTime, LOGIN, MESSAGE),
+                new LogOfUserAction(dateTime.plusSeconds(1), LOGIN, MESSAGE)));
+        verify(logDAO, never()).add(any(LogOfUserAction.class));
+    }
+
     @Test
     @DisplayName("Test getting all logs")
     void testGetLogs() {
@@ -62,12 +81,30 @@ public class LogServiceImplTest {
         when(mockLogOfUserAction.login()).thenReturn(LOGIN);
         when(mockLogOfUserAction.messageAboutAction()).thenReturn(MESSAGE);
 
-        when(logDAO.getAll()).thenReturn(logList);
+        when(logDAO.getBetween(null, null)).thenReturn(logList);
 
-        List<LogOfUserActionDTO> result = logService.getLogs();
+        List<LogOfUserActionDTO> result = logService.getLogs(null, null);
 
         assertEquals(1, result.size());
         assertEquals(LOGIN, result.get(0).login());
         assertEquals(MESSAGE, result.get(0).messageAboutAction());
     }
+
+    @Test
+    @DisplayName("Test passing on every log as it is read")
+    void testForEachLog() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 7, 14, 18, 0);
+        doAnswer(invocation -> {
+            Consumer<LogOfUserAction> action = invocation.getArgument(2);
+            action.accept(new LogOfUserAction(dateTime, LOGIN, MESSAGE));
+            return null;
+        }).when(logDAO).forEachBetween(any(), any(), any());
+        List<LogOfUserActionDTO> result = new ArrayList<>();
+
+        logService.forEachLog(dateTime, dateTime.plusHours(1), result::add);
+
+        assertEquals(List.of(new LogOfUserActionDTO("2024-07-14 18:00:00", LOGIN, MESSAGE)), result);
+        verify(logDAO, times(1)).forEachBetween(any(), any(), any());
+        verify(logDAO, never()).getAll();
+    }
 }
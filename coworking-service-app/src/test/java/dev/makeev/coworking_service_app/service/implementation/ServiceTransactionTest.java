@@ -0,0 +1,169 @@
+package dev.makeev.coworking_service_app.service.implementation;
+
+import dev.makeev.coworking_service_app.dao.BookingDAO;
+import dev.makeev.coworking_service_app.dto.BookingAddDTO;
+import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
+import dev.makeev.coworking_service_app.dto.SpaceDTO;
+import dev.makeev.coworking_service_app.model.SlotsAvailableForBooking;
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.pool.ConnectionPoolMetrics;
+import dev.makeev.coworking_service_app.service.BookingService;
+import dev.makeev.coworking_service_app.service.SpaceService;
+import dev.makeev.coworking_service_app.service.UserService;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+import dev.makeev.logging_time_starter.metrics.LatencySnapshot;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that a service method runs its DAO calls on the connection of one transaction.
+ * Logged actions go to the background writer, which is flushed rarely, so that storing them
+ * does not check out connections during the test. Spaces are listed from the availability view.
+ */
+@Testcontainers
+@SpringBootTest(properties = {"logging-to-db.async.enabled=true", "logging-to-db.async.flush-interval=1h",
+        "coworking.availability-view.enabled=true"})
+@DisplayName("Tests for transactions of services")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ServiceTransactionTest {
+
+    private static final String TEST_LOGIN = "TransactionUser";
+    private static final String TEST_SPACE_NAME = "TransactionSpace";
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> postgresContainer =
+            new PostgreSQLContainer<>("postgres:16.2");
+
+    @Autowired
+    private LatencyRegistry latencyRegistry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingDAO bookingDAO;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void setUpAll() {
+        postgresContainer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgresContainer.stop();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Add user and space - Should check out one connection per call")
+    void addUserAndSpace_shouldCheckOutOneConnection() {
+        assertThat(connectionsCheckedOutBy(() -> userService.addUser(TEST_LOGIN, "TestPassword"))).isEqualTo(1);
+        assertThat(connectionsCheckedOutBy(() -> spaceService.addSpace(
+                new SpaceAddDTO(TEST_SPACE_NAME, 10, 20, 7)))).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Add and delete booking - Should check out one connection per call")
+    void addAndDeleteBooking_shouldCheckOutOneConnection() {
+        BookingAddDTO bookingAddDTO = new BookingAddDTO(TEST_SPACE_NAME,
+                TOMORROW.toString(), 12, TOMORROW.toString(), 14);
+
+        assertThat(connectionsCheckedOutBy(() -> bookingService.addBooking(TEST_LOGIN, bookingAddDTO))).isEqualTo(1);
+
+        long id = bookingsOf(TEST_LOGIN).get(0).id();
+        assertThat(connectionsCheckedOutBy(() -> bookingService.deleteBookingById(TEST_LOGIN, id))).isEqualTo(1);
+        assertThat(bookingsOf(TEST_LOGIN)).isEmpty();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Add conflicting booking - Should roll back the whole transaction")
+    void addConflictingBooking_shouldRollBackTransaction() {
+        Booking booking = new Booking(TEST_LOGIN, TEST_SPACE_NAME, new BookingRange(TOMORROW, 12, TOMORROW, 14));
+        Booking overlappingBooking = new Booking(TEST_LOGIN, TEST_SPACE_NAME, new BookingRange(TOMORROW, 13, TOMORROW, 15));
+
+        assertThrows(UnexpectedRollbackException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            assertThat(bookingDAO.add(booking)).isTrue();
+            assertThat(bookingDAO.add(overlappingBooking)).isFalse();
+        }));
+
+        assertThat(bookingsOf(TEST_LOGIN)).isEmpty();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Get spaces - Should list committed bookings without checking out a connection")
+    void getSpaces_shouldListCommittedBookingsWithoutConnection() {
+        long versionBefore = listedSpace().version();
+
+        bookingService.addBooking(TEST_LOGIN, new BookingAddDTO(TEST_SPACE_NAME,
+                TOMORROW.toString(), 12, TOMORROW.toString(), 14));
+
+        assertThat(connectionsCheckedOutBy(spaceService::getSpaces)).isZero();
+        SpaceDTO space = listedSpace();
+        assertThat(space.version()).isGreaterThan(versionBefore);
+        assertThat(space.slotsAvailableForBookings().stream()
+                .filter(slots -> slots.date().equals(TOMORROW.toString()))
+                .map(SlotsAvailableForBooking::slots)
+                .findFirst().orElseThrow())
+                .contains("11:00 - 12:00", "14:00 - 15:00")
+                .doesNotContain("12:00 - 13:00", "13:00 - 14:00");
+    }
+
+    private SpaceDTO listedSpace() {
+        return spaceService.getSpaces().stream()
+                .filter(space -> space.name().equals(TEST_SPACE_NAME))
+                .findFirst().orElseThrow();
+    }
+
+    private long connectionsCheckedOutBy(Runnable serviceCall) {
+        long checkedOutBefore = checkedOutConnections();
+        serviceCall.run();
+        return checkedOutConnections() - checkedOutBefore;
+    }
+
+    private long checkedOutConnections() {
+        return latencyRegistry.snapshot(ConnectionPoolMetrics.ACQUIRE)
+                .map(LatencySnapshot::count)
+                .orElse(0L);
+    }
+
+    private List<Booking> bookingsOf(String login) {
+        List<Booking> bookings = new ArrayList<>();
+        bookingDAO.forEachForUser(login, bookings::add);
+        return bookings;
+    }
+}
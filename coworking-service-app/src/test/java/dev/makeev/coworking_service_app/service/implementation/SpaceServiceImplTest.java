@@ -1,12 +1,18 @@
 package dev.makeev.coworking_service_app.service.implementation;
 
 import dev.makeev.coworking_service_app.dao.SpaceDAO;
+import dev.makeev.coworking_service_app.dto.CompactSpaceDTO;
 import dev.makeev.coworking_service_app.dto.SpaceAddDTO;
 import dev.makeev.coworking_service_app.dto.SpaceDTO;
 import dev.makeev.coworking_service_app.exceptions.SpaceAlreadyExistsException;
 import dev.makeev.coworking_service_app.exceptions.SpaceNotFoundException;
+import dev.makeev.coworking_service_app.model.FreeIntervals;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
 import dev.makeev.coworking_service_app.model.SlotsAvailableForBooking;
 import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import dev.makeev.coworking_service_app.view.implementation.InMemorySpaceAvailabilityView;
+import dev.makeev.coworking_service_app.view.implementation.PassThroughSpaceAvailabilityView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,14 +23,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,7 +55,7 @@ class SpaceServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        spaceServiceImpl = new SpaceServiceImpl(spaceDAO);
+        spaceServiceImpl = new SpaceServiceImpl(spaceDAO, new PassThroughSpaceAvailabilityView());
     }
 
     @Test
@@ -81,19 +86,17 @@ class SpaceServiceImplTest {
     @Test
     @DisplayName("SpaceService test: Get Spaces - Should return all spaces")
     void getSpaces_shouldReturnAllSpaces() {
-        List<String> spaceNames = List.of(TEST_SPACE);
-
-        List<String> slots = new ArrayList<>();
+        List<String> slots = List.of("10:00 - 11:00", "12:00 - 13:00");
         List<SlotsAvailableForBooking> availableSlots = List.of(new SlotsAvailableForBooking(LocalDate.now().toString(), slots));
-        SpaceDTO expectedSpaceDTO = new SpaceDTO(TEST_SPACE, availableSlots);
+        SpaceDTO expectedSpaceDTO = new SpaceDTO(TEST_SPACE, availableSlots, 0L);
         List<SpaceDTO> expectedSpaces = List.of(expectedSpaceDTO);
 
-        when(spaceDAO.getNamesOfSpaces()).thenReturn(spaceNames);
-        when(spaceDAO.getSpaceByName(TEST_SPACE)).thenReturn(Optional.of(mockSpace));
-
-        Map<LocalDate, Map<Integer, Long>> bookingSlots = new HashMap<>();
-        bookingSlots.put(LocalDate.now(), new HashMap<>());
-        when(mockSpace.bookingSlots()).thenReturn(bookingSlots);
+        SlotOccupancy bookingSlots = SlotOccupancy.builder()
+                .add(LocalDate.now(), 12, 0L)
+                .add(LocalDate.now(), 10, 0L)
+                .add(LocalDate.now(), 11, 1L)
+                .build();
+        when(spaceDAO.getAllSpaces()).thenReturn(List.of(new Space(TEST_SPACE, new WorkingHours(10, 13), bookingSlots)));
 
         List<SpaceDTO> result = spaceServiceImpl.getSpaces();
 
@@ -101,6 +104,63 @@ class SpaceServiceImplTest {
         assertThat(result).isEqualTo(expectedSpaces);
     }
 
+    @Test
+    @DisplayName("SpaceService test: Get Spaces - Should load all spaces with a single DAO call")
+    void getSpaces_shouldLoadAllSpacesWithSingleDaoCall() {
+        WorkingHours workingHours = new WorkingHours(8, 20);
+        List<Space> spaces = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            spaces.add(new Space(TEST_SPACE + i, workingHours, SlotOccupancy.free(LocalDate.now(), 7, workingHours)));
+        }
+        when(spaceDAO.getAllSpaces()).thenReturn(spaces);
+
+        List<SpaceDTO> result = spaceServiceImpl.getSpaces();
+
+        assertThat(result).hasSize(500);
+        verify(spaceDAO, times(1)).getAllSpaces();
+        verify(spaceDAO, never()).getNamesOfSpaces();
+        verify(spaceDAO, never()).getSpaceByName(anyString());
+    }
+
+    @Test
+    @DisplayName("SpaceService test: Get Compact Spaces - Should merge consecutive free hours into intervals")
+    void getCompactSpaces_shouldMergeFreeHours() {
+        WorkingHours workingHours = new WorkingHours(0, 24);
+        SlotOccupancy bookingSlots = SlotOccupancy.builder()
+                .addHours(LocalDate.now(), SlotOccupancy.hourMask(0, 24), 0L)
+                .addHours(LocalDate.now(), SlotOccupancy.hourMask(9, 10), 1L)
+                .addHours(LocalDate.now(), SlotOccupancy.hourMask(12, 14), 2L)
+                .addHours(LocalDate.now().plusDays(1), SlotOccupancy.hourMask(0, 24), 3L)
+                .addHours(LocalDate.now().plusDays(2), SlotOccupancy.hourMask(0, 24), 0L)
+                .build();
+        when(spaceDAO.getAllSpaces()).thenReturn(List.of(new Space(TEST_SPACE, workingHours, bookingSlots)));
+
+        List<CompactSpaceDTO> result = spaceServiceImpl.getCompactSpaces();
+
+        assertThat(result).containsExactly(new CompactSpaceDTO(TEST_SPACE, List.of(
+                new FreeIntervals(LocalDate.now().toString(), List.of("00:00-09:00", "10:00-12:00", "14:00-24:00")),
+                new FreeIntervals(LocalDate.now().plusDays(1).toString(), List.of()),
+                new FreeIntervals(LocalDate.now().plusDays(2).toString(), List.of("00:00-24:00"))), 0L));
+    }
+
+    @Test
+    @DisplayName("SpaceService test: Get Spaces - Should read a loaded availability view without DAO calls")
+    void getSpaces_shouldReadLoadedViewWithoutDaoCalls() {
+        WorkingHours workingHours = new WorkingHours(10, 13);
+        InMemorySpaceAvailabilityView spaceAvailabilityView = new InMemorySpaceAvailabilityView();
+        spaceAvailabilityView.load(List.of(new Space(TEST_SPACE, workingHours,
+                SlotOccupancy.free(LocalDate.now(), 1, workingHours))));
+        spaceServiceImpl = new SpaceServiceImpl(spaceDAO, spaceAvailabilityView);
+
+        List<SpaceDTO> result = spaceServiceImpl.getSpaces();
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).slotsAvailableForBookings().get(0).slots())
+                .containsExactly("10:00 - 11:00", "11:00 - 12:00", "12:00 - 13:00");
+        assertThat(result.get(0).version()).isPositive();
+        verify(spaceDAO, never()).getAllSpaces();
+    }
+
 
     @Test
     @DisplayName("SpaceService test: Delete Space - Should delete space successfully")
@@ -2,7 +2,9 @@ package dev.makeev.coworking_service_app.service.implementation;
 
 import dev.makeev.coworking_service_app.dao.UserDAO;
 import dev.makeev.coworking_service_app.exceptions.VerificationException;
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
 import dev.makeev.coworking_service_app.model.User;
+import dev.makeev.coworking_service_app.token.TokenStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,10 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,11 +28,15 @@ class UserServiceImplTest {
 
     private static final String LOGIN = "TestUser";
     private static final String PASSWORD = "TestPassword";
+    private static final String TOKEN = "TestToken";
     private static final User testUser = new User(LOGIN, PASSWORD);
 
     @Mock
     private UserDAO userDAO;
 
+    @Mock
+    private TokenStore tokenStore;
+
     @InjectMocks
     private UserServiceImpl userServiceImpl;
 
@@ -65,19 +70,46 @@ class UserServiceImplTest {
     }
 
     @Test
-    @DisplayName("UserService test: Is Admin - Should return true if user is admin")
-    void isAdmin_shouldReturnTrueIfUserIsAdmin() {
+    @DisplayName("UserService test: Check user credentials - Should issue token from token store")
+    void checkCredentials_shouldIssueTokenFromTokenStore() {
+        when(userDAO.getByLogin(LOGIN)).thenReturn(Optional.of(testUser));
+        when(tokenStore.generate(LOGIN, false)).thenReturn(TOKEN);
+
+        assertThat(userServiceImpl.checkCredentials(LOGIN, PASSWORD)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    @DisplayName("UserService test: Check user credentials - Should issue admin token to admin")
+    void checkCredentials_shouldIssueAdminTokenToAdmin() {
         when(userDAO.getByLogin(LOGIN)).thenReturn(Optional.of(new User(LOGIN, PASSWORD, true)));
+        when(tokenStore.generate(LOGIN, true)).thenReturn(TOKEN);
 
-        assertTrue(userServiceImpl.isAdmin(LOGIN));
+        assertThat(userServiceImpl.checkCredentials(LOGIN, PASSWORD)).isEqualTo(TOKEN);
     }
 
     @Test
-    @DisplayName("UserService test: Is Admin - Should return false if user is not admin")
-    void isAdmin_shouldReturnFalseIfUserIsNotAdmin() {
-        when(userDAO.getByLogin(LOGIN)).thenReturn(Optional.of(testUser));
+    @DisplayName("UserService test: Validate token - Should return user and role of valid token")
+    void validateToken_shouldReturnUserOfValidToken() {
+        when(tokenStore.validate(TOKEN)).thenReturn(Optional.of(new AuthenticatedUser(LOGIN, true)));
+
+        assertThat(userServiceImpl.validateToken(TOKEN)).isEqualTo(new AuthenticatedUser(LOGIN, true));
+    }
+
+    @Test
+    @DisplayName("UserService test: Validate token - Should throw exception for unknown token")
+    void validateToken_shouldThrowExceptionForUnknownToken() {
+        when(tokenStore.validate(TOKEN)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userServiceImpl.validateToken(TOKEN))
+                .isInstanceOf(VerificationException.class);
+    }
+
+    @Test
+    @DisplayName("UserService test: Log out - Should invalidate token")
+    void logOut_shouldInvalidateToken() {
+        userServiceImpl.logOut(TOKEN);
 
-        assertFalse(userServiceImpl.isAdmin(LOGIN));
+        verify(tokenStore, times(1)).invalidate(TOKEN);
     }
 
 }
\ No newline at end of file
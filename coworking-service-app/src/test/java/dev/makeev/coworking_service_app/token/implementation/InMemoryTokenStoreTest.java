@@ -0,0 +1,152 @@
+package dev.makeev.coworking_service_app.token.implementation;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryTokenStore Test")
+class InMemoryTokenStoreTest {
+
+    private static final String LOGIN = "TestUser";
+    private static final AuthenticatedUser USER = new AuthenticatedUser(LOGIN, false);
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final int MAX_SIZE = 100;
+
+    private final AtomicLong now = new AtomicLong();
+    private InMemoryTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new InMemoryTokenStore(new TokenProperties(TTL, MAX_SIZE, Duration.ZERO, null), now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Validate - Should return login of issued token")
+    void validate_shouldReturnLoginOfIssuedToken() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        assertThat(tokenStore.validate(token)).contains(USER);
+        assertThat(tokenStore.validate("UnknownToken")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Invalidate - Should forget token")
+    void invalidate_shouldForgetToken() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        tokenStore.invalidate(token);
+
+        assertThat(tokenStore.validate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Validate - Should reject token not used for TTL")
+    void validate_shouldRejectExpiredToken() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        now.addAndGet(TTL.toNanos());
+
+        assertThat(tokenStore.validate(token)).isEmpty();
+        assertThat(tokenStore.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Validate - Should extend expiry of used token")
+    void validate_shouldExtendExpiryOfUsedToken() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        now.addAndGet(TTL.toNanos() - 1);
+        assertThat(tokenStore.validate(token)).contains(USER);
+        now.addAndGet(TTL.toNanos() - 1);
+
+        assertThat(tokenStore.validate(token)).contains(USER);
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Remove expired - Should remove only expired tokens")
+    void removeExpired_shouldRemoveOnlyExpiredTokens() {
+        tokenStore.generate(LOGIN, false);
+        now.addAndGet(TTL.toNanos() / 2);
+        String freshToken = tokenStore.generate(LOGIN, false);
+        now.addAndGet(TTL.toNanos() / 2);
+
+        tokenStore.removeExpired();
+
+        assertThat(tokenStore.size()).isEqualTo(1);
+        assertThat(tokenStore.validate(freshToken)).contains(USER);
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Generate - Should not grow beyond maximum size")
+    void generate_shouldNotGrowBeyondMaxSize() {
+        for (int i = 0; i < MAX_SIZE * 3; i++) {
+            now.incrementAndGet();
+            tokenStore.generate(LOGIN + i, false);
+        }
+
+        assertThat(tokenStore.size()).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Generate - Should keep token in use while others are evicted")
+    void generate_shouldKeepTokenInUse() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        for (int i = 0; i < MAX_SIZE * 20; i++) {
+            now.incrementAndGet();
+            assertThat(tokenStore.validate(token)).contains(USER);
+            now.incrementAndGet();
+            tokenStore.generate(LOGIN + i, false);
+        }
+
+        assertThat(tokenStore.size()).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("InMemoryTokenStore test: Generate - Should keep all tokens issued concurrently")
+    void generate_shouldKeepTokensIssuedConcurrently() throws Exception {
+        InMemoryTokenStore largeTokenStore = new InMemoryTokenStore(
+                new TokenProperties(TTL, 1_000_000, Duration.ZERO, null), now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    List<String> tokens = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        tokens.add(largeTokenStore.generate(LOGIN, false));
+                    }
+                    return tokens;
+                }));
+            }
+            for (Future<List<String>> future : futures) {
+                for (String token : future.get(30, TimeUnit.SECONDS)) {
+                    assertThat(largeTokenStore.validate(token)).contains(USER);
+                }
+            }
+            assertThat(largeTokenStore.size()).isEqualTo(80_000);
+        } finally {
+            executor.shutdownNow();
+            largeTokenStore.close();
+        }
+    }
+}
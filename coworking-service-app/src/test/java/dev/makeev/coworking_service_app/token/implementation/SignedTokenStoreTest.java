@@ -0,0 +1,128 @@
+package dev.makeev.coworking_service_app.token.implementation;
+
+import dev.makeev.coworking_service_app.model.AuthenticatedUser;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SignedTokenStore Test")
+class SignedTokenStoreTest {
+
+    private static final String LOGIN = "Test:User";
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private SignedTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = newTokenStore(SECRET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+    }
+
+    private SignedTokenStore newTokenStore(String secret) {
+        return new SignedTokenStore(new TokenProperties(TTL, 100, Duration.ZERO, secret), now::get);
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Validate - Should return login and admin flag of issued token")
+    void validate_shouldReturnUserOfIssuedToken() {
+        assertThat(tokenStore.validate(tokenStore.generate(LOGIN, true)))
+                .contains(new AuthenticatedUser(LOGIN, true));
+        assertThat(tokenStore.validate(tokenStore.generate(LOGIN, false)))
+                .contains(new AuthenticatedUser(LOGIN, false));
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Validate - Should accept token issued by another instance with the same secret")
+    void validate_shouldAcceptTokenOfAnotherInstance() {
+        try (SignedTokenStore anotherInstance = newTokenStore(SECRET)) {
+            assertThat(anotherInstance.validate(tokenStore.generate(LOGIN, false)))
+                    .contains(new AuthenticatedUser(LOGIN, false));
+        }
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Validate - Should reject token signed with another secret")
+    void validate_shouldRejectTokenWithAnotherSecret() {
+        try (SignedTokenStore anotherInstance = newTokenStore(SECRET.toUpperCase())) {
+            assertThat(anotherInstance.validate(tokenStore.generate(LOGIN, false))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Validate - Should reject tampered and malformed tokens")
+    void validate_shouldRejectTamperedToken() {
+        String token = tokenStore.generate(LOGIN, false);
+        int separator = token.indexOf('.');
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, separator)), StandardCharsets.UTF_8);
+        String adminPayload = payload.replaceFirst(":0:", ":1:");
+        String forgedToken = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(adminPayload.getBytes(StandardCharsets.UTF_8)) + token.substring(separator);
+
+        assertThat(tokenStore.validate(forgedToken)).isEmpty();
+        assertThat(tokenStore.validate("not a token")).isEmpty();
+        assertThat(tokenStore.validate(".")).isEmpty();
+        assertThat(tokenStore.validate(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Validate - Should reject expired token")
+    void validate_shouldRejectExpiredToken() {
+        String token = tokenStore.generate(LOGIN, false);
+
+        now.addAndGet(TTL.toMillis());
+
+        assertThat(tokenStore.validate(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Invalidate - Should revoke only the given token until it expires")
+    void invalidate_shouldRevokeToken() {
+        String token = tokenStore.generate(LOGIN, false);
+        String anotherToken = tokenStore.generate(LOGIN, false);
+
+        tokenStore.invalidate(token);
+
+        assertThat(tokenStore.validate(token)).isEmpty();
+        assertThat(tokenStore.validate(token + "=")).isEmpty();
+        assertThat(tokenStore.validate(anotherToken)).isPresent();
+        assertThat(tokenStore.revokedCount()).isEqualTo(1);
+
+        now.addAndGet(TTL.toMillis());
+        tokenStore.removeExpired();
+
+        assertThat(tokenStore.revokedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Create - Should reject too short secret")
+    void create_shouldRejectShortSecret() {
+        assertThatThrownBy(() -> newTokenStore("short"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("SignedTokenStore test: Create - Should reject missing secret")
+    void create_shouldRejectMissingSecret() {
+        assertThatThrownBy(() -> newTokenStore(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> newTokenStore(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
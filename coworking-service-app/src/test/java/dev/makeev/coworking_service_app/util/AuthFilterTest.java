@@ -0,0 +1,150 @@
+package dev.makeev.coworking_service_app.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.makeev.coworking_service_app.advice.ExceptionControllerAdvice;
+import dev.makeev.coworking_service_app.controller.BookingController;
+import dev.makeev.coworking_service_app.dao.UserDAO;
+import dev.makeev.coworking_service_app.dto.BookingDTO;
+import dev.makeev.coworking_service_app.dto.BookingPage;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import dev.makeev.coworking_service_app.model.User;
+import dev.makeev.coworking_service_app.service.BookingService;
+import dev.makeev.coworking_service_app.service.implementation.UserServiceImpl;
+import dev.makeev.coworking_service_app.token.TokenProperties;
+import dev.makeev.coworking_service_app.token.implementation.InMemoryTokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("AuthFilter Test")
+@ExtendWith(MockitoExtension.class)
+class AuthFilterTest {
+
+    private static final String ADMIN_LOGIN = "TestAdmin";
+    private static final String LOGIN = "TestUser";
+    private static final String PASSWORD = "TestPassword";
+    private static final int NUMBER_OF_REQUESTS = 10;
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private BookingService bookingService;
+
+    private InMemoryTokenStore tokenStore;
+    private UserServiceImpl userService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new InMemoryTokenStore(
+                new TokenProperties(Duration.ofMinutes(30), 100, Duration.ZERO, null));
+        userService = new UserServiceImpl(userDAO, tokenStore);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new BookingController(bookingService, new NdjsonWriter(new ObjectMapper())))
+                .setControllerAdvice(new ExceptionControllerAdvice())
+                .addFilter(new AuthFilter(userService), "/api/*")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+    }
+
+    @Test
+    @DisplayName("AuthFilter test: Admin requests - Should not look up the user per request")
+    void doFilter_shouldNotLookUpAdminPerRequest() throws Exception {
+        when(userDAO.getByLogin(ADMIN_LOGIN)).thenReturn(Optional.of(new User(ADMIN_LOGIN, PASSWORD, true)));
+        when(bookingService.getAllBookingsSortedByUser(null, 100)).thenReturn(new BookingPage(List.of(), null));
+        String token = userService.checkCredentials(ADMIN_LOGIN, PASSWORD);
+        clearInvocations(userDAO);
+
+        for (int i = 0; i < NUMBER_OF_REQUESTS; i++) {
+            mockMvc.perform(get("/api/v1/bookings").header("Authorization", token))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(delete("/api/v1/bookings/1").header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        verifyNoInteractions(userDAO);
+        verify(bookingService, times(NUMBER_OF_REQUESTS)).getAllBookingsSortedByUser(null, 100);
+        verify(bookingService, times(1)).deleteBookingByIdByAdmin(ADMIN_LOGIN, 1L);
+    }
+
+    @Test
+    @DisplayName("AuthFilter test: User requests - Should not look up the user per request")
+    void doFilter_shouldNotLookUpUserPerRequest() throws Exception {
+        when(userDAO.getByLogin(LOGIN)).thenReturn(Optional.of(new User(LOGIN, PASSWORD, false)));
+        when(bookingService.getAllBookingsForUser(LOGIN, null, 100)).thenReturn(new BookingPage(List.of(), null));
+        String token = userService.checkCredentials(LOGIN, PASSWORD);
+        clearInvocations(userDAO);
+
+        for (int i = 0; i < NUMBER_OF_REQUESTS; i++) {
+            mockMvc.perform(get("/api/v1/bookings").header("Authorization", token))
+                    .andExpect(status().isOk());
+        }
+
+        verifyNoInteractions(userDAO);
+        verify(bookingService, times(NUMBER_OF_REQUESTS)).getAllBookingsForUser(LOGIN, null, 100);
+        verify(bookingService, never()).getAllBookingsSortedByUser(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("AuthFilter test: Unknown token - Should reject request")
+    void doFilter_shouldRejectUnknownToken() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings").header("Authorization", "UnknownToken"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/bookings"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(bookingService, userDAO);
+    }
+
+    @Test
+    @DisplayName("AuthFilter test: Failed request - Should pass on error instead of answering it as invalid token")
+    void doFilter_shouldPassOnErrorOfRequest() throws Exception {
+        when(userDAO.getByLogin(LOGIN)).thenReturn(Optional.of(new User(LOGIN, PASSWORD, false)));
+        String token = userService.checkCredentials(LOGIN, PASSWORD);
+        DaoException failure = new DaoException("Database is down", null);
+        doAnswer(invocation -> {
+            Consumer<BookingDTO> action = invocation.getArgument(1);
+            action.accept(new BookingDTO(1L, LOGIN, "Test Space", "2024-07-14", 10, "2024-07-14", 12));
+            throw failure;
+        }).when(bookingService).forEachBookingForUser(eq(LOGIN), any());
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/bookings")
+                        .param("stream", "true")
+                        .header("Authorization", token)))
+                .isInstanceOf(IOException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(failure));
+    }
+}
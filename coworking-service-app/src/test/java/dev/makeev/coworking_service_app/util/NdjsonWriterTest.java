@@ -0,0 +1,69 @@
+package dev.makeev.coworking_service_app.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.makeev.coworking_service_app.exceptions.DaoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NdjsonWriter Test")
+class NdjsonWriterTest {
+
+    private static final String FIRST_LINE = "{\"id\":1}\n";
+    private static final String SECOND_LINE = "{\"id\":2}\n";
+
+    private final NdjsonWriter ndjsonWriter = new NdjsonWriter(new ObjectMapper());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("NdjsonWriter test: Write - Should write each object on a line of its own")
+    void write_shouldWriteOneObjectPerLine() throws IOException {
+        ndjsonWriter.write(response, source(List.of(Map.of("id", 1), Map.of("id", 2)), null));
+
+        assertThat(response.getContentType()).startsWith(NdjsonWriter.MEDIA_TYPE);
+        assertThat(response.getContentAsString()).isEqualTo(FIRST_LINE + SECOND_LINE);
+    }
+
+    @Test
+    @DisplayName("NdjsonWriter test: Write - Should rethrow error of source raised before the first line")
+    void write_shouldRethrowErrorBeforeFirstLine() {
+        DaoException failure = new DaoException("Database is down", null);
+
+        assertThatThrownBy(() -> ndjsonWriter.write(response, source(List.of(), failure)))
+                .isSameAs(failure);
+
+        assertThat(response.isCommitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("NdjsonWriter test: Write - Should abort response when source fails after the first line")
+    void write_shouldAbortResponseWhenSourceFailsAfterFirstLine() throws IOException {
+        DaoException failure = new DaoException("Database is down", null);
+
+        assertThatThrownBy(() -> ndjsonWriter.write(response,
+                source(List.of(Map.of("id", 1), Map.of("id", 2)), failure)))
+                .isInstanceOf(IOException.class)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(failure));
+
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getContentAsString()).isEqualTo(FIRST_LINE);
+    }
+
+    private static Consumer<Consumer<Map<String, Integer>>> source(List<Map<String, Integer>> objects,
+                                                                   RuntimeException failure) {
+        return action -> {
+            objects.forEach(action);
+            if (failure != null) {
+                throw failure;
+            }
+        };
+    }
+}
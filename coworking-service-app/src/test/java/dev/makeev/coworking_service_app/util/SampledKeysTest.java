@@ -0,0 +1,75 @@
+package dev.makeev.coworking_service_app.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SampledKeys Test")
+class SampledKeysTest {
+
+    private static final int NUMBER_OF_KEYS = 100;
+    private static final int SAMPLE_SIZE = 8;
+
+    private final Map<String, Integer> map = new ConcurrentHashMap<>();
+    private final SampledKeys<String> sampledKeys = new SampledKeys<>();
+
+    @Test
+    @DisplayName("SampledKeys test: Sample - Should pick every key when there are no more than the sample size")
+    void sample_shouldPickEveryKeyOfSmallSet() {
+        put("first");
+        put("second");
+        put("second");
+
+        assertThat(sampledKeys.sample(SAMPLE_SIZE)).containsExactlyInAnyOrder("first", "second");
+        assertThat(sampledKeys.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("SampledKeys test: Sample - Should pick keys from every position")
+    void sample_shouldPickKeysFromEveryPosition() {
+        for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+            put("key" + i);
+        }
+
+        Set<String> picked = new HashSet<>();
+        for (int i = 0; i < NUMBER_OF_KEYS * 10 && picked.size() < NUMBER_OF_KEYS; i++) {
+            picked.addAll(sampledKeys.sample(SAMPLE_SIZE));
+        }
+
+        assertThat(picked).hasSize(NUMBER_OF_KEYS);
+    }
+
+    @Test
+    @DisplayName("SampledKeys test: Remove If Absent - Should keep picking the remaining keys")
+    void removeIfAbsent_shouldKeepRemainingKeys() {
+        put("first");
+        put("second");
+        put("third");
+
+        map.remove("first");
+        sampledKeys.removeIfAbsent("first", map);
+
+        assertThat(sampledKeys.sample(SAMPLE_SIZE)).containsExactlyInAnyOrder("second", "third");
+    }
+
+    @Test
+    @DisplayName("SampledKeys test: Remove If Absent - Should keep key put into the map again")
+    void removeIfAbsent_shouldKeepKeyPutAgain() {
+        put("first");
+
+        sampledKeys.removeIfAbsent("first", map);
+
+        assertThat(sampledKeys.sample(SAMPLE_SIZE)).containsExactly("first");
+    }
+
+    private void put(String key) {
+        map.put(key, 0);
+        sampledKeys.add(key);
+    }
+}
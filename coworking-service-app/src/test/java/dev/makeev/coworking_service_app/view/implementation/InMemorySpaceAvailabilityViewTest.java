@@ -0,0 +1,145 @@
+package dev.makeev.coworking_service_app.view.implementation;
+
+import dev.makeev.coworking_service_app.model.Booking;
+import dev.makeev.coworking_service_app.model.BookingRange;
+import dev.makeev.coworking_service_app.model.SlotOccupancy;
+import dev.makeev.coworking_service_app.model.Space;
+import dev.makeev.coworking_service_app.model.VersionedSpace;
+import dev.makeev.coworking_service_app.model.WorkingHours;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemorySpaceAvailabilityView Test")
+class InMemorySpaceAvailabilityViewTest {
+
+    private static final String SPACE_NAME = "TestSpace";
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 7, 15);
+    private static final WorkingHours WORKING_HOURS = new WorkingHours(10, 20);
+    private static final Booking BOOKING = new Booking("TestUser", SPACE_NAME,
+            new BookingRange(FIRST_DATE, 12, FIRST_DATE, 14));
+
+    private InMemorySpaceAvailabilityView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new InMemorySpaceAvailabilityView();
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Get all spaces - Should be empty until loaded")
+    void getAllSpaces_shouldBeEmptyUntilLoaded() {
+        view.spaceAdded(space(SPACE_NAME));
+
+        assertThat(view.getAllSpaces()).isEmpty();
+
+        view.load(List.of());
+
+        assertThat(view.getAllSpaces()).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Load - Should keep the spaces ordered by name")
+    void load_shouldKeepSpacesOrderedByName() {
+        view.load(List.of(space("B"), space("A")));
+        view.spaceAdded(space("C"));
+
+        assertThat(view.getAllSpaces().orElseThrow())
+                .extracting(versionedSpace -> versionedSpace.space().name())
+                .containsExactly("A", "B", "C");
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Booking added and deleted - Should update the slots with a new version")
+    void bookingAddedAndDeleted_shouldUpdateSlotsWithNewVersion() {
+        view.load(List.of(space(SPACE_NAME)));
+        VersionedSpace loaded = only();
+
+        view.bookingAdded(7L, BOOKING);
+        VersionedSpace booked = only();
+
+        assertThat(booked.version()).isGreaterThan(loaded.version());
+        assertThat(booked.space().bookingSlots().freeMask(0))
+                .isEqualTo(SlotOccupancy.hourMask(10, 12) | SlotOccupancy.hourMask(14, 20));
+        assertThat(loaded.space().bookingSlots().freeMask(0)).isEqualTo(SlotOccupancy.hourMask(10, 20));
+
+        view.bookingDeleted(SPACE_NAME, 7L);
+        VersionedSpace freed = only();
+
+        assertThat(freed.version()).isGreaterThan(booked.version());
+        assertThat(freed.space()).isEqualTo(loaded.space());
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Booking deleted - Should keep the version if nothing changed")
+    void bookingDeletedUnknown_shouldKeepVersion() {
+        view.load(List.of(space(SPACE_NAME)));
+        VersionedSpace loaded = only();
+
+        view.bookingDeleted(SPACE_NAME, 7L);
+        view.bookingDeleted("Unknown", 7L);
+        view.bookingAdded(8L, new Booking("TestUser", "Unknown", BOOKING.bookingRange()));
+
+        assertThat(only()).isSameAs(loaded);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Booking deleted before added - Should leave the slots free")
+    void bookingDeletedBeforeAdded_shouldLeaveSlotsFree() {
+        view.load(List.of(space(SPACE_NAME)));
+        VersionedSpace loaded = only();
+
+        view.bookingDeleted(SPACE_NAME, 7L);
+        view.bookingAdded(7L, BOOKING);
+
+        assertThat(only()).isSameAs(loaded);
+
+        view.bookingAdded(8L, BOOKING);
+        view.bookingDeleted(SPACE_NAME, 8L);
+
+        assertThat(only().space()).isEqualTo(loaded.space());
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Booking deleted - Should forget the oldest unmatched deletions")
+    void bookingDeleted_shouldForgetOldestUnmatchedDeletions() {
+        view.load(List.of(space(SPACE_NAME)));
+        for (long bookingId = 1; bookingId <= InMemorySpaceAvailabilityView.MAX_DELETED_BOOKING_IDS + 1; bookingId++) {
+            view.bookingDeleted(SPACE_NAME, bookingId);
+        }
+
+        view.bookingAdded(1L, BOOKING);
+
+        assertThat(only().space().bookingSlots().bookingId(0, 12)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("InMemorySpaceAvailabilityView test: Space deleted and added - Should not reuse a version")
+    void spaceDeletedAndAdded_shouldNotReuseVersion() {
+        view.load(List.of(space(SPACE_NAME)));
+        VersionedSpace loaded = only();
+
+        view.spaceDeleted(SPACE_NAME);
+
+        assertThat(view.size()).isZero();
+
+        view.spaceAdded(space(SPACE_NAME));
+
+        assertThat(only().version()).isGreaterThan(loaded.version());
+    }
+
+    private VersionedSpace only() {
+        List<VersionedSpace> spaces = view.getAllSpaces().orElseThrow();
+        assertThat(spaces).hasSize(1);
+        return spaces.get(0);
+    }
+
+    private static Space space(String name) {
+        return new Space(name, WORKING_HOURS, SlotOccupancy.free(FIRST_DATE, 2, WORKING_HOURS));
+    }
+}
@@ -2,25 +2,47 @@ package dev.makeev.logging_time_starter.advice;
 
 import dev.makeev.logging_time_starter.conditional.ConditionalOnEnableLoggingTime;
 import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import dev.makeev.logging_time_starter.config.LoggingTimeProperties;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+import dev.makeev.logging_time_starter.metrics.LatencySummaryReporter;
 import dev.makeev.logging_time_starter.out.Output;
-import dev.makeev.logging_time_starter.out.implementation.ConsoleOutput;
+import dev.makeev.logging_time_starter.out.OutputFactory;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Locale;
+
 /**
  * Advice for logging method execution time.
  * This interceptor is triggered by methods annotated with {@link LoggingTime}.
+ * Execution times are recorded into the {@link LatencyRegistry} and written as a periodic summary
+ * to the {@link Output} selected by {@code logging-time.output}.
+ * Sampling, the slow-call threshold and the initial state are set per method on {@link LoggingTime},
+ * and methods are switched on and off at runtime with {@link LoggingTimeControl}.
+ * <p>
+ * Whether the outermost call is timed decides for the calls nested in it. A timed outermost call
+ * slower than its threshold is written together with the tree of its nested timed calls.
  */
 @Configuration
 @ConditionalOnEnableLoggingTime
-public class LoggingTimeAdvice implements MethodInterceptor {
+@EnableConfigurationProperties(LoggingTimeProperties.class)
+public class LoggingTimeAdvice implements MethodInterceptor, DisposableBean {
+
+    private final Output<String> output;
+    private final LatencyRegistry latencyRegistry = new LatencyRegistry();
+    private final LoggingTimeControl loggingTimeControl;
+    private final ThreadLocal<SpanStack> spanStacks = ThreadLocal.withInitial(SpanStack::new);
 
-    private final Output<String> output = new ConsoleOutput();
-    private final ThreadLocal<Integer> callDepth = ThreadLocal.withInitial(() -> 0);
+    public LoggingTimeAdvice(LoggingTimeProperties properties) {
+        this.output = OutputFactory.create(properties.output());
+        this.loggingTimeControl = new LoggingTimeControl(latencyRegistry, properties.disabledMethods());
+    }
 
     /**
      * Configures a pointcut advisor to intercept methods annotated with {@link LoggingTime}.
@@ -33,28 +55,84 @@ public class LoggingTimeAdvice implements MethodInterceptor {
     }
 
     /**
-     * Intercepts method execution to log the time taken for execution.
+     * Exposes the execution times recorded by this advice.
+     * @return the registry of execution times.
+     */
+    @Bean
+    public LatencyRegistry latencyRegistry() {
+        return latencyRegistry;
+    }
+
+    /**
+     * Exposes the switches of timing of methods.
+     * @return the control of timing.
+     */
+    @Bean
+    public LoggingTimeControl loggingTimeControl() {
+        return loggingTimeControl;
+    }
+
+    /**
+     * Configures the periodic summary of execution times.
+     * @param properties the settings of the logging of execution time.
+     * @return the reporter writing the summary.
+     */
+    @Bean
+    public LatencySummaryReporter latencySummaryReporter(LoggingTimeProperties properties) {
+        return new LatencySummaryReporter(latencyRegistry, output, properties.summaryInterval());
+    }
+
+    /**
+     * Closes the output, writing the lines still buffered.
+     * @throws Exception If the output fails to close.
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (output instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Intercepts method execution to record the time taken for execution.
      * @param invocation MethodInvocation object containing details about the method being invoked.
      * @return The result of the method invocation.
      * @throws Throwable If any error occurs during method invocation.
      */
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        callDepth.set(callDepth.get() + 1);
+        SpanStack spans = spanStacks.get();
+        boolean outermost = spans.depth() == 0;
+        TimedMethod timedMethod = outermost || spans.isTracing()
+                ? loggingTimeControl.timedMethodOf(invocation)
+                : null;
+        spans.enter(outermost && timedMethod.isTimed());
         try {
-            if (callDepth.get() == 1) {
-                long startTime = System.currentTimeMillis();
-                output.output("Calling method " + invocation.getMethod().getName());
-                Object result = invocation.proceed();
-                long endTime = System.currentTimeMillis();
-                output.output("Execution of method " + invocation.getMethod().getName() +
-                        " finished. Execution time is " + (endTime - startTime) + " ms");
-                return result;
-            } else {
-                return invocation.proceed();
+            if (spans.isTracing() && timedMethod.isEnabled()) {
+                return proceedTimed(invocation, timedMethod, spans);
             }
+            return invocation.proceed();
         } finally {
-            callDepth.set(callDepth.get() - 1);
+            spans.exit();
+        }
+    }
+
+    private Object proceedTimed(MethodInvocation invocation, TimedMethod timedMethod, SpanStack spans)
+            throws Throwable {
+        long startTime = System.nanoTime();
+        int span = spans.open(timedMethod, startTime);
+        try {
+            return invocation.proceed();
+        } finally {
+            long executionTime = spans.close(span, startTime, System.nanoTime());
+            if (timedMethod.record(executionTime)) {
+                if (span == 0) {
+                    output.output("Slow call of " + spans.format());
+                } else {
+                    output.output(String.format(Locale.ROOT, "Slow call of %s: %.3f ms",
+                            timedMethod.name(), executionTime / 1_000_000.0));
+                }
+            }
         }
     }
 }
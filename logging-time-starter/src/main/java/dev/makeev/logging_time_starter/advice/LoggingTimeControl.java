@@ -0,0 +1,109 @@
+package dev.makeev.logging_time_starter.advice;
+
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import dev.makeev.logging_time_starter.metrics.LatencyRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Switches the timing of methods annotated with {@link LoggingTime} on and off at runtime.
+ * Methods are named {@code SimpleClassName.methodName}, as in the {@link LatencyRegistry};
+ * a method may be switched before it is called for the first time.
+ */
+public class LoggingTimeControl {
+
+    private final LatencyRegistry latencyRegistry;
+    private final Map<Method, TimedMethod> methods = new ConcurrentHashMap<>();
+    private final Map<String, TimedMethod> methodsByName = new HashMap<>();
+    private final Map<String, Boolean> switchedMethods = new HashMap<>();
+
+    public LoggingTimeControl(LatencyRegistry latencyRegistry, Collection<String> disabledMethods) {
+        this.latencyRegistry = latencyRegistry;
+        disabledMethods.forEach(name -> switchedMethods.put(name, false));
+    }
+
+    /**
+     * Turns on the timing of a method.
+     *
+     * @param name the name of the method
+     */
+    public void enable(String name) {
+        setEnabled(name, true);
+    }
+
+    /**
+     * Turns off the timing of a method.
+     *
+     * @param name the name of the method
+     */
+    public void disable(String name) {
+        setEnabled(name, false);
+    }
+
+    /**
+     * Returns whether a method is timed.
+     *
+     * @param name the name of the method
+     * @return false if the timing of the method is switched off
+     */
+    public synchronized boolean isEnabled(String name) {
+        TimedMethod timedMethod = methodsByName.get(name);
+        return timedMethod != null ? timedMethod.isEnabled() : switchedMethods.getOrDefault(name, true);
+    }
+
+    /**
+     * Returns whether the timing of every called method is switched on.
+     *
+     * @return the states keyed by method name, sorted by name
+     */
+    public synchronized Map<String, Boolean> states() {
+        Map<String, Boolean> states = new TreeMap<>();
+        methodsByName.forEach((name, timedMethod) -> states.put(name, timedMethod.isEnabled()));
+        return states;
+    }
+
+    /**
+     * Returns the timing settings of an invoked method, resolving them on the first call.
+     */
+    TimedMethod timedMethodOf(MethodInvocation invocation) {
+        TimedMethod timedMethod = methods.get(invocation.getMethod());
+        return timedMethod != null ? timedMethod : resolve(invocation);
+    }
+
+    private synchronized void setEnabled(String name, boolean enabled) {
+        switchedMethods.put(name, enabled);
+        TimedMethod timedMethod = methodsByName.get(name);
+        if (timedMethod != null) {
+            timedMethod.setEnabled(enabled);
+        }
+    }
+
+    private synchronized TimedMethod resolve(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        TimedMethod timedMethod = methods.get(method);
+        if (timedMethod != null) {
+            return timedMethod;
+        }
+        String name = LatencyRegistry.nameOf(method);
+        timedMethod = methodsByName.get(name);
+        if (timedMethod == null) {
+            Object target = invocation.getThis();
+            Method targetMethod = target == null ? method : AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(target));
+            LoggingTime loggingTime = AnnotatedElementUtils.findMergedAnnotation(targetMethod, LoggingTime.class);
+            boolean enabled = switchedMethods.getOrDefault(name,
+                    loggingTime == null || loggingTime.enabled());
+            timedMethod = new TimedMethod(name, latencyRegistry.histogramOf(method), loggingTime, enabled);
+            methodsByName.put(name, timedMethod);
+        }
+        methods.put(method, timedMethod);
+        return timedMethod;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.makeev.logging_time_starter.advice;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The timed calls of one thread, kept in reused primitive arrays so that tracking them does not allocate
+ * once the arrays have grown to the size of the largest call tree of the thread.
+ * <p>
+ * The stack holds the calls currently executing; every timed call of the outermost call is also
+ * kept as a span with its parent, so the whole call tree can be written when the outermost call
+ * turns out to be slow. Spans beyond {@link #MAX_SPANS} are timed but left out of the tree.
+ */
+final class SpanStack {
+
+    static final int MAX_SPANS = 256;
+    static final int NOT_RECORDED = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private TimedMethod[] methods = new TimedMethod[INITIAL_CAPACITY];
+    private int[] parents = new int[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private long[] executionTimes = new long[INITIAL_CAPACITY];
+    private int spanCount;
+    private int openSpan = NOT_RECORDED;
+    private int skippedSpans;
+
+    private int depth;
+    private boolean tracing;
+
+    /**
+     * Returns the number of calls currently executing.
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns whether the outermost call is timed, and so are the calls nested in it.
+     */
+    boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * Enters a call. A call entered with no call executing starts a new tree.
+     *
+     * @param traced whether the outermost call is timed, ignored for nested calls
+     */
+    void enter(boolean traced) {
+        if (depth++ == 0) {
+            tracing = traced;
+            spanCount = 0;
+            skippedSpans = 0;
+            openSpan = NOT_RECORDED;
+        }
+    }
+
+    /**
+     * Leaves a call entered with {@link #enter(boolean)}.
+     */
+    void exit() {
+        if (--depth == 0) {
+            tracing = false;
+            for (int i = 0; i < spanCount; i++) {
+                methods[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Opens a span of a timed call.
+     *
+     * @return the index of the span, or {@link #NOT_RECORDED} if the tree is full
+     */
+    int open(TimedMethod method, long startTime) {
+        if (spanCount == MAX_SPANS) {
+            skippedSpans++;
+            return NOT_RECORDED;
+        }
+        if (spanCount == methods.length) {
+            grow();
+        }
+        int span = spanCount++;
+        methods[span] = method;
+        parents[span] = openSpan;
+        depths[span] = openSpan == NOT_RECORDED ? 0 : depths[openSpan] + 1;
+        startTimes[span] = startTime;
+        openSpan = span;
+        return span;
+    }
+
+    /**
+     * Closes a span opened with {@link #open(TimedMethod, long)}.
+     *
+     * @return the execution time of the call
+     */
+    long close(int span, long startTime, long endTime) {
+        long executionTime = endTime - startTime;
+        if (span != NOT_RECORDED) {
+            executionTimes[span] = executionTime;
+            openSpan = parents[span];
+        }
+        return executionTime;
+    }
+
+    private void grow() {
+        int capacity = Math.min(methods.length * 2, MAX_SPANS);
+        methods = Arrays.copyOf(methods, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        executionTimes = Arrays.copyOf(executionTimes, capacity);
+    }
+
+    /**
+     * Formats the call tree of the outermost call, one indented line per call.
+     */
+    String format() {
+        StringBuilder tree = new StringBuilder();
+        for (int i = 0; i < spanCount; i++) {
+            if (i > 0) {
+                tree.append('\n');
+            }
+            tree.append("  ".repeat(depths[i]))
+                    .append(methods[i].name())
+                    .append(String.format(Locale.ROOT, ": %.3f ms", executionTimes[i] / 1_000_000.0));
+            if (parents[i] != NOT_RECORDED) {
+                tree.append(String.format(Locale.ROOT, " (+%.3f ms)",
+                        (startTimes[i] - startTimes[parents[i]]) / 1_000_000.0));
+            }
+        }
+        if (skippedSpans > 0) {
+            tree.append('\n').append("... ").append(skippedSpans).append(" more calls");
+        }
+        return tree.toString();
+    }
+}
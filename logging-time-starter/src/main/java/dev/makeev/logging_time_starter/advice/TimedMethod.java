@@ -0,0 +1,58 @@
+package dev.makeev.logging_time_starter.advice;
+
+import dev.makeev.logging_time_starter.advice.annotations.LoggingTime;
+import dev.makeev.logging_time_starter.metrics.LatencyHistogram;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing settings of a method annotated with {@link LoggingTime}, resolved once per method.
+ */
+final class TimedMethod {
+
+    private final String name;
+    private final LatencyHistogram histogram;
+    private final int sampleRate;
+    private final long slowThresholdNanos;
+    private volatile boolean enabled;
+
+    TimedMethod(String name, LatencyHistogram histogram, LoggingTime loggingTime, boolean enabled) {
+        this.name = name;
+        this.histogram = histogram;
+        this.sampleRate = loggingTime == null ? 1 : Math.max(loggingTime.sampleRate(), 1);
+        this.slowThresholdNanos = loggingTime == null || loggingTime.slowThresholdMillis() < 0
+                ? Long.MAX_VALUE
+                : TimeUnit.MILLISECONDS.toNanos(loggingTime.slowThresholdMillis());
+        this.enabled = enabled;
+    }
+
+    String name() {
+        return name;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Decides whether the current call is timed.
+     */
+    boolean isTimed() {
+        return enabled && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    /**
+     * Records the execution time of a call.
+     *
+     * @return true if the call was slower than the threshold of the method
+     */
+    boolean record(long nanos) {
+        histogram.record(nanos);
+        return nanos >= slowThresholdNanos;
+    }
+}
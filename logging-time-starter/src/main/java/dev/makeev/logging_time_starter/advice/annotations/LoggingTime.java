@@ -12,4 +12,23 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD})
 public @interface LoggingTime {
+
+    /**
+     * Times one of every {@code sampleRate} calls on average; the other calls are not measured at all.
+     * @return the sampling rate, 1 to time every call.
+     */
+    int sampleRate() default 1;
+
+    /**
+     * Writes a line for every timed call that takes at least this long.
+     * @return the threshold in milliseconds, negative to write no lines.
+     */
+    long slowThresholdMillis() default -1;
+
+    /**
+     * Whether the method is timed initially. Timing can be switched at runtime with
+     * {@link dev.makeev.logging_time_starter.advice.LoggingTimeControl}.
+     * @return true if the method is timed.
+     */
+    boolean enabled() default true;
 }
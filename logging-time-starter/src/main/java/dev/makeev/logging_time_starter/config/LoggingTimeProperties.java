@@ -0,0 +1,57 @@
+package dev.makeev.logging_time_starter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the logging of execution time.
+ *
+ * @param summaryInterval how often the latency statistics are written, zero to disable the summary
+ * @param output          where the timing output is written
+ * @param disabledMethods the methods not timed on start, named {@code SimpleClassName.methodName}
+ */
+@ConfigurationProperties("logging-time")
+public record LoggingTimeProperties(@DefaultValue("1m") Duration summaryInterval,
+                                    @DefaultValue OutputSettings output,
+                                    @DefaultValue List<String> disabledMethods) {
+
+    /**
+     * Kinds of sinks for the timing output.
+     */
+    public enum Sink {
+
+        /**
+         * Standard output.
+         */
+        CONSOLE,
+
+        /**
+         * Rolling memory-mapped files.
+         */
+        MAPPED_FILE
+    }
+
+    /**
+     * Settings of the timing output.
+     *
+     * @param sink           where the output is written
+     * @param async          whether the output is handed to a background thread through a ring buffer,
+     *                       so that callers never wait for the sink
+     * @param ringBufferSize the number of lines the ring buffer holds, rounded up to a power of two;
+     *                       lines are dropped while it is full
+     * @param file           the path of the log file of the {@code MAPPED_FILE} sink, segments are numbered
+     * @param fileSize       the size of one segment of the {@code MAPPED_FILE} sink
+     * @param maxFiles       the number of segments of the {@code MAPPED_FILE} sink, the oldest one is overwritten
+     */
+    public record OutputSettings(@DefaultValue("CONSOLE") Sink sink,
+                                 @DefaultValue("true") boolean async,
+                                 @DefaultValue("8192") int ringBufferSize,
+                                 @DefaultValue("logs/timing.log") String file,
+                                 @DefaultValue("16MB") DataSize fileSize,
+                                 @DefaultValue("4") int maxFiles) {
+    }
+}
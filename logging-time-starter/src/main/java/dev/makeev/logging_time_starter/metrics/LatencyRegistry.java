@@ -0,0 +1,78 @@
+package dev.makeev.logging_time_starter.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a {@link LatencyHistogram} for every timed method and every named latency.
+ * Methods are named {@code SimpleClassName.methodName}.
+ */
+public class LatencyRegistry {
+
+    private final Map<Method, LatencyHistogram> histogramsByMethod = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histogramsByName = new ConcurrentHashMap<>();
+
+    /**
+     * Records a latency of a method.
+     *
+     * @param method the timed method
+     * @param nanos  the latency in nanoseconds
+     */
+    public void record(Method method, long nanos) {
+        histogramOf(method).record(nanos);
+    }
+
+    /**
+     * Returns the histogram of a method, creating it on first use.
+     *
+     * @param method the timed method
+     * @return the histogram of the method
+     */
+    public LatencyHistogram histogramOf(Method method) {
+        LatencyHistogram histogram = histogramsByMethod.get(method);
+        if (histogram == null) {
+            histogram = histogramsByMethod.computeIfAbsent(method,
+                    key -> histogramsByName.computeIfAbsent(nameOf(key), name -> new LatencyHistogram()));
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the histogram of latencies measured outside of timed methods, creating it on first use.
+     * They are summarized together with the methods.
+     *
+     * @param name the name of the latency, {@code Source.operation} like the methods
+     * @return the histogram
+     */
+    public LatencyHistogram histogramOf(String name) {
+        return histogramsByName.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the statistics of a method.
+     *
+     * @param name the name of the method, {@code SimpleClassName.methodName}
+     * @return the statistics, or empty if the method has not been called
+     */
+    public Optional<LatencySnapshot> snapshot(String name) {
+        return Optional.ofNullable(histogramsByName.get(name)).map(LatencyHistogram::snapshot);
+    }
+
+    /**
+     * Returns the statistics of all methods that have been called.
+     *
+     * @return the statistics keyed by method name, sorted by name
+     */
+    public Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        histogramsByName.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    public static String nameOf(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
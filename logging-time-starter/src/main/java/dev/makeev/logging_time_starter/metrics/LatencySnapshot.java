@@ -0,0 +1,38 @@
+package dev.makeev.logging_time_starter.metrics;
+
+import java.util.Locale;
+
+/**
+ * Statistics of the latencies recorded by a {@link LatencyHistogram}, all in nanoseconds.
+ *
+ * @param count the number of recorded latencies
+ * @param mean  the mean latency
+ * @param p50   the median latency
+ * @param p90   the 90th percentile
+ * @param p99   the 99th percentile
+ * @param p999  the 99.9th percentile
+ * @param max   the highest latency
+ */
+public record LatencySnapshot(long count,
+                              long mean,
+                              long p50,
+                              long p90,
+                              long p99,
+                              long p999,
+                              long max) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Formats the statistics with the latencies in milliseconds.
+     *
+     * @return the formatted statistics
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "count=%d mean=%.3f p50=%.3f p90=%.3f p99=%.3f p999=%.3f max=%.3f ms",
+                count, mean / NANOS_PER_MILLI, p50 / NANOS_PER_MILLI, p90 / NANOS_PER_MILLI,
+                p99 / NANOS_PER_MILLI, p999 / NANOS_PER_MILLI, max / NANOS_PER_MILLI);
+    }
+}
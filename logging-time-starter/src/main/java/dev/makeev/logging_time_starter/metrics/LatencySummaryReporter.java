@@ -0,0 +1,60 @@
+package dev.makeev.logging_time_starter.metrics;
+
+import dev.makeev.logging_time_starter.out.Output;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically writes the latency statistics of the methods called since the previous summary,
+ * one line per method.
+ */
+public class LatencySummaryReporter implements AutoCloseable {
+
+    private final LatencyRegistry registry;
+    private final Output<String> output;
+    private final Map<String, Long> reportedCounts = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public LatencySummaryReporter(LatencyRegistry registry, Output<String> output, Duration interval) {
+        this.registry = registry;
+        this.output = output;
+        if (interval.isZero() || interval.isNegative()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        this.scheduler.scheduleAtFixedRate(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the statistics of every method whose number of calls changed since the previous summary.
+     */
+    public synchronized void report() {
+        registry.snapshots().forEach((name, snapshot) -> {
+            Long reportedCount = reportedCounts.put(name, snapshot.count());
+            if (reportedCount == null || reportedCount != snapshot.count()) {
+                output.output("Latency of " + name + ": " + snapshot);
+            }
+        });
+    }
+
+    /**
+     * Stops the periodic summary.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.makeev.logging_time_starter.out;
+
+import dev.makeev.logging_time_starter.config.LoggingTimeProperties.OutputSettings;
+import dev.makeev.logging_time_starter.out.implementation.ConsoleOutput;
+import dev.makeev.logging_time_starter.out.implementation.MappedFileOutput;
+import dev.makeev.logging_time_starter.out.implementation.RingBufferOutput;
+
+import java.nio.file.Path;
+
+/**
+ * Creates the {@link Output} of the timing information from its settings.
+ */
+public final class OutputFactory {
+
+    private OutputFactory() {
+    }
+
+    /**
+     * Creates the output selected by the settings, wrapped into a {@link RingBufferOutput} if it is asynchronous.
+     *
+     * @param settings the settings of the output
+     * @return the output
+     */
+    public static Output<String> create(OutputSettings settings) {
+        Output<String> sink = switch (settings.sink()) {
+            case CONSOLE -> new ConsoleOutput();
+            case MAPPED_FILE -> new MappedFileOutput(Path.of(settings.file()),
+                    Math.toIntExact(settings.fileSize().toBytes()), settings.maxFiles());
+        };
+        return settings.async() ? new RingBufferOutput(sink, settings.ringBufferSize()) : sink;
+    }
+}
@@ -0,0 +1,125 @@
+package dev.makeev.logging_time_starter.out.implementation;
+
+import dev.makeev.logging_time_starter.out.Output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An implementation of the {@link Output} interface writing lines into rolling memory-mapped files.
+ * <p>
+ * A line is copied into the mapped segment without a system call; the operating system writes
+ * the pages to disk. When a segment is full, the next one is mapped; after {@code maxFiles} segments
+ * the oldest one is overwritten. Segments of {@code logs/timing.log} are named
+ * {@code logs/timing.0.log}, {@code logs/timing.1.log} and so on.
+ * <p>
+ * Writers are serialized with a {@link ReentrantLock} rather than a monitor, so that a virtual thread
+ * rolling a segment does not pin its carrier thread.
+ */
+public class MappedFileOutput implements Output<String>, AutoCloseable {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final Path directory;
+    private final String baseName;
+    private final String extension;
+    private final int segmentSize;
+    private final int maxFiles;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int segmentIndex = -1;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Creates the output and maps its first segment.
+     *
+     * @param file        the path of the log file, segments are numbered
+     * @param segmentSize the size of one segment in bytes
+     * @param maxFiles    the number of segments to keep
+     */
+    public MappedFileOutput(Path file, int segmentSize, int maxFiles) {
+        if (segmentSize <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("Segment size and number of files must be positive");
+        }
+        Path absoluteFile = file.toAbsolutePath();
+        String fileName = absoluteFile.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.directory = absoluteFile.getParent();
+        this.baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        this.extension = dot > 0 ? fileName.substring(dot) : "";
+        this.segmentSize = segmentSize;
+        this.maxFiles = maxFiles;
+        roll();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void output(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, segmentSize - 1);
+        lock.lock();
+        try {
+            if (buffer == null) {
+                return;
+            }
+            if (buffer.remaining() < length + 1) {
+                roll();
+            }
+            buffer.put(bytes, 0, length);
+            buffer.put(NEW_LINE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the current segment, cutting it to the written length.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            releaseSegment();
+            buffer = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() {
+        releaseSegment();
+        segmentIndex = (segmentIndex + 1) % maxFiles;
+        Path segment = directory.resolve(baseName + "." + segmentIndex + extension);
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map timing log " + segment, e);
+        }
+    }
+
+    private void releaseSegment() {
+        if (channel == null) {
+            return;
+        }
+        int written = buffer.position();
+        buffer.force();
+        try (FileChannel releasedChannel = channel) {
+            releasedChannel.truncate(written);
+        } catch (IOException e) {
+            System.err.println("Error closing timing log: " + e.getMessage());
+        }
+        channel = null;
+    }
+}
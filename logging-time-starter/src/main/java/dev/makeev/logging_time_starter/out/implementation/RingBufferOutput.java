@@ -0,0 +1,123 @@
+package dev.makeev.logging_time_starter.out.implementation;
+
+import dev.makeev.logging_time_starter.out.Output;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An implementation of the {@link Output} interface handing lines to another output on a background thread.
+ * <p>
+ * Lines are put into a preallocated ring buffer which any number of threads write to without locks,
+ * and a single consumer thread passes them to the delegate in order. A caller never waits:
+ * while the buffer is full, lines are dropped and counted.
+ */
+public class RingBufferOutput implements Output<String>, AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final Output<String> delegate;
+    private final int mask;
+    private final String[] lines;
+    private final AtomicLongArray publishedSequences;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+    private volatile long consumedSequence;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the buffer and starts its consumer thread.
+     *
+     * @param delegate the output the lines are passed to
+     * @param size     the number of lines the buffer holds, rounded up to a power of two
+     */
+    public RingBufferOutput(Output<String> delegate, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Ring buffer size must be positive");
+        }
+        int capacity = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+        this.delegate = delegate;
+        this.mask = capacity - 1;
+        this.lines = new String[capacity];
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            publishedSequences.set(i, -1L);
+        }
+        this.consumer = new Thread(this::consume, "logging-time-output");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * {@inheritdoc}
+     */
+    @Override
+    public void output(String s) {
+        long sequence;
+        do {
+            sequence = nextSequence.get();
+            if (!running || sequence - consumedSequence > mask) {
+                dropped.increment();
+                return;
+            }
+        } while (!nextSequence.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & mask;
+        lines[index] = s;
+        publishedSequences.set(index, sequence);
+    }
+
+    /**
+     * Returns the number of lines dropped because the buffer was full.
+     *
+     * @return the number of dropped lines
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting lines and waits until the consumer has passed on the buffered ones.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                System.err.println("Error closing timing output: " + e.getMessage());
+            }
+        }
+    }
+
+    private void consume() {
+        long sequence = 0L;
+        while (true) {
+            int index = (int) sequence & mask;
+            if (publishedSequences.get(index) == sequence) {
+                String line = lines[index];
+                lines[index] = null;
+                try {
+                    delegate.output(line);
+                } catch (RuntimeException e) {
+                    System.err.println("Error writing timing output: " + e.getMessage());
+                }
+                consumedSequence = ++sequence;
+            } else if (!running && nextSequence.get() == sequence) {
+                return;
+            } else {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.makeev.logging_time_starter.advice;
+
+import dev.makeev.logging_time_starter.metrics.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpanStack Test")
+class SpanStackTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SpanStack spanStack = new SpanStack();
+
+    @Test
+    @DisplayName("SpanStack test: Format - Should write nested calls as an indented tree")
+    void format_shouldWriteNestedCallsAsTree() {
+        spanStack.enter(true);
+        int controller = spanStack.open(method("Controller.get"), 0L);
+        spanStack.enter(true);
+        int service = spanStack.open(method("Service.get"), MILLIS);
+        spanStack.enter(true);
+        int dao = spanStack.open(method("Dao.get"), 2 * MILLIS);
+
+        assertThat(spanStack.depth()).isEqualTo(3);
+        assertThat(spanStack.close(dao, 2 * MILLIS, 3 * MILLIS)).isEqualTo(MILLIS);
+        spanStack.exit();
+        spanStack.close(service, MILLIS, 4 * MILLIS);
+        spanStack.exit();
+        spanStack.enter(true);
+        int mapper = spanStack.open(method("Mapper.map"), 5 * MILLIS);
+        spanStack.close(mapper, 5 * MILLIS, 6 * MILLIS);
+        spanStack.exit();
+        spanStack.close(controller, 0L, 10 * MILLIS);
+
+        assertThat(spanStack.format()).isEqualTo("""
+                Controller.get: 10.000 ms
+                  Service.get: 3.000 ms (+1.000 ms)
+                    Dao.get: 1.000 ms (+1.000 ms)
+                  Mapper.map: 1.000 ms (+5.000 ms)""");
+
+        spanStack.exit();
+
+        assertThat(spanStack.depth()).isZero();
+        assertThat(spanStack.isTracing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("SpanStack test: Enter - Should start a new tree for the next outermost call")
+    void enter_shouldStartNewTreeForOutermostCall() {
+        spanStack.enter(true);
+        spanStack.close(spanStack.open(method("First.call"), 0L), 0L, MILLIS);
+        spanStack.exit();
+
+        spanStack.enter(false);
+
+        assertThat(spanStack.isTracing()).isFalse();
+        spanStack.enter(true);
+        assertThat(spanStack.isTracing()).isFalse();
+        spanStack.exit();
+
+        spanStack.close(spanStack.open(method("Second.call"), 0L), 0L, 2 * MILLIS);
+
+        assertThat(spanStack.format()).isEqualTo("Second.call: 2.000 ms");
+        spanStack.exit();
+    }
+
+    @Test
+    @DisplayName("SpanStack test: Open - Should leave calls beyond the maximum out of the tree")
+    void open_shouldSkipSpansBeyondMax() {
+        spanStack.enter(true);
+        int root = spanStack.open(method("Root.call"), 0L);
+        for (int i = 1; i < SpanStack.MAX_SPANS; i++) {
+            spanStack.close(spanStack.open(method("Child.call"), i), i, i + 1);
+        }
+
+        int skipped = spanStack.open(method("Skipped.call"), MILLIS);
+
+        assertThat(skipped).isEqualTo(SpanStack.NOT_RECORDED);
+        assertThat(spanStack.close(skipped, MILLIS, 3 * MILLIS)).isEqualTo(2 * MILLIS);
+
+        spanStack.close(spanStack.open(method("Skipped.call"), MILLIS), MILLIS, 2 * MILLIS);
+        spanStack.close(root, 0L, 5 * MILLIS);
+
+        String[] lines = spanStack.format().split("\n");
+        assertThat(lines).hasSize(SpanStack.MAX_SPANS + 1);
+        assertThat(lines[0]).isEqualTo("Root.call: 5.000 ms");
+        assertThat(lines[SpanStack.MAX_SPANS - 1]).startsWith("  Child.call: ");
+        assertThat(lines[SpanStack.MAX_SPANS]).isEqualTo("... 2 more calls");
+        spanStack.exit();
+    }
+
+    private static TimedMethod method(String name) {
+        return new TimedMethod(name, new LatencyHistogram(), null, true);
+    }
+}
@@ -0,0 +1,113 @@
+package dev.makeev.logging_time_starter.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LatencyHistogram Test")
+class LatencyHistogramTest {
+
+    private static final int NUMBER_OF_VALUES = 100_000;
+
+    @Test
+    @DisplayName("LatencyHistogram test: Index Of - Should give each value below 64 ns its own bucket")
+    void indexOf_shouldGiveEachSmallValueItsOwnBucket() {
+        for (int value = 0; value < 64; value++) {
+            assertThat(LatencyHistogram.indexOf(value)).isEqualTo(value);
+            assertThat(LatencyHistogram.highestValueOf(value)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Index Of - Should split buckets at 64 ns")
+    void indexOf_shouldSplitBucketsAt64() {
+        assertThat(LatencyHistogram.indexOf(63)).isEqualTo(63);
+        assertThat(LatencyHistogram.indexOf(64)).isEqualTo(64);
+        assertThat(LatencyHistogram.indexOf(65)).isEqualTo(64);
+        assertThat(LatencyHistogram.indexOf(66)).isEqualTo(65);
+        assertThat(LatencyHistogram.highestValueOf(64)).isEqualTo(65);
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Index Of - Should keep Long.MAX_VALUE in the last bucket")
+    void indexOf_shouldKeepMaxValueInLastBucket() {
+        int lastIndex = LatencyHistogram.indexOf(Long.MAX_VALUE);
+
+        assertThat(LatencyHistogram.highestValueOf(lastIndex)).isEqualTo(Long.MAX_VALUE);
+        assertThat(LatencyHistogram.highestValueOf(lastIndex - 1)).isLessThan(Long.MAX_VALUE);
+        assertThat(LatencyHistogram.indexOf(LatencyHistogram.highestValueOf(lastIndex - 1) + 1)).isEqualTo(lastIndex);
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Highest Value Of - Should bound every bucket with relative error of 1/32")
+    void highestValueOf_shouldBoundBucketsWithRelativeError() {
+        int lastIndex = LatencyHistogram.indexOf(Long.MAX_VALUE);
+        for (int index = 0; index < lastIndex; index++) {
+            long highestValue = LatencyHistogram.highestValueOf(index);
+
+            assertThat(LatencyHistogram.indexOf(highestValue)).isEqualTo(index);
+            assertThat(LatencyHistogram.indexOf(highestValue + 1)).isEqualTo(index + 1);
+            if (index > 0) {
+                long lowestValue = LatencyHistogram.highestValueOf(index - 1) + 1;
+                assertThat(highestValue - lowestValue).isLessThanOrEqualTo(lowestValue / 32);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Snapshot - Should report percentiles within bucket precision")
+    void snapshot_shouldReportPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= NUMBER_OF_VALUES; value++) {
+            histogram.record(value);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(NUMBER_OF_VALUES);
+        assertThat(snapshot.mean()).isEqualTo(NUMBER_OF_VALUES / 2);
+        assertThat(snapshot.max()).isEqualTo(NUMBER_OF_VALUES);
+        assertWithinPrecision(snapshot.p50(), 50_000L);
+        assertWithinPrecision(snapshot.p90(), 90_000L);
+        assertWithinPrecision(snapshot.p99(), 99_000L);
+        assertWithinPrecision(snapshot.p999(), 99_900L);
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Snapshot - Should report recorded maximum instead of bucket bound")
+    void snapshot_shouldCapPercentilesAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(1_000_000L);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.p50()).isBetween(1_000_000L, 1_000_000L + 1_000_000L / 32);
+        assertThat(snapshot.p99()).isEqualTo(Long.MAX_VALUE);
+        assertThat(snapshot.max()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Record - Should record negative latency as zero")
+    void record_shouldRecordNegativeValueAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.p50()).isZero();
+        assertThat(snapshot.max()).isZero();
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram test: Snapshot - Should report zeros when nothing was recorded")
+    void snapshot_shouldReportZerosWhenEmpty() {
+        assertThat(new LatencyHistogram().snapshot()).isEqualTo(new LatencySnapshot(0L, 0L, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    private static void assertWithinPrecision(long reported, long expected) {
+        assertThat(reported).isBetween(expected, expected + expected / 32);
+    }
+}
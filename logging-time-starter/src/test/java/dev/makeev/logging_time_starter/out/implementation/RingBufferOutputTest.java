@@ -0,0 +1,127 @@
+package dev.makeev.logging_time_starter.out.implementation;
+
+import dev.makeev.logging_time_starter.out.Output;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RingBufferOutput Test")
+class RingBufferOutputTest {
+
+    private static final int SIZE = 4;
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("RingBufferOutput test: Output - Should pass on lines in order after the ring wraps")
+    void output_shouldPassOnLinesInOrderAfterWrap() {
+        RingBufferOutput ringBufferOutput = new RingBufferOutput(received::add, SIZE);
+        List<String> expected = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < SIZE; i++) {
+                String line = "line " + expected.size();
+                ringBufferOutput.output(line);
+                expected.add(line);
+            }
+            awaitUntil(() -> received.size() == expected.size());
+        }
+
+        ringBufferOutput.close();
+
+        assertThat(received).containsExactlyElementsOf(expected);
+        assertThat(ringBufferOutput.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("RingBufferOutput test: Output - Should drop lines while the buffer is full")
+    void output_shouldDropLinesWhileFull() {
+        CountDownLatch delegateReleased = new CountDownLatch(1);
+        RingBufferOutput ringBufferOutput = new RingBufferOutput(line -> {
+            received.add(line);
+            await(delegateReleased);
+        }, SIZE);
+
+        for (int i = 0; i < SIZE + 2; i++) {
+            ringBufferOutput.output("line " + i);
+        }
+
+        assertThat(ringBufferOutput.dropped()).isEqualTo(2);
+
+        delegateReleased.countDown();
+        ringBufferOutput.close();
+
+        assertThat(received).containsExactly("line 0", "line 1", "line 2", "line 3");
+    }
+
+    @Test
+    @DisplayName("RingBufferOutput test: Create - Should round size up to a power of two")
+    void create_shouldRoundSizeUpToPowerOfTwo() {
+        CountDownLatch delegateReleased = new CountDownLatch(1);
+        RingBufferOutput ringBufferOutput = new RingBufferOutput(line -> await(delegateReleased), SIZE - 1);
+
+        for (int i = 0; i < SIZE + 1; i++) {
+            ringBufferOutput.output("line " + i);
+        }
+
+        assertThat(ringBufferOutput.dropped()).isEqualTo(1);
+
+        delegateReleased.countDown();
+        ringBufferOutput.close();
+    }
+
+    @Test
+    @DisplayName("RingBufferOutput test: Close - Should drop lines after close and close the delegate")
+    void close_shouldDropLinesAfterCloseAndCloseDelegate() {
+        ClosableOutput delegate = new ClosableOutput();
+        RingBufferOutput ringBufferOutput = new RingBufferOutput(delegate, SIZE);
+        ringBufferOutput.output("line 0");
+
+        ringBufferOutput.close();
+        ringBufferOutput.output("line 1");
+
+        assertThat(received).containsExactly("line 0");
+        assertThat(ringBufferOutput.dropped()).isEqualTo(1);
+        assertThat(delegate.closed).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met in %s", WAIT_TIMEOUT).isNegative();
+            Thread.onSpinWait();
+        }
+    }
+
+    private class ClosableOutput implements Output<String>, AutoCloseable {
+
+        private volatile boolean closed;
+
+        @Override
+        public void output(String s) {
+            received.add(s);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package dev.makeev.logging_to_db_starter.advice;
 
 import dev.makeev.logging_to_db_starter.advice.annotations.LoggingToDb;
+import dev.makeev.logging_to_db_starter.model.LogRecord;
 import dev.makeev.logging_to_db_starter.service.LogService;
+import dev.makeev.logging_to_db_starter.writer.AsyncLogWriter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.aop.AfterReturningAdvice;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
@@ -9,18 +12,23 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
 import java.lang.reflect.Method;
+import java.time.LocalDateTime;
 
 /**
  * Advice for logging method actions to the database.
  * This interceptor is triggered by methods annotated with {@link LoggingToDb}.
+ * Actions are handed to the {@link AsyncLogWriter} if it is enabled, otherwise they are stored
+ * on the calling thread.
  */
 @AutoConfiguration
 public class LoggingToDbAdvice implements AfterReturningAdvice {
 
     private final LogService logService;
+    private final AsyncLogWriter asyncLogWriter;
 
-    public LoggingToDbAdvice(LogService logService) {
+    public LoggingToDbAdvice(LogService logService, ObjectProvider<AsyncLogWriter> asyncLogWriter) {
         this.logService = logService;
+        this.asyncLogWriter = asyncLogWriter.getIfAvailable();
     }
 
     /**
@@ -57,10 +65,14 @@ public class LoggingToDbAdvice implements AfterReturningAdvice {
             case "checkCredentials" -> methodName = "Login in.";
             case "logOut" -> methodName = "Login out.";
             case "addBooking" -> methodName = "Add new booking " + args[1].toString();
-            case "getAllBookingsForUser" -> methodName = "Looked at a bookings.";
+            case "getAllBookingsForUser", "forEachBookingForUser" -> methodName = "Looked at a bookings.";
             case "deleteBookingById" -> methodName = "Cancelled a booking with ID: " + args[1].toString();
         }
 
-        logService.addLog(loginArg, methodName);
+        if (asyncLogWriter != null) {
+            asyncLogWriter.submit(new LogRecord(LocalDateTime.now(), loginArg, methodName));
+        } else {
+            logService.addLog(loginArg, methodName);
+        }
     }
 }
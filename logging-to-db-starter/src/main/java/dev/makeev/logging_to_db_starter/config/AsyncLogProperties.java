@@ -0,0 +1,26 @@
+package dev.makeev.logging_to_db_starter.config;
+
+import dev.makeev.logging_to_db_starter.writer.OverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the asynchronous log writer.
+ *
+ * @param enabled         whether actions are stored by a background writer instead of the calling thread
+ * @param capacity        the maximum number of actions waiting to be stored
+ * @param batchSize       the maximum number of actions stored in one batch
+ * @param flushInterval   the maximum time an action waits before a batch smaller than {@code batchSize} is stored
+ * @param overflowPolicy  what to do with an action when the queue is full
+ * @param shutdownTimeout the maximum time to wait for the queue to be stored on shutdown
+ */
+@ConfigurationProperties("logging-to-db.async")
+public record AsyncLogProperties(@DefaultValue("false") boolean enabled,
+                                 @DefaultValue("10000") int capacity,
+                                 @DefaultValue("100") int batchSize,
+                                 @DefaultValue("200ms") Duration flushInterval,
+                                 @DefaultValue("BLOCK") OverflowPolicy overflowPolicy,
+                                 @DefaultValue("5s") Duration shutdownTimeout) {
+}
@@ -0,0 +1,39 @@
+package dev.makeev.logging_to_db_starter.config;
+
+import dev.makeev.logging_to_db_starter.advice.LoggingToDbAdvice;
+import dev.makeev.logging_to_db_starter.service.LogService;
+import dev.makeev.logging_to_db_starter.writer.AsyncLogWriter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Creates the {@link AsyncLogWriter} when {@code logging-to-db.async.enabled} is set to {@code true}.
+ * The writer is closed with the application context, storing the queued actions.
+ * Like the servlet container, the writer runs on a virtual thread when {@code spring.threads.virtual.enabled}
+ * is set to {@code true} on Java 21 or later.
+ */
+@AutoConfiguration(before = LoggingToDbAdvice.class)
+@EnableConfigurationProperties(AsyncLogProperties.class)
+@ConditionalOnProperty(prefix = "logging-to-db.async", name = "enabled", havingValue = "true")
+public class AsyncLogWriterConfiguration {
+
+    private static final String WRITER_THREAD_NAME = "log-writer-";
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public AsyncLogWriter asyncLogWriter(LogService logService, AsyncLogProperties properties) {
+        return new AsyncLogWriter(logService, properties);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public AsyncLogWriter virtualThreadAsyncLogWriter(LogService logService, AsyncLogProperties properties) {
+        return new AsyncLogWriter(logService, properties,
+                new VirtualThreadTaskExecutor(WRITER_THREAD_NAME).getVirtualThreadFactory());
+    }
+}
@@ -0,0 +1,15 @@
+package dev.makeev.logging_to_db_starter.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an action of a user to be stored in the log.
+ *
+ * @param timestamp  the time of the action
+ * @param loginArg   the login of the user
+ * @param methodName the description of the action
+ */
+public record LogRecord(LocalDateTime timestamp,
+                        String loginArg,
+                        String methodName) {
+}
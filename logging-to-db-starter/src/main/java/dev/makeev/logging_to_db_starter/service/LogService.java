@@ -1,5 +1,20 @@
 package dev.makeev.logging_to_db_starter.service;
 
+import dev.makeev.logging_to_db_starter.model.LogRecord;
+
+import java.util.List;
+
 public interface LogService {
     void addLog(String loginArg, String methodName);
-}
\ No newline at end of file
+
+    /**
+     * Stores several actions at once. Used by the asynchronous writer to flush a batch,
+     * so implementations should store the whole list in one round trip.
+     * The default implementation stores the actions one by one.
+     *
+     * @param logRecords the actions to store
+     */
+    default void addLogs(List<LogRecord> logRecords) {
+        logRecords.forEach(logRecord -> addLog(logRecord.loginArg(), logRecord.methodName()));
+    }
+}
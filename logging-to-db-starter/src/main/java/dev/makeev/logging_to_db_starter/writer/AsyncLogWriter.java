@@ -0,0 +1,275 @@
+package dev.makeev.logging_to_db_starter.writer;
+
+import dev.makeev.logging_to_db_starter.config.AsyncLogProperties;
+import dev.makeev.logging_to_db_starter.model.LogRecord;
+import dev.makeev.logging_to_db_starter.service.LogService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Stores logged actions on a background thread, so that the calling thread does not wait for the database.
+ * <p>
+ * Actions are put into a bounded lock-free queue. The writer thread stores them with
+ * {@link LogService#addLogs(List)} in batches of up to {@code batchSize} actions, as soon as a batch is full
+ * or at the latest after {@code flushInterval}. When the queue is full the {@link OverflowPolicy} applies.
+ * On {@link #close()} the queue is stored before the writer stops; actions logged after that
+ * are stored on the calling thread.
+ * <p>
+ * The writer waits with {@link LockSupport} and holds no monitor, so it runs on a platform or a virtual thread
+ * created by the given {@link ThreadFactory}.
+ */
+public class AsyncLogWriter implements AutoCloseable {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final LogService logService;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private volatile long lastLagNanos;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncLogWriter(LogService logService, AsyncLogProperties properties) {
+        this(logService, properties, runnable -> {
+            Thread thread = new Thread(runnable, "log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates the writer and starts its thread.
+     *
+     * @param logService    where the actions are stored
+     * @param properties    the settings of the writer
+     * @param threadFactory creates the thread of the writer
+     */
+    public AsyncLogWriter(LogService logService, AsyncLogProperties properties, ThreadFactory threadFactory) {
+        if (properties.capacity() <= 0 || properties.batchSize() <= 0) {
+            throw new IllegalArgumentException("logging-to-db.async capacity and batch-size must be positive");
+        }
+        this.logService = logService;
+        this.capacity = properties.capacity();
+        this.batchSize = Math.min(properties.batchSize(), properties.capacity());
+        this.flushIntervalNanos = properties.flushInterval().toNanos();
+        this.shutdownTimeoutMillis = properties.shutdownTimeout().toMillis();
+        this.overflowPolicy = properties.overflowPolicy();
+        this.writer = threadFactory.newThread(this::run);
+        this.writer.start();
+    }
+
+    /**
+     * Queues an action to be stored by the writer thread.
+     *
+     * @param logRecord the action to store
+     */
+    public void submit(LogRecord logRecord) {
+        if (!running) {
+            write(List.of(logRecord), System.nanoTime());
+            return;
+        }
+        if (!tryReserve()) {
+            switch (overflowPolicy) {
+                case DROP -> {
+                    dropped.increment();
+                    return;
+                }
+                case CALLER_RUNS -> {
+                    callerRuns.increment();
+                    write(List.of(logRecord), System.nanoTime());
+                    return;
+                }
+                case BLOCK -> {
+                    if (!awaitRoom()) {
+                        write(List.of(logRecord), System.nanoTime());
+                        return;
+                    }
+                }
+            }
+        }
+        queue.offer(new Entry(logRecord, System.nanoTime()));
+        if (!running) {
+            drain();
+        } else if (size.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Returns the number of actions waiting to be stored.
+     *
+     * @return the size of the queue
+     */
+    public int pending() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of actions stored so far.
+     *
+     * @return the number of stored actions
+     */
+    public long written() {
+        return written.sum();
+    }
+
+    /**
+     * Returns the number of actions discarded because the queue was full.
+     *
+     * @return the number of dropped actions
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of actions stored on the calling thread because the queue was full.
+     *
+     * @return the number of actions stored by callers
+     */
+    public long callerRuns() {
+        return callerRuns.sum();
+    }
+
+    /**
+     * Returns the number of actions lost because storing their batch failed.
+     *
+     * @return the number of failed actions
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns how long the oldest action of the last stored batch waited in the queue.
+     *
+     * @return the lag of the last batch
+     */
+    public Duration lastLag() {
+        return Duration.ofNanos(lastLagNanos);
+    }
+
+    /**
+     * Returns the longest time an action waited in the queue.
+     *
+     * @return the maximum lag
+     */
+    public Duration maxLag() {
+        return Duration.ofNanos(maxLagNanos.get());
+    }
+
+    /**
+     * Stops the writer thread after storing the queued actions, waiting at most {@code shutdownTimeout}.
+     * Actions still queued after the timeout are stored on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    private void run() {
+        while (running) {
+            if (size.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain();
+        }
+        drain();
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits for room in the queue, waking up the writer meanwhile.
+     *
+     * @return true if room was reserved, false if the writer stopped
+     */
+    private boolean awaitRoom() {
+        while (!tryReserve()) {
+            if (!running) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        long oldestEnqueuedAt = 0L;
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            if (batch.isEmpty()) {
+                oldestEnqueuedAt = entry.enqueuedAt();
+            }
+            batch.add(entry.logRecord());
+            if (batch.size() == batchSize) {
+                write(batch, oldestEnqueuedAt);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch, oldestEnqueuedAt);
+        }
+    }
+
+    private void write(List<LogRecord> batch, long oldestEnqueuedAt) {
+        long lag = System.nanoTime() - oldestEnqueuedAt;
+        lastLagNanos = lag;
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        try {
+            logService.addLogs(batch);
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            System.err.println("Error storing " + batch.size() + " log records: " + e.getMessage());
+        }
+    }
+
+    private record Entry(LogRecord logRecord, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.makeev.logging_to_db_starter.writer;
+
+/**
+ * What the {@link AsyncLogWriter} does with a record when its queue is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Waits until the writer frees room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * Discards the record and counts it as dropped.
+     */
+    DROP,
+
+    /**
+     * Stores the record synchronously on the calling thread.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,173 @@
+package dev.makeev.logging_to_db_starter.writer;
+
+import dev.makeev.logging_to_db_starter.config.AsyncLogProperties;
+import dev.makeev.logging_to_db_starter.model.LogRecord;
+import dev.makeev.logging_to_db_starter.service.LogService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AsyncLogWriter Test")
+class AsyncLogWriterTest {
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofHours(1);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Creates a writer thread that stops at once, so queued actions stay queued until the writer is closed.
+     */
+    private static final ThreadFactory STOPPED_WRITER = runnable -> new Thread(() -> {
+    });
+
+    private final List<String> stored = new CopyOnWriteArrayList<>();
+    private final LogService logService = (loginArg, methodName) -> stored.add(methodName);
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Submit - Should drop action when queue is full with DROP policy")
+    void submit_shouldDropActionWhenQueueIsFull() {
+        AsyncLogWriter writer = newWriter(logService, 2, 1, OverflowPolicy.DROP, STOPPED_WRITER);
+
+        writer.submit(logRecord("first"));
+        writer.submit(logRecord("second"));
+        writer.submit(logRecord("third"));
+
+        assertThat(writer.pending()).isEqualTo(2);
+        assertThat(writer.dropped()).isEqualTo(1);
+        assertThat(stored).isEmpty();
+
+        writer.close();
+
+        assertThat(stored).containsExactly("first", "second");
+        assertThat(writer.written()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Submit - Should store action on calling thread when queue is full with CALLER_RUNS policy")
+    void submit_shouldStoreActionOnCallerWhenQueueIsFull() {
+        AsyncLogWriter writer = newWriter(logService, 1, 1, OverflowPolicy.CALLER_RUNS, STOPPED_WRITER);
+
+        writer.submit(logRecord("first"));
+        writer.submit(logRecord("second"));
+
+        assertThat(stored).containsExactly("second");
+        assertThat(writer.pending()).isEqualTo(1);
+        assertThat(writer.callerRuns()).isEqualTo(1);
+        assertThat(writer.dropped()).isZero();
+
+        writer.close();
+
+        assertThat(stored).containsExactly("second", "first");
+        assertThat(writer.written()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Submit - Should wait for room when queue is full with BLOCK policy")
+    void submit_shouldWaitForRoomWhenQueueIsFull() throws InterruptedException {
+        AsyncLogWriter writer = newWriter(logService, 1, 1, OverflowPolicy.BLOCK, STOPPED_WRITER);
+        writer.submit(logRecord("first"));
+
+        Thread caller = new Thread(() -> writer.submit(logRecord("second")));
+        caller.start();
+        caller.join(100);
+
+        assertThat(caller.isAlive()).isTrue();
+        assertThat(stored).isEmpty();
+
+        writer.close();
+        caller.join(WAIT_TIMEOUT.toMillis());
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(stored).containsExactlyInAnyOrder("first", "second");
+        assertThat(writer.written()).isEqualTo(2);
+        assertThat(writer.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Submit - Should store full batch without waiting for flush interval")
+    void submit_shouldStoreFullBatch() {
+        AsyncLogWriter writer = newWriter(logService, 10, 2, OverflowPolicy.BLOCK, Thread::new);
+        try {
+            writer.submit(logRecord("first"));
+            writer.submit(logRecord("second"));
+
+            awaitUntil(() -> writer.written() == 2);
+
+            assertThat(stored).containsExactly("first", "second");
+            assertThat(writer.pending()).isZero();
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Close - Should store queued actions")
+    void close_shouldStoreQueuedActions() {
+        AsyncLogWriter writer = newWriter(logService, 10, 5, OverflowPolicy.BLOCK, Thread::new);
+        writer.submit(logRecord("first"));
+        writer.submit(logRecord("second"));
+        writer.submit(logRecord("third"));
+
+        writer.close();
+
+        assertThat(stored).containsExactly("first", "second", "third");
+        assertThat(writer.written()).isEqualTo(3);
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Submit - Should store action on calling thread after close")
+    void submit_shouldStoreActionOnCallerAfterClose() {
+        AsyncLogWriter writer = newWriter(logService, 10, 5, OverflowPolicy.DROP, STOPPED_WRITER);
+        writer.close();
+
+        writer.submit(logRecord("first"));
+
+        assertThat(stored).containsExactly("first");
+        assertThat(writer.written()).isEqualTo(1);
+        assertThat(writer.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("AsyncLogWriter test: Close - Should count actions of failed batch")
+    void close_shouldCountFailedActions() {
+        LogService failingLogService = (loginArg, methodName) -> {
+            throw new IllegalStateException("Database is down");
+        };
+        AsyncLogWriter writer = newWriter(failingLogService, 10, 5, OverflowPolicy.BLOCK, STOPPED_WRITER);
+        writer.submit(logRecord("first"));
+        writer.submit(logRecord("second"));
+
+        writer.close();
+
+        assertThat(writer.failed()).isEqualTo(2);
+        assertThat(writer.written()).isZero();
+        assertThat(writer.maxLag()).isGreaterThanOrEqualTo(writer.lastLag());
+    }
+
+    private static AsyncLogWriter newWriter(LogService logService, int capacity, int batchSize,
+                                            OverflowPolicy overflowPolicy, ThreadFactory threadFactory) {
+        return new AsyncLogWriter(logService, new AsyncLogProperties(true, capacity, batchSize,
+                FLUSH_INTERVAL, overflowPolicy, SHUTDOWN_TIMEOUT), threadFactory);
+    }
+
+    private static LogRecord logRecord(String methodName) {
+        return new LogRecord(LocalDateTime.now(), "TestUser", methodName);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("condition not met in %s", WAIT_TIMEOUT).isNegative();
+            Thread.onSpinWait();
+        }
+    }
+}